@@ -0,0 +1,45 @@
+package com.example.appointmentsystembackend.analytics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.appointmentsystembackend.bench.SyntheticData;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class AnalyticsServiceBenchmark {
+	@Param({ "10000", "100000", "1000000" })
+	public int appointments;
+
+	private AnalyticsService analyticsService;
+
+	@Setup
+	public void setUp() {
+		analyticsService = SyntheticData.generate(appointments, 42L).analyticsService();
+	}
+
+	@Benchmark
+	public AdminReportsResponse adminReports() {
+		return analyticsService.getAdminReports("year", "all");
+	}
+
+	@Benchmark
+	public AdminDashboardResponse adminDashboard() {
+		return analyticsService.getAdminDashboard();
+	}
+}
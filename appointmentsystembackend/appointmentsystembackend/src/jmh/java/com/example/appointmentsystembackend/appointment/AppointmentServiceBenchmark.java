@@ -0,0 +1,61 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.appointmentsystembackend.bench.SyntheticData;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
+import com.example.appointmentsystembackend.user.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AppointmentServiceBenchmark {
+	private AppointmentService appointmentService;
+	private Appointment appointment;
+	private ServiceCatalog service;
+	private LocalDate weekday;
+
+	@Setup
+	public void setUp() {
+		SyntheticData data = SyntheticData.generate(10_000, 42L);
+		appointmentService = data.appointmentService();
+		appointment = data.appointments.get(0);
+		service = data.services.get(0);
+		weekday = LocalDate.of(2025, 3, 4);
+	}
+
+	@Benchmark
+	public AppointmentResponse responseMapping() {
+		return AppointmentResponse.from(appointment);
+	}
+
+	// The booking-time availability path: closure check, working hours per eligible staff member
+	// and the least-loaded pick over their booking counts.
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public Optional<User> staffSelection() {
+		return appointmentService.chooseBestStaffForService(service, weekday, LocalTime.of(10, 30));
+	}
+
+	// Only the business-hours rule; it throws on a violation, so there is nothing to consume.
+	@Benchmark
+	public void workingHoursRule() {
+		appointmentService.validateWorkingDayAndHours(weekday, LocalTime.of(10, 30));
+	}
+
+	@Benchmark
+	public String normalizeLabel() {
+		return AppointmentService.normalizeLabel("  Tax Consultation / Annual-Filing  ");
+	}
+}
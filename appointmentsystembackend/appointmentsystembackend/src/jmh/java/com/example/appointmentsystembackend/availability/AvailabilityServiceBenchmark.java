@@ -0,0 +1,57 @@
+package com.example.appointmentsystembackend.availability;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.appointmentsystembackend.bench.SyntheticData;
+
+// 200k appointments gives 100 staff (about a dozen per department); 1M gives 500.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class AvailabilityServiceBenchmark {
+	@Param({ "200000", "1000000" })
+	public int appointments;
+
+	private AvailabilityService availabilityService;
+	private UUID serviceId;
+	private LocalDateTime after;
+
+	@Setup
+	public void setUp() {
+		SyntheticData data = SyntheticData.generate(appointments, 42L);
+		availabilityService = new AvailabilityService(data.appointmentService(), data.appointmentRepository(),
+				data.serviceCatalogRepository(), data.availabilityCache(), data.closureCalendar(),
+				data.settingsService(), 90);
+		serviceId = data.services.get(0).getId();
+		after = LocalDate.now().atTime(LocalTime.of(9, 0));
+	}
+
+	@Benchmark
+	public NextAvailabilityResponse nextFiveSlots() {
+		return availabilityService.nextAvailable(serviceId, after, 5);
+	}
+
+	@Benchmark
+	public NextAvailabilityResponse nextFiftySlots() {
+		return availabilityService.nextAvailable(serviceId, after, 50);
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.appointmentsystembackend.common;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Rows per second into the appointments and notifications tables (with their production indexes)
+// for v4 vs v7 primary keys and row-by-row vs batched statements. Tables keep growing across
+// iterations, so random-key page splits show up as the index outgrows the buffer cache.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InsertThroughputBenchmark {
+	private static final int ROWS = 1_000;
+
+	@Param({ "random-v4", "time-ordered-v7" })
+	public String ids;
+
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	private EmbeddedPostgres postgres;
+	private Connection connection;
+	private UUID clientId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, SQLException {
+		postgres = EmbeddedPostgres.builder().start();
+		Flyway.configure().dataSource(postgres.getPostgresDatabase()).load().migrate();
+		connection = DriverManager.getConnection(
+				postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+		connection.setAutoCommit(false);
+		clientId = TimeOrderedUuid.next();
+		try (PreparedStatement insert = connection.prepareStatement("""
+				INSERT INTO users (id, email, full_name, password, role, active, created_at)
+				VALUES (?, 'bench@bench.test', 'Bench Client', 'x', 'CLIENT', true, now())
+				""")) {
+			insert.setObject(1, clientId);
+			insert.executeUpdate();
+		}
+		connection.commit();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException, SQLException {
+		connection.close();
+		postgres.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void appointments() throws SQLException {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		try (PreparedStatement insert = connection.prepareStatement("""
+				INSERT INTO appointments (id, client_id, appointment_type, date, time, location, status,
+					created_at, updated_at)
+				VALUES (?, ?, 'Tax Consultation', ?, ?, 'Main Office', 'PENDING', ?, ?)
+				""")) {
+			for (int i = 0; i < ROWS; i++) {
+				insert.setObject(1, nextId());
+				insert.setObject(2, clientId);
+				insert.setObject(3, LocalDate.now().plusDays(i % 60));
+				insert.setObject(4, LocalTime.of(8 + i % 9, 0));
+				insert.setTimestamp(5, now);
+				insert.setTimestamp(6, now);
+				write(insert, i);
+			}
+		}
+		connection.commit();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void notifications() throws SQLException {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		try (PreparedStatement insert = connection.prepareStatement("""
+				INSERT INTO notifications (id, user_id, type, title, message, read, created_at, updated_at)
+				VALUES (?, ?, 'INFO', 'Appointment Updated', 'Your appointment status changed.', false, ?, ?)
+				""")) {
+			for (int i = 0; i < ROWS; i++) {
+				insert.setObject(1, nextId());
+				insert.setObject(2, clientId);
+				insert.setTimestamp(3, now);
+				insert.setTimestamp(4, now);
+				write(insert, i);
+			}
+		}
+		connection.commit();
+	}
+
+	private void write(PreparedStatement insert, int row) throws SQLException {
+		if (batchSize <= 1) {
+			insert.executeUpdate();
+			return;
+		}
+		insert.addBatch();
+		if ((row + 1) % batchSize == 0 || row == ROWS - 1) {
+			insert.executeBatch();
+		}
+	}
+
+	private UUID nextId() {
+		return "random-v4".equals(ids) ? UUID.randomUUID() : TimeOrderedUuid.next();
+	}
+}
@@ -0,0 +1,37 @@
+package com.example.appointmentsystembackend.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+	private JwtService jwtService;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtService = new JwtService("benchmark-secret-benchmark-secret-benchmark", 3_600_000L, new ObjectMapper());
+		token = jwtService.generateToken("client@rra.gov.rw");
+	}
+
+	@Benchmark
+	public String sign() {
+		return jwtService.generateToken("client@rra.gov.rw");
+	}
+
+	@Benchmark
+	public boolean verify() {
+		return jwtService.isTokenValid(token, "client@rra.gov.rw");
+	}
+}
@@ -0,0 +1,57 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+final class ApiClient {
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String baseUrl;
+
+	ApiClient(String baseUrl) {
+		this.baseUrl = baseUrl;
+	}
+
+	// Latency is measured from startNanos, which for the open model is the scheduled arrival
+	// time, so queueing delay caused by a slow server is part of the result.
+	JsonNode call(LoadReport report, String endpoint, String method, String path, String token, Object body,
+			long startNanos) {
+		boolean success = false;
+		JsonNode result = null;
+		try {
+			HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+					.timeout(Duration.ofSeconds(30))
+					.header("Accept", "application/json");
+			if (token != null) {
+				request.header("Authorization", "Bearer " + token);
+			}
+			if (body != null) {
+				request.header("Content-Type", "application/json");
+				request.method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+			} else {
+				request.method(method, HttpRequest.BodyPublishers.noBody());
+			}
+			HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+			success = response.statusCode() < 400;
+			if (success && response.body().length > 0) {
+				result = objectMapper.readTree(response.body());
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} catch (Exception ex) {
+			success = false;
+		} finally {
+			report.record(endpoint, System.nanoTime() - startNanos, success);
+		}
+		return result;
+	}
+}
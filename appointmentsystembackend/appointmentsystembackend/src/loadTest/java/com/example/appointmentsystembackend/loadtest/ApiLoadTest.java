@@ -0,0 +1,92 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// End-to-end HTTP load test. Boots the full application on a random port against an embedded
+// PostgreSQL binary (or -Dloadtest.jdbc-url) seeded by the bulk-seed profile, then drives the
+// traffic mix under a closed and an open workload model. Run with ./gradlew loadTest.
+class ApiLoadTest {
+	private static LoadTestSettings settings;
+	private static LoadTestDatabase database;
+	private static LoadTestApplication application;
+
+	@BeforeAll
+	static void startApplication() throws IOException {
+		settings = LoadTestSettings.fromSystemProperties();
+		database = LoadTestDatabase.start(settings);
+		application = LoadTestApplication.start(settings, database, new Class<?>[0]);
+	}
+
+	@AfterAll
+	static void stopApplication() throws IOException {
+		if (application != null) {
+			application.close();
+		}
+		if (database != null) {
+			database.close();
+		}
+	}
+
+	@Test
+	void closedWorkloadMeetsSlo() throws Exception {
+		TrafficMix mix = application.trafficMix();
+		Workloads.closed(mix, new LoadReport("closed-warmup"), settings.users(), settings.thinkMillis(),
+				settings.warmupSeconds());
+		LoadReport report = new LoadReport("closed");
+		Workloads.closed(mix, report, settings.users(), settings.thinkMillis(), settings.durationSeconds());
+		verify(report);
+	}
+
+	@Test
+	void openWorkloadMeetsSlo() throws Exception {
+		TrafficMix mix = application.trafficMix();
+		Workloads.open(mix, new LoadReport("open-warmup"), settings.rate(), settings.openConcurrency(),
+				settings.warmupSeconds());
+		LoadReport report = new LoadReport("open");
+		Workloads.open(mix, report, settings.rate(), settings.openConcurrency(), settings.durationSeconds());
+		verify(report);
+	}
+
+	private void verify(LoadReport report) throws IOException {
+		System.out.print(report.render());
+		report.writeJson(reportFile(report.name()));
+		List<String> violations = report.sloViolations(sloFor(report.name()));
+		assertTrue(violations.isEmpty(), "SLO violations:\n" + String.join("\n", violations));
+	}
+
+	static Path reportFile(String name) {
+		return Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"), name + ".json");
+	}
+
+	// Defaults from loadtest-slo.properties; "<workload>.<key>" overrides the shared "<key>", and
+	// -Dloadtest.slo.<key> overrides both.
+	private static Properties sloFor(String workload) throws IOException {
+		Properties file = new Properties();
+		try (InputStream in = ApiLoadTest.class.getResourceAsStream("/loadtest-slo.properties")) {
+			if (in != null) {
+				file.load(in);
+			}
+		}
+		Properties slo = new Properties();
+		file.stringPropertyNames().stream()
+				.filter(key -> !key.startsWith("closed.") && !key.startsWith("open."))
+				.forEach(key -> slo.setProperty(key, file.getProperty(key)));
+		file.stringPropertyNames().stream()
+				.filter(key -> key.startsWith(workload + "."))
+				.forEach(key -> slo.setProperty(key.substring(workload.length() + 1), file.getProperty(key)));
+		System.getProperties().stringPropertyNames().stream()
+				.filter(key -> key.startsWith("loadtest.slo."))
+				.forEach(key -> slo.setProperty(key.substring("loadtest.slo.".length()), System.getProperty(key)));
+		return slo;
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// Adds loadtest.db-latency-ms of blocking sleep to every SQL statement execution, as a stand-in
+// for a remote or overloaded database. The sleep happens while a pooled connection is held,
+// exactly like a slow query.
+@Configuration(proxyBeanMethods = false)
+class DatabaseLatencyInjection {
+	@Bean
+	static BeanPostProcessor databaseLatencyInjector(Environment environment) {
+		long latencyMillis = environment.getProperty("loadtest.db-latency-ms", Long.class, 0L);
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (latencyMillis > 0 && bean instanceof DataSource dataSource) {
+					return proxy(DataSource.class, dataSource, latencyMillis);
+				}
+				return bean;
+			}
+		};
+	}
+
+	private static <T> T proxy(Class<T> type, T target, long latencyMillis) {
+		InvocationHandler handler = (proxy, method, args) -> {
+			if (type == Statement.class || type == PreparedStatement.class || type == CallableStatement.class) {
+				if (method.getName().startsWith("execute")) {
+					Thread.sleep(latencyMillis);
+				}
+			}
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+			if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+				return proxy(Connection.class, connection, latencyMillis);
+			}
+			if (result instanceof Statement statement && type == Connection.class) {
+				@SuppressWarnings("unchecked")
+				Class<Statement> statementType = (Class<Statement>) method.getReturnType();
+				return proxy(statementType, statement, latencyMillis);
+			}
+			return result;
+		};
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+}
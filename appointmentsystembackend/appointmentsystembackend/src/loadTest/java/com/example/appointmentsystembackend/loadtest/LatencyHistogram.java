@@ -0,0 +1,66 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear histogram over microseconds (~3% precision, up to ~12 days) that many
+// threads can record into without locking.
+final class LatencyHistogram {
+	private static final int LINEAR_BUCKETS = 64;
+	private static final int SUB_BUCKETS = 32;
+	private static final int MAGNITUDES = 35;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(LINEAR_BUCKETS + MAGNITUDES * SUB_BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalMicros = new LongAdder();
+
+	void record(long latencyNanos) {
+		long micros = Math.max(0, latencyNanos / 1_000);
+		buckets.incrementAndGet(indexOf(micros));
+		count.increment();
+		totalMicros.add(micros);
+	}
+
+	long count() {
+		return count.sum();
+	}
+
+	double meanMillis() {
+		long samples = count.sum();
+		return samples == 0 ? 0 : totalMicros.sum() / 1_000.0 / samples;
+	}
+
+	double percentileMillis(double percentile) {
+		long samples = count.sum();
+		if (samples == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(percentile / 100.0 * samples);
+		long seen = 0;
+		for (int i = 0; i < buckets.length(); i++) {
+			seen += buckets.get(i);
+			if (seen >= rank) {
+				return upperBoundMicros(i) / 1_000.0;
+			}
+		}
+		return upperBoundMicros(buckets.length() - 1) / 1_000.0;
+	}
+
+	private static int indexOf(long micros) {
+		if (micros < LINEAR_BUCKETS) {
+			return (int) micros;
+		}
+		int magnitude = Math.min(63 - Long.numberOfLeadingZeros(micros), 6 + MAGNITUDES - 1);
+		int subBucket = (int) ((micros >> (magnitude - 5)) & (SUB_BUCKETS - 1));
+		return LINEAR_BUCKETS + (magnitude - 6) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long upperBoundMicros(int index) {
+		if (index < LINEAR_BUCKETS) {
+			return index;
+		}
+		int magnitude = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 6;
+		int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+		return ((long) (SUB_BUCKETS + subBucket + 1) << (magnitude - 5)) - 1;
+	}
+}
@@ -0,0 +1,136 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+final class LoadReport {
+	private final String name;
+	private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+	private long startedNanos;
+	private long finishedNanos;
+
+	LoadReport(String name) {
+		this.name = name;
+	}
+
+	String name() {
+		return name;
+	}
+
+	void start() {
+		startedNanos = System.nanoTime();
+	}
+
+	void finish() {
+		finishedNanos = System.nanoTime();
+	}
+
+	void record(String endpoint, long latencyNanos, boolean success) {
+		EndpointStats stats = endpoints.computeIfAbsent(endpoint, ignored -> new EndpointStats());
+		stats.latency.record(latencyNanos);
+		if (!success) {
+			stats.errors.increment();
+		}
+	}
+
+	double elapsedSeconds() {
+		long end = finishedNanos == 0 ? System.nanoTime() : finishedNanos;
+		return Math.max(1e-9, (end - startedNanos) / 1e9);
+	}
+
+	long totalRequests() {
+		return endpoints.values().stream().mapToLong(stats -> stats.latency.count()).sum();
+	}
+
+	long totalErrors() {
+		return endpoints.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+	}
+
+	double throughput() {
+		return totalRequests() / elapsedSeconds();
+	}
+
+	String render() {
+		StringBuilder out = new StringBuilder();
+		out.append(String.format("%n=== %s: %d requests in %.1fs, %.1f req/s, %d errors ===%n",
+				name, totalRequests(), elapsedSeconds(), throughput(), totalErrors()));
+		out.append(String.format("%-20s %9s %8s %9s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "errors", "req/s", "mean ms", "p50 ms", "p95 ms", "p99 ms"));
+		new TreeMap<>(endpoints).forEach((endpoint, stats) -> out.append(String.format(
+				"%-20s %9d %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+				endpoint,
+				stats.latency.count(),
+				stats.errors.sum(),
+				stats.latency.count() / elapsedSeconds(),
+				stats.latency.meanMillis(),
+				stats.latency.percentileMillis(50),
+				stats.latency.percentileMillis(95),
+				stats.latency.percentileMillis(99))));
+		return out.toString();
+	}
+
+	void writeJson(Path file) throws IOException {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("workload", name);
+		json.put("durationSeconds", elapsedSeconds());
+		json.put("requests", totalRequests());
+		json.put("errors", totalErrors());
+		json.put("throughput", throughput());
+		Map<String, Object> perEndpoint = new TreeMap<>();
+		endpoints.forEach((endpoint, stats) -> {
+			Map<String, Object> values = new LinkedHashMap<>();
+			values.put("requests", stats.latency.count());
+			values.put("errors", stats.errors.sum());
+			values.put("throughput", stats.latency.count() / elapsedSeconds());
+			values.put("meanMs", stats.latency.meanMillis());
+			values.put("p50Ms", stats.latency.percentileMillis(50));
+			values.put("p95Ms", stats.latency.percentileMillis(95));
+			values.put("p99Ms", stats.latency.percentileMillis(99));
+			perEndpoint.put(endpoint, values);
+		});
+		json.put("endpoints", perEndpoint);
+		Files.createDirectories(file.getParent());
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+	}
+
+	// Keys: <endpoint>.p50-ms / .p95-ms / .p99-ms, max-error-rate, min-throughput.
+	List<String> sloViolations(Properties slo) {
+		List<String> violations = new ArrayList<>();
+		endpoints.forEach((endpoint, stats) -> {
+			for (int percentile : new int[] { 50, 95, 99 }) {
+				String limit = slo.getProperty(endpoint + ".p" + percentile + "-ms");
+				double actual = stats.latency.percentileMillis(percentile);
+				if (limit != null && actual > Double.parseDouble(limit)) {
+					violations.add(String.format("%s %s p%d %.1f ms > %s ms", name, endpoint, percentile, actual, limit));
+				}
+			}
+		});
+		String maxErrorRate = slo.getProperty("max-error-rate");
+		double errorRate = totalRequests() == 0 ? 0 : (double) totalErrors() / totalRequests();
+		if (maxErrorRate != null && errorRate > Double.parseDouble(maxErrorRate)) {
+			violations.add(String.format("%s error rate %.4f > %s", name, errorRate, maxErrorRate));
+		}
+		String minThroughput = slo.getProperty("min-throughput");
+		if (minThroughput != null && throughput() < Double.parseDouble(minThroughput)) {
+			violations.add(String.format("%s throughput %.1f req/s < %s req/s", name, throughput(), minThroughput));
+		}
+		return violations;
+	}
+
+	private static final class EndpointStats {
+		private final LatencyHistogram latency = new LatencyHistogram();
+		private final LongAdder errors = new LongAdder();
+	}
+}
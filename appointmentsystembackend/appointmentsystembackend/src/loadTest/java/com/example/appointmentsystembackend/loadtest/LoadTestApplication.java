@@ -0,0 +1,68 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.appointmentsystembackend.AppointmentsystembackendApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+
+// The application booted on a random port with the bulk-seed profile. The first start seeds the
+// database; later starts against the same database skip seeding.
+final class LoadTestApplication implements AutoCloseable {
+	private final ConfigurableApplicationContext context;
+	private final TrafficMix trafficMix;
+
+	private LoadTestApplication(ConfigurableApplicationContext context, TrafficMix trafficMix) {
+		this.context = context;
+		this.trafficMix = trafficMix;
+	}
+
+	static LoadTestApplication start(LoadTestSettings settings, LoadTestDatabase database, Class<?>[] extraSources,
+			String... extraProperties) {
+		List<String> properties = new ArrayList<>(List.of(
+				"server.port=0",
+				"spring.datasource.url=" + database.jdbcUrl(),
+				"spring.datasource.username=" + settings.jdbcUsername(),
+				"spring.datasource.password=" + settings.jdbcPassword(),
+				"spring.datasource.hikari.maximum-pool-size=32",
+				"app.mail.enabled=false",
+				"app.rate-limit.enabled=false",
+				"app.seed.bulk.appointments=" + settings.appointments(),
+				"app.seed.bulk.clients=" + settings.clients(),
+				"app.seed.bulk.staff=" + settings.staff(),
+				"app.seed.bulk.password=" + settings.password()));
+		properties.addAll(List.of(extraProperties));
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(AppointmentsystembackendApplication.class)
+				.sources(extraSources)
+				.profiles("bulk-seed")
+				.properties(properties.toArray(String[]::new))
+				.run();
+		String port = context.getEnvironment().getProperty("local.server.port");
+		ApiClient api = new ApiClient("http://localhost:" + port);
+
+		LoadReport setup = new LoadReport("setup");
+		JsonNode admin = api.call(setup, "login", "POST", "/api/auth/login", null,
+				Map.of("email", "admin@load.test", "password", settings.password()), System.nanoTime());
+		JsonNode services = api.call(setup, "services", "GET", "/api/services", null, null, System.nanoTime());
+		if (admin == null || services == null || services.isEmpty()) {
+			context.close();
+			throw new IllegalStateException("Load test setup failed: admin login or service listing returned no data");
+		}
+		List<String> serviceIds = new ArrayList<>();
+		services.forEach(service -> serviceIds.add(service.path("id").asText()));
+		return new LoadTestApplication(context, new TrafficMix(api, settings, serviceIds, admin.path("token").asText()));
+	}
+
+	TrafficMix trafficMix() {
+		return trafficMix;
+	}
+
+	@Override
+	public void close() {
+		context.close();
+	}
+}
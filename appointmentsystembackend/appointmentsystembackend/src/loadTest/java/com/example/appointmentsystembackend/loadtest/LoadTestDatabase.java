@@ -0,0 +1,37 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import java.io.IOException;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Embedded PostgreSQL binary unless -Dloadtest.jdbc-url points at an existing database.
+final class LoadTestDatabase implements AutoCloseable {
+	private final EmbeddedPostgres embeddedPostgres;
+	private final String jdbcUrl;
+
+	private LoadTestDatabase(EmbeddedPostgres embeddedPostgres, String jdbcUrl) {
+		this.embeddedPostgres = embeddedPostgres;
+		this.jdbcUrl = jdbcUrl;
+	}
+
+	static LoadTestDatabase start(LoadTestSettings settings) throws IOException {
+		if (!settings.useEmbeddedDatabase()) {
+			return new LoadTestDatabase(null, settings.jdbcUrl());
+		}
+		EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+				.setServerConfig("max_connections", "300")
+				.start();
+		return new LoadTestDatabase(postgres, postgres.getJdbcUrl("postgres", "postgres"));
+	}
+
+	String jdbcUrl() {
+		return jdbcUrl;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (embeddedPostgres != null) {
+			embeddedPostgres.close();
+		}
+	}
+}
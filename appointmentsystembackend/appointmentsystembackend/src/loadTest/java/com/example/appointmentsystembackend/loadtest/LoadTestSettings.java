@@ -0,0 +1,44 @@
+package com.example.appointmentsystembackend.loadtest;
+
+// Run parameters, passed as -Dloadtest.<name>=... (see the loadTest task in build.gradle).
+record LoadTestSettings(
+		String jdbcUrl,
+		String jdbcUsername,
+		String jdbcPassword,
+		int appointments,
+		int clients,
+		int staff,
+		int durationSeconds,
+		int warmupSeconds,
+		int users,
+		int thinkMillis,
+		int rate,
+		int openConcurrency,
+		String password) {
+
+	static LoadTestSettings fromSystemProperties() {
+		return new LoadTestSettings(
+				System.getProperty("loadtest.jdbc-url", ""),
+				System.getProperty("loadtest.jdbc-username", "postgres"),
+				System.getProperty("loadtest.jdbc-password", "postgres"),
+				intProperty("appointments", 100_000),
+				intProperty("clients", 20_000),
+				intProperty("staff", 100),
+				intProperty("duration-seconds", 60),
+				intProperty("warmup-seconds", 10),
+				intProperty("users", 32),
+				intProperty("think-ms", 0),
+				intProperty("rate", 200),
+				intProperty("open-concurrency", 256),
+				System.getProperty("loadtest.password", "loadtest123"));
+	}
+
+	boolean useEmbeddedDatabase() {
+		return jdbcUrl.isBlank();
+	}
+
+	static int intProperty(String name, int defaultValue) {
+		String value = System.getProperty("loadtest." + name);
+		return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+	}
+}
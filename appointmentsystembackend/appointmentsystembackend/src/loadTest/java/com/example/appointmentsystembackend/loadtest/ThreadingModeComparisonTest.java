@@ -0,0 +1,55 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+// Runs the closed workload twice against the same seeded database with slow SQL injected: once
+// on Tomcat's platform thread pool and once with spring.threads.virtual.enabled=true. The
+// connection pool is sized above the Tomcat pool so threads, not connections, are the limit.
+// Run alone with ./gradlew loadTest --tests '*ThreadingModeComparisonTest'.
+class ThreadingModeComparisonTest {
+	@Test
+	void virtualThreadsSustainThroughputUnderSlowIo() throws Exception {
+		LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+		int latencyMillis = LoadTestSettings.intProperty("compare.db-latency-ms", 20);
+		int users = LoadTestSettings.intProperty("compare.users", 400);
+		int tomcatThreads = LoadTestSettings.intProperty("compare.tomcat-threads", 50);
+		int poolSize = LoadTestSettings.intProperty("compare.pool-size", 250);
+		double minRatio = Double.parseDouble(System.getProperty("loadtest.compare.min-ratio", "1.0"));
+
+		LoadReport platform;
+		LoadReport virtual;
+		try (LoadTestDatabase database = LoadTestDatabase.start(settings)) {
+			platform = run(settings, database, false, latencyMillis, users, tomcatThreads, poolSize);
+			virtual = run(settings, database, true, latencyMillis, users, tomcatThreads, poolSize);
+		}
+
+		System.out.print(platform.render());
+		System.out.print(virtual.render());
+		System.out.printf("%nvirtual/platform throughput: %.2fx (%d ms injected per statement, %d users)%n",
+				virtual.throughput() / platform.throughput(), latencyMillis, users);
+		platform.writeJson(ApiLoadTest.reportFile(platform.name()));
+		virtual.writeJson(ApiLoadTest.reportFile(virtual.name()));
+		assertTrue(virtual.throughput() >= platform.throughput() * minRatio,
+				String.format("virtual threads %.1f req/s vs platform threads %.1f req/s",
+						virtual.throughput(), platform.throughput()));
+	}
+
+	private LoadReport run(LoadTestSettings settings, LoadTestDatabase database, boolean virtualThreads,
+			int latencyMillis, int users, int tomcatThreads, int poolSize) throws InterruptedException {
+		String name = virtualThreads ? "threading-virtual" : "threading-platform";
+		try (LoadTestApplication application = LoadTestApplication.start(settings, database,
+				new Class<?>[] { DatabaseLatencyInjection.class },
+				"spring.threads.virtual.enabled=" + virtualThreads,
+				"server.tomcat.threads.max=" + tomcatThreads,
+				"spring.datasource.hikari.maximum-pool-size=" + poolSize,
+				"loadtest.db-latency-ms=" + latencyMillis)) {
+			TrafficMix mix = application.trafficMix();
+			Workloads.closed(mix, new LoadReport(name + "-warmup"), users, 0, settings.warmupSeconds());
+			LoadReport report = new LoadReport(name);
+			Workloads.closed(mix, report, users, 0, settings.durationSeconds());
+			return report;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// Weighted request mix modelled on the frontend: clients mostly poll their appointments and
+// notifications, some book, admins triage new bookings and look at the dashboards.
+final class TrafficMix {
+	private static final String[] STATUSES = { "CONFIRMED", "COMPLETED", "CANCELLED" };
+
+	private final ApiClient api;
+	private final LoadTestSettings settings;
+	private final List<String> serviceIds;
+	private final String adminToken;
+	private final Map<Integer, String> clientTokens = new ConcurrentHashMap<>();
+	private final ConcurrentLinkedQueue<String> bookedIds = new ConcurrentLinkedQueue<>();
+	private final LoadReport untracked = new LoadReport("untracked");
+	private final Operation[] operations;
+	private final int totalWeight;
+
+	TrafficMix(ApiClient api, LoadTestSettings settings, List<String> serviceIds, String adminToken) {
+		this.api = api;
+		this.settings = settings;
+		this.serviceIds = serviceIds;
+		this.adminToken = adminToken;
+		this.operations = new Operation[] {
+				new Operation(5, this::login),
+				new Operation(30, this::listAppointments),
+				new Operation(10, this::book),
+				new Operation(10, this::updateStatus),
+				new Operation(13, this::adminDashboard),
+				new Operation(2, this::adminReports),
+				new Operation(30, this::notifications) };
+		int weight = 0;
+		for (Operation operation : operations) {
+			weight += operation.weight();
+		}
+		this.totalWeight = weight;
+	}
+
+	void next(LoadReport report, long startNanos) {
+		int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Operation operation : operations) {
+			pick -= operation.weight();
+			if (pick < 0) {
+				operation.action().run(report, startNanos);
+				return;
+			}
+		}
+	}
+
+	private void login(LoadReport report, long startNanos) {
+		int client = randomClient();
+		JsonNode response = api.call(report, "login", "POST", "/api/auth/login", null,
+				Map.of("email", "client" + client + "@load.test", "password", settings.password()), startNanos);
+		if (response != null) {
+			clientTokens.put(client, response.path("token").asText());
+		}
+	}
+
+	private void listAppointments(LoadReport report, long startNanos) {
+		api.call(report, "list-appointments", "GET", "/api/appointments", clientToken(), null, startNanos);
+	}
+
+	private void book(LoadReport report, long startNanos) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(60));
+		if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+			date = date.plusDays(2);
+		}
+		LocalTime time = LocalTime.of(8 + random.nextInt(9), random.nextBoolean() ? 0 : 30);
+		JsonNode response = api.call(report, "book", "POST", "/api/appointments", clientToken(),
+				Map.of("serviceId", serviceIds.get(random.nextInt(serviceIds.size())),
+						"date", date.toString(),
+						"time", time.toString(),
+						"notes", "load test"),
+				startNanos);
+		if (response != null) {
+			bookedIds.add(response.path("id").asText());
+		}
+	}
+
+	private void updateStatus(LoadReport report, long startNanos) {
+		String id = bookedIds.poll();
+		if (id == null) {
+			listAppointments(report, startNanos);
+			return;
+		}
+		String status = STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+		api.call(report, "update-status", "PATCH", "/api/appointments/" + id, adminToken,
+				Map.of("status", status), startNanos);
+	}
+
+	private void adminDashboard(LoadReport report, long startNanos) {
+		api.call(report, "admin-dashboard", "GET", "/api/analytics/admin/dashboard", adminToken, null, startNanos);
+	}
+
+	private void adminReports(LoadReport report, long startNanos) {
+		api.call(report, "admin-reports", "GET", "/api/analytics/admin/reports", adminToken, null, startNanos);
+	}
+
+	private void notifications(LoadReport report, long startNanos) {
+		api.call(report, "notifications", "GET", "/api/notifications", clientToken(), null, startNanos);
+	}
+
+	// Reuses a token from an earlier login when one exists. The implicit first login is kept
+	// out of the report so it does not inflate the latency of the request that triggered it.
+	private String clientToken() {
+		int client = randomClient();
+		String token = clientTokens.get(client);
+		if (token != null) {
+			return token;
+		}
+		JsonNode response = api.call(untracked, "login", "POST", "/api/auth/login", null,
+				Map.of("email", "client" + client + "@load.test", "password", settings.password()), System.nanoTime());
+		token = response == null ? null : response.path("token").asText();
+		if (token != null) {
+			clientTokens.put(client, token);
+		}
+		return token;
+	}
+
+	private int randomClient() {
+		// Active users are a small, hot subset of all registered clients.
+		double value = ThreadLocalRandom.current().nextDouble();
+		return (int) (value * value * settings.clients());
+	}
+
+	@FunctionalInterface
+	private interface Action {
+		void run(LoadReport report, long startNanos);
+	}
+
+	private record Operation(int weight, Action action) {
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.appointmentsystembackend.loadtest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+final class Workloads {
+	private Workloads() {
+	}
+
+	// Fixed number of users, each sending its next request only after the previous one completed.
+	static void closed(TrafficMix mix, LoadReport report, int users, int thinkMillis, int seconds)
+			throws InterruptedException {
+		ExecutorService pool = Executors.newFixedThreadPool(users);
+		report.start();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+		for (int i = 0; i < users; i++) {
+			pool.execute(() -> {
+				while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+					mix.next(report, System.nanoTime());
+					if (thinkMillis > 0) {
+						LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(thinkMillis));
+					}
+				}
+			});
+		}
+		pool.shutdown();
+		pool.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+		report.finish();
+	}
+
+	// Requests arrive at a fixed rate regardless of how fast the server answers. Latency is taken
+	// from the scheduled arrival time so a stalled server is not hidden by coordinated omission.
+	static void open(TrafficMix mix, LoadReport report, int rate, int concurrency, int seconds)
+			throws InterruptedException {
+		ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+		long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+		report.start();
+		long start = System.nanoTime();
+		long end = start + TimeUnit.SECONDS.toNanos(seconds);
+		for (long arrival = start; arrival < end; arrival += interval) {
+			long wait = arrival - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			long scheduled = arrival;
+			workers.execute(() -> mix.next(report, scheduled));
+		}
+		workers.shutdown();
+		workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+		report.finish();
+	}
+}
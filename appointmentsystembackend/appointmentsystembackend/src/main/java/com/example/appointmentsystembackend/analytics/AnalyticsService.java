@@ -16,19 +16,19 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.appointmentsystembackend.appointment.Appointment;
 import com.example.appointmentsystembackend.appointment.AppointmentRepository;
 import com.example.appointmentsystembackend.appointment.AppointmentStatus;
-import com.example.appointmentsystembackend.appointment.AppointmentService;
 import com.example.appointmentsystembackend.department.DepartmentRepository;
 import com.example.appointmentsystembackend.feedback.Feedback;
 import com.example.appointmentsystembackend.feedback.FeedbackRepository;
 import com.example.appointmentsystembackend.notification.Notification;
 import com.example.appointmentsystembackend.notification.NotificationRepository;
-import com.example.appointmentsystembackend.schedule.BlockedDateRepository;
+import com.example.appointmentsystembackend.replica.ReplicaRead;
 import com.example.appointmentsystembackend.schedule.StaffScheduleService;
-import com.example.appointmentsystembackend.schedule.WorkSchedule;
+import com.example.appointmentsystembackend.schedule.WeeklyTemplate;
 import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
 import com.example.appointmentsystembackend.servicecatalog.ServiceCatalogRepository;
 import com.example.appointmentsystembackend.settings.SystemSettingsService;
@@ -39,7 +39,6 @@ import com.example.appointmentsystembackend.user.UserRepository;
 @Service
 public class AnalyticsService {
 	private final AppointmentRepository appointmentRepository;
-	private final AppointmentService appointmentService;
 	private final UserRepository userRepository;
 	private final FeedbackRepository feedbackRepository;
 	private final ServiceCatalogRepository serviceCatalogRepository;
@@ -47,17 +46,15 @@ public class AnalyticsService {
 	private final NotificationRepository notificationRepository;
 	private final SystemSettingsService settingsService;
 	private final StaffScheduleService staffScheduleService;
-	private final BlockedDateRepository blockedDateRepository;
 
-	public AnalyticsService(AppointmentRepository appointmentRepository, AppointmentService appointmentService,
+	public AnalyticsService(AppointmentRepository appointmentRepository,
 			UserRepository userRepository,
 			FeedbackRepository feedbackRepository, ServiceCatalogRepository serviceCatalogRepository,
 			DepartmentRepository departmentRepository,
 			NotificationRepository notificationRepository,
 			SystemSettingsService settingsService,
-			StaffScheduleService staffScheduleService, BlockedDateRepository blockedDateRepository) {
+			StaffScheduleService staffScheduleService) {
 		this.appointmentRepository = appointmentRepository;
-		this.appointmentService = appointmentService;
 		this.userRepository = userRepository;
 		this.feedbackRepository = feedbackRepository;
 		this.serviceCatalogRepository = serviceCatalogRepository;
@@ -65,16 +62,13 @@ public class AnalyticsService {
 		this.notificationRepository = notificationRepository;
 		this.settingsService = settingsService;
 		this.staffScheduleService = staffScheduleService;
-		this.blockedDateRepository = blockedDateRepository;
 	}
 
+	// Admin-wide scans: one read-only transaction gives the figures a consistent snapshot, on the
+	// read replica when there is one.
+	@ReplicaRead
+	@Transactional(readOnly = true)
 	public AdminReportsResponse getAdminReports(String range, String department) {
-		try {
-			appointmentService.autoAssignUnassignedAppointments();
-		} catch (Exception ignored) {
-			// Keep report endpoint resilient even if backfill hits legacy bad rows.
-		}
-
 		LocalDate today = LocalDate.now();
 		boolean allTime = "all".equalsIgnoreCase(range);
 		LocalDate startDate = switch (range) {
@@ -252,6 +246,8 @@ public class AnalyticsService {
 				appointmentRows);
 	}
 
+	@ReplicaRead
+	@Transactional(readOnly = true)
 	public AdminDashboardResponse getAdminDashboard() {
 		LocalDate today = LocalDate.now();
 		LocalDate startDate = today.minusDays(7);
@@ -444,20 +440,20 @@ public class AnalyticsService {
 	}
 
 	public StaffHoursResponse getStaffHours(User staff) {
-		List<WorkSchedule> schedule = staffScheduleService.getOrCreateSchedule(staff);
-		List<StaffHoursResponse.ScheduleEntry> scheduleEntries = schedule.stream()
+		WeeklyTemplate template = staffScheduleService.getSchedule(staff);
+		List<StaffHoursResponse.ScheduleEntry> scheduleEntries = template.days().stream()
 				.map(entry -> new StaffHoursResponse.ScheduleEntry(
-						entry.getDayOfWeek(),
-						entry.getStartTime().toString(),
-						entry.getEndTime().toString(),
-						entry.isWorking()))
+						entry.day().getDisplayName(TextStyle.FULL, Locale.ENGLISH),
+						entry.start().toString(),
+						entry.end().toString(),
+						entry.working()))
 				.toList();
 
-		List<StaffHoursResponse.BlockedEntry> blockedEntries = blockedDateRepository.findByStaffId(staff.getId()).stream()
+		List<StaffHoursResponse.BlockedEntry> blockedEntries = template.blockedDays().stream()
 				.map(entry -> new StaffHoursResponse.BlockedEntry(
-						entry.getId().toString(),
-						entry.getDate().toString(),
-						entry.getReason()))
+						entry.id().toString(),
+						entry.date().toString(),
+						entry.reason()))
 				.toList();
 
 		LocalDate today = LocalDate.now();
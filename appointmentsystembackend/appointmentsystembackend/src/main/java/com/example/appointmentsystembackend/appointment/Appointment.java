@@ -5,6 +5,7 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
 import com.example.appointmentsystembackend.user.User;
 
 import jakarta.persistence.Column;
@@ -56,6 +57,10 @@ public class Appointment {
 	@Column
 	private String notes;
 
+	// Set for occurrences of a recurring series.
+	@Column
+	private UUID seriesId;
+
 	@Column(nullable = false)
 	private OffsetDateTime createdAt;
 
@@ -81,7 +86,7 @@ public class Appointment {
 	@PrePersist
 	public void prePersist() {
 		if (id == null) {
-			id = UUID.randomUUID();
+			id = TimeOrderedUuid.next();
 		}
 		OffsetDateTime now = OffsetDateTime.now();
 		if (createdAt == null) {
@@ -171,6 +176,14 @@ public class Appointment {
 		this.notes = notes;
 	}
 
+	public UUID getSeriesId() {
+		return seriesId;
+	}
+
+	public void setSeriesId(UUID seriesId) {
+		this.seriesId = seriesId;
+	}
+
 	public OffsetDateTime getCreatedAt() {
 		return createdAt;
 	}
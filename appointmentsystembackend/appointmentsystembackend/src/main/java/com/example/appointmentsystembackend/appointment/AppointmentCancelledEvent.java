@@ -0,0 +1,28 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import com.example.appointmentsystembackend.user.User;
+
+// Published when an appointment moves to CANCELLED; describes the slot it frees.
+public record AppointmentCancelledEvent(
+		UUID appointmentId,
+		UUID clientId,
+		UUID serviceId,
+		UUID staffId,
+		LocalDate date,
+		LocalTime time,
+		String location) {
+	static AppointmentCancelledEvent of(Appointment appointment, User staff, LocalDate date, LocalTime time) {
+		return new AppointmentCancelledEvent(
+				appointment.getId(),
+				appointment.getClient().getId(),
+				appointment.getServiceId(),
+				staff != null ? staff.getId() : null,
+				date,
+				time,
+				appointment.getLocation());
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+// Published when an appointment's status, date or time changes; carries the values after the change.
+public record AppointmentChangedEvent(
+		UUID appointmentId,
+		LocalDate date,
+		LocalTime time,
+		AppointmentStatus status) {
+	public static AppointmentChangedEvent of(Appointment appointment) {
+		return new AppointmentChangedEvent(appointment.getId(), appointment.getDate(), appointment.getTime(),
+				appointment.getStatus());
+	}
+}
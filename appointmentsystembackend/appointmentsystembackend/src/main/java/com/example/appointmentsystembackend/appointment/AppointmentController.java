@@ -25,9 +25,11 @@ import jakarta.validation.Valid;
 @Validated
 public class AppointmentController {
 	private final AppointmentService appointmentService;
+	private final AppointmentSeriesService seriesService;
 
-	public AppointmentController(AppointmentService appointmentService) {
+	public AppointmentController(AppointmentService appointmentService, AppointmentSeriesService seriesService) {
 		this.appointmentService = appointmentService;
+		this.seriesService = seriesService;
 	}
 
 	@GetMapping
@@ -49,6 +51,34 @@ public class AppointmentController {
 		return ResponseEntity.ok(appointmentService.updateAppointment(user, id, request));
 	}
 
+	@PostMapping("/bulk-status")
+	public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateStatus(@Valid @RequestBody BulkStatusUpdateRequest request) {
+		User user = currentUser();
+		return ResponseEntity.ok(appointmentService.bulkUpdateStatus(user, request));
+	}
+
+	@PostMapping("/series")
+	public ResponseEntity<AppointmentSeriesResponse> createSeries(@Valid @RequestBody AppointmentSeriesRequest request) {
+		User user = currentUser();
+		return new ResponseEntity<>(seriesService.createSeries(user, request), HttpStatus.CREATED);
+	}
+
+	@GetMapping("/series/{id}")
+	public ResponseEntity<AppointmentSeriesResponse> getSeries(@PathVariable UUID id) {
+		return ResponseEntity.ok(seriesService.getSeries(currentUser(), id));
+	}
+
+	@PatchMapping("/series/{id}")
+	public ResponseEntity<AppointmentSeriesResponse> updateSeries(@PathVariable UUID id,
+			@RequestBody AppointmentSeriesUpdateRequest request) {
+		return ResponseEntity.ok(seriesService.updateSeries(currentUser(), id, request));
+	}
+
+	@PostMapping("/series/{id}/cancel")
+	public ResponseEntity<AppointmentSeriesResponse> cancelSeries(@PathVariable UUID id) {
+		return ResponseEntity.ok(seriesService.cancelSeries(currentUser(), id));
+	}
+
 	private User currentUser() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		return (User) authentication.getPrincipal();
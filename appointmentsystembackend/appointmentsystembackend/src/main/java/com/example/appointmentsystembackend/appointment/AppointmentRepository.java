@@ -1,9 +1,15 @@
 package com.example.appointmentsystembackend.appointment;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
 	List<Appointment> findByClientId(UUID clientId);
@@ -14,4 +20,48 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
 	List<Appointment> findByServiceIdIn(List<UUID> serviceIds);
 	long countByStaffId(UUID staffId);
 	long countByClientId(UUID clientId);
+	long countByStaffIsNotNull();
+
+	@Query("select a from Appointment a join fetch a.client left join fetch a.staff where a.id in :ids")
+	List<Appointment> findWithClientAndStaffByIdIn(@Param("ids") Collection<UUID> ids);
+
+	// Delta sync change scans; client and staff are fetched with the rows since every one is rendered.
+	@Query("select a from Appointment a join fetch a.client left join fetch a.staff "
+			+ "where a.updatedAt > :after and a.updatedAt <= :until")
+	List<Appointment> findChangedBetween(@Param("after") OffsetDateTime after, @Param("until") OffsetDateTime until);
+
+	@Query("select a from Appointment a join fetch a.client left join fetch a.staff "
+			+ "where a.client.id = :clientId and a.updatedAt > :after and a.updatedAt <= :until")
+	List<Appointment> findChangedByClientId(@Param("clientId") UUID clientId, @Param("after") OffsetDateTime after,
+			@Param("until") OffsetDateTime until);
+
+	@Query("select a from Appointment a join fetch a.client left join fetch a.staff "
+			+ "where a.serviceId in :serviceIds and a.updatedAt > :after and a.updatedAt <= :until")
+	List<Appointment> findChangedByServiceIdIn(@Param("serviceIds") Collection<UUID> serviceIds,
+			@Param("after") OffsetDateTime after, @Param("until") OffsetDateTime until);
+
+	// Start times already taken by the given staff (anything not cancelled), for availability search.
+	@Query("select new com.example.appointmentsystembackend.appointment.BookedSlot(a.staff.id, a.date, a.time) "
+			+ "from Appointment a where a.staff.id in :staffIds and a.date between :from and :to "
+			+ "and a.status <> com.example.appointmentsystembackend.appointment.AppointmentStatus.CANCELLED")
+	List<BookedSlot> findBookedSlots(@Param("staffIds") Collection<UUID> staffIds, @Param("from") LocalDate from,
+			@Param("to") LocalDate to);
+
+	// Start times only, for loading reminder windows without materialising the appointments.
+	@Query("select new com.example.appointmentsystembackend.appointment.AppointmentStart(a.id, a.date, a.time) "
+			+ "from Appointment a where a.status in :statuses and a.date between :from and :to")
+	List<AppointmentStart> findStarts(@Param("statuses") Collection<AppointmentStatus> statuses,
+			@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	@Query("select a from Appointment a join fetch a.client left join fetch a.staff "
+			+ "where a.seriesId = :seriesId order by a.date, a.time")
+	List<Appointment> findBySeriesId(@Param("seriesId") UUID seriesId);
+
+	// Bulk status change. The persistence context is cleared afterwards so no managed Appointment
+	// keeps its old status for the rest of the transaction; callers only read the client and staff
+	// they fetched beforehand.
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Appointment a set a.status = :status, a.updatedAt = :updatedAt where a.id in :ids")
+	int updateStatusByIdIn(@Param("ids") Collection<UUID> ids, @Param("status") AppointmentStatus status,
+			@Param("updatedAt") OffsetDateTime updatedAt);
 }
@@ -17,7 +17,8 @@ public record AppointmentResponse(
 		String clientEmail,
 		String clientPhone,
 		String staffName,
-		String staffEmail) {
+		String staffEmail,
+		String seriesId) {
 	public static AppointmentResponse from(Appointment appointment) {
 		User client = appointment.getClient();
 		User staff = appointment.getStaff();
@@ -36,6 +37,7 @@ public record AppointmentResponse(
 				client != null ? client.getEmail() : null,
 				client != null ? client.getPhone() : null,
 				staff != null ? staff.getFullName() : null,
-				staff != null ? staff.getEmail() : null);
+				staff != null ? staff.getEmail() : null,
+				appointment.getSeriesId() != null ? appointment.getSeriesId().toString() : null);
 	}
 }
@@ -0,0 +1,110 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
+import com.example.appointmentsystembackend.user.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "appointment_series")
+public class AppointmentSeries {
+	@Id
+	@Column(nullable = false, updatable = false)
+	private UUID id;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "client_id", nullable = false)
+	private User client;
+
+	@Column(nullable = false)
+	private UUID serviceId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private SeriesFrequency frequency;
+
+	@Column(nullable = false)
+	private int occurrences;
+
+	@Column(nullable = false)
+	private LocalDate startDate;
+
+	@Column(nullable = false)
+	private LocalTime time;
+
+	@Column(nullable = false)
+	private OffsetDateTime createdAt;
+
+	protected AppointmentSeries() {
+	}
+
+	public AppointmentSeries(User client, UUID serviceId, SeriesFrequency frequency, int occurrences,
+			LocalDate startDate, LocalTime time) {
+		this.client = client;
+		this.serviceId = serviceId;
+		this.frequency = frequency;
+		this.occurrences = occurrences;
+		this.startDate = startDate;
+		this.time = time;
+	}
+
+	@PrePersist
+	public void prePersist() {
+		if (id == null) {
+			id = TimeOrderedUuid.next();
+		}
+		if (createdAt == null) {
+			createdAt = OffsetDateTime.now();
+		}
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public User getClient() {
+		return client;
+	}
+
+	public UUID getServiceId() {
+		return serviceId;
+	}
+
+	public SeriesFrequency getFrequency() {
+		return frequency;
+	}
+
+	public int getOccurrences() {
+		return occurrences;
+	}
+
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	public LocalTime getTime() {
+		return time;
+	}
+
+	public void setTime(LocalTime time) {
+		this.time = time;
+	}
+
+	public OffsetDateTime getCreatedAt() {
+		return createdAt;
+	}
+}
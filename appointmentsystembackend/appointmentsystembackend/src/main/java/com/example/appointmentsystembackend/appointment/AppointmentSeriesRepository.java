@@ -0,0 +1,8 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AppointmentSeriesRepository extends JpaRepository<AppointmentSeries, UUID> {
+}
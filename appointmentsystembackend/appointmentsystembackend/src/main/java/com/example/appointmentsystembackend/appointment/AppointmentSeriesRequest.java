@@ -0,0 +1,17 @@
+package com.example.appointmentsystembackend.appointment;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+// startDate is the first occurrence; the rest follow weekly or monthly on the same time. An
+// occurrence on a weekend or closed day is booked on the next open day instead.
+public record AppointmentSeriesRequest(
+		@NotBlank String serviceId,
+		@NotBlank String startDate,
+		@NotBlank String time,
+		@NotBlank String frequency,
+		@NotNull Integer occurrences,
+		String location,
+		String notes,
+		String staffId) {
+}
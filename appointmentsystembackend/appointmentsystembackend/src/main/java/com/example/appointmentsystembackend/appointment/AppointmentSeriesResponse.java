@@ -0,0 +1,23 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.util.List;
+
+public record AppointmentSeriesResponse(
+		String id,
+		String serviceId,
+		String frequency,
+		int occurrences,
+		String startDate,
+		String time,
+		List<AppointmentResponse> appointments) {
+	public static AppointmentSeriesResponse from(AppointmentSeries series, List<Appointment> appointments) {
+		return new AppointmentSeriesResponse(
+				series.getId().toString(),
+				series.getServiceId().toString(),
+				series.getFrequency().name(),
+				series.getOccurrences(),
+				series.getStartDate().toString(),
+				series.getTime().toString(),
+				appointments.stream().map(AppointmentResponse::from).toList());
+	}
+}
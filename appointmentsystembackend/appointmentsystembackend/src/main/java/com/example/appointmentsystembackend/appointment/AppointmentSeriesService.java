@@ -0,0 +1,275 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.appointmentsystembackend.notification.Notification;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.notification.NotificationType;
+import com.example.appointmentsystembackend.schedule.ClosureCalendar;
+import com.example.appointmentsystembackend.schedule.StaffAvailabilityCache;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalogRepository;
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+
+// Recurring bookings. The occurrences of a series are validated together - one booked-slot
+// query covers the whole date range and staff are picked from one eligible-staff lookup - and
+// saved with one batched insert and a single summary notification. An occurrence that falls on
+// a weekend or a closure moves to the next bookable day before the following occurrence is
+// due, so a monthly series is not refused whenever one month's date is a Saturday. Any
+// occurrence that still cannot be booked rejects the whole series, listing every failing date.
+@Service
+@Transactional
+public class AppointmentSeriesService {
+	private final AppointmentService appointmentService;
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentSeriesRepository seriesRepository;
+	private final ServiceCatalogRepository serviceCatalogRepository;
+	private final NotificationRepository notificationRepository;
+	private final StaffAvailabilityCache availabilityCache;
+	private final ClosureCalendar closureCalendar;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int maxOccurrences;
+
+	public AppointmentSeriesService(AppointmentService appointmentService, AppointmentRepository appointmentRepository,
+			AppointmentSeriesRepository seriesRepository, ServiceCatalogRepository serviceCatalogRepository,
+			NotificationRepository notificationRepository,
+			StaffAvailabilityCache availabilityCache, ClosureCalendar closureCalendar,
+			ApplicationEventPublisher eventPublisher,
+			@Value("${app.appointments.series-max-occurrences:24}") int maxOccurrences) {
+		this.appointmentService = appointmentService;
+		this.appointmentRepository = appointmentRepository;
+		this.seriesRepository = seriesRepository;
+		this.serviceCatalogRepository = serviceCatalogRepository;
+		this.notificationRepository = notificationRepository;
+		this.availabilityCache = availabilityCache;
+		this.closureCalendar = closureCalendar;
+		this.eventPublisher = eventPublisher;
+		this.maxOccurrences = maxOccurrences;
+	}
+
+	public AppointmentSeriesResponse createSeries(User client, AppointmentSeriesRequest request) {
+		SeriesFrequency frequency = SeriesFrequency.parse(request.frequency());
+		int occurrences = request.occurrences();
+		if (occurrences < 2 || occurrences > maxOccurrences) {
+			throw new IllegalArgumentException("A series must have between 2 and " + maxOccurrences + " occurrences");
+		}
+		ServiceCatalog service = appointmentService.resolveService(request.serviceId());
+		LocalDate startDate = LocalDate.parse(request.startDate());
+		LocalTime time = LocalTime.parse(request.time());
+		// One extra date bounds how far the last occurrence may move.
+		List<LocalDate> planned = frequency.expand(startDate, occurrences + 1);
+		LocalDate until = planned.get(occurrences);
+
+		List<User> candidates = request.staffId() != null && !request.staffId().isBlank()
+				? List.of(appointmentService.resolveRequestedStaff(request.staffId(), service))
+				: appointmentService.eligibleStaffForService(service);
+		List<UUID> candidateIds = candidates.stream().map(User::getId).toList();
+		Set<BookedSlot> booked = candidateIds.isEmpty()
+				? new HashSet<>()
+				: new HashSet<>(appointmentRepository.findBookedSlots(candidateIds, startDate, until));
+		Map<UUID, Long> load = new HashMap<>();
+		for (UUID staffId : candidateIds) {
+			load.put(staffId, appointmentRepository.countByStaffId(staffId));
+		}
+
+		List<String> problems = new ArrayList<>();
+		List<User> assigned = new ArrayList<>();
+		List<LocalDate> dates = new ArrayList<>(occurrences);
+		for (int i = 0; i < occurrences; i++) {
+			LocalDate date = nextBookableDay(planned.get(i), planned.get(i + 1), time, service.getDepartmentId());
+			if (date == null) {
+				problems.add(planned.get(i) + " ("
+						+ unavailableReason(planned.get(i), time, service.getDepartmentId()) + ")");
+				continue;
+			}
+			// Least-loaded free staff, counting the occurrences already assigned in this series.
+			User staff = candidates.stream()
+					.filter(candidate -> availabilityCache.get(candidate.getId()).isWorkingAt(date, time))
+					.filter(candidate -> !booked.contains(new BookedSlot(candidate.getId(), date, time)))
+					.min(Comparator
+							.comparingLong((User candidate) -> load.get(candidate.getId()))
+							.thenComparing(User::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+							.thenComparing(User::getId))
+					.orElse(null);
+			if (staff == null) {
+				problems.add(date + " (no staff available)");
+				continue;
+			}
+			assigned.add(staff);
+			dates.add(date);
+			load.merge(staff.getId(), 1L, Long::sum);
+		}
+		if (!problems.isEmpty()) {
+			throw new IllegalArgumentException("These occurrences cannot be booked: " + String.join(", ", problems));
+		}
+
+		AppointmentSeries series = seriesRepository.save(
+				new AppointmentSeries(client, service.getId(), frequency, occurrences, startDate, time));
+		List<Appointment> appointments = new ArrayList<>(occurrences);
+		for (int i = 0; i < occurrences; i++) {
+			User staff = assigned.get(i);
+			String location = request.location() != null && !request.location().isBlank()
+					? request.location()
+					: appointmentService.resolveLocation(null, service, staff);
+			Appointment appointment = new Appointment(client, staff, service.getId(), service.getName(), dates.get(i),
+					time, location, AppointmentStatus.PENDING, request.notes());
+			appointment.setSeriesId(series.getId());
+			appointments.add(appointment);
+		}
+		appointmentRepository.saveAll(appointments);
+		notificationRepository.save(new Notification(
+				client,
+				NotificationType.CONFIRMATION,
+				"Appointment Series Submitted",
+				String.format("Your %d %s %s appointments from %s to %s at %s have been submitted and are pending review.",
+						occurrences, frequency.name().toLowerCase(), service.getName(), dates.get(0),
+						dates.get(dates.size() - 1), time),
+				false));
+		return AppointmentSeriesResponse.from(series, appointments);
+	}
+
+	@Transactional(readOnly = true)
+	public AppointmentSeriesResponse getSeries(User user, UUID id) {
+		AppointmentSeries series = requireSeries(user, id);
+		return AppointmentSeriesResponse.from(series, appointmentRepository.findBySeriesId(id));
+	}
+
+	public AppointmentSeriesResponse updateSeries(User user, UUID id, AppointmentSeriesUpdateRequest request) {
+		AppointmentSeries series = requireSeries(user, id);
+		List<Appointment> appointments = appointmentRepository.findBySeriesId(id);
+		List<Appointment> upcoming = upcoming(appointments);
+		if (request.time() != null && !request.time().isBlank() && !upcoming.isEmpty()) {
+			LocalTime time = LocalTime.parse(request.time());
+			validateNewTime(series, upcoming, time);
+			for (Appointment appointment : upcoming) {
+				appointment.setTime(time);
+				eventPublisher.publishEvent(AppointmentChangedEvent.of(appointment));
+			}
+			series.setTime(time);
+		}
+		if (request.location() != null && !request.location().isBlank()) {
+			upcoming.forEach(appointment -> appointment.setLocation(request.location()));
+		}
+		if (request.notes() != null) {
+			upcoming.forEach(appointment -> appointment.setNotes(request.notes()));
+		}
+		return AppointmentSeriesResponse.from(series, appointments);
+	}
+
+	// Cancels every upcoming occurrence; past and completed ones are kept as history. Each freed
+	// slot is published like a single cancellation, so the waitlist can backfill it.
+	public AppointmentSeriesResponse cancelSeries(User user, UUID id) {
+		AppointmentSeries series = requireSeries(user, id);
+		List<Appointment> appointments = appointmentRepository.findBySeriesId(id);
+		List<Appointment> upcoming = upcoming(appointments);
+		if (upcoming.isEmpty()) {
+			return AppointmentSeriesResponse.from(series, appointments);
+		}
+		for (Appointment appointment : upcoming) {
+			appointment.setStatus(AppointmentStatus.CANCELLED);
+			eventPublisher.publishEvent(AppointmentCancelledEvent.of(appointment, appointment.getStaff(),
+					appointment.getDate(), appointment.getTime()));
+			eventPublisher.publishEvent(AppointmentChangedEvent.of(appointment));
+		}
+		Appointment first = upcoming.get(0);
+		notificationRepository.save(new Notification(
+				series.getClient(),
+				NotificationType.ALERT,
+				"Appointment Series Cancelled",
+				String.format("%d upcoming %s appointments from %s to %s were cancelled.",
+						upcoming.size(), first.getAppointmentType(), first.getDate(),
+						upcoming.get(upcoming.size() - 1).getDate()),
+				false));
+		return AppointmentSeriesResponse.from(series, appointments);
+	}
+
+	private AppointmentSeries requireSeries(User user, UUID id) {
+		AppointmentSeries series = seriesRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("Appointment series not found"));
+		if (user.getRole() == Role.CLIENT && !series.getClient().getId().equals(user.getId())) {
+			throw new IllegalArgumentException("Not allowed");
+		}
+		return series;
+	}
+
+	private List<Appointment> upcoming(List<Appointment> appointments) {
+		LocalDate today = LocalDate.now();
+		return appointments.stream()
+				.filter(appointment -> !appointment.getDate().isBefore(today))
+				.filter(appointment -> appointment.getStatus() != AppointmentStatus.CANCELLED
+						&& appointment.getStatus() != AppointmentStatus.COMPLETED)
+				.toList();
+	}
+
+	private void validateNewTime(AppointmentSeries series, List<Appointment> upcoming, LocalTime time) {
+		UUID departmentId = serviceCatalogRepository.findById(series.getServiceId())
+				.map(ServiceCatalog::getDepartmentId)
+				.orElse(null);
+		List<UUID> staffIds = upcoming.stream()
+				.map(Appointment::getStaff)
+				.filter(Objects::nonNull)
+				.map(User::getId)
+				.distinct()
+				.toList();
+		Set<BookedSlot> booked = staffIds.isEmpty()
+				? Set.of()
+				: new HashSet<>(appointmentRepository.findBookedSlots(staffIds, upcoming.get(0).getDate(),
+						upcoming.get(upcoming.size() - 1).getDate()));
+		List<String> problems = new ArrayList<>();
+		for (Appointment appointment : upcoming) {
+			LocalDate date = appointment.getDate();
+			String problem = unavailableReason(date, time, departmentId);
+			User staff = appointment.getStaff();
+			if (problem == null && staff != null && !time.equals(appointment.getTime())) {
+				if (!availabilityCache.get(staff.getId()).isWorkingAt(date, time)) {
+					problem = "staff not working";
+				} else if (booked.contains(new BookedSlot(staff.getId(), date, time))) {
+					problem = "staff already booked";
+				}
+			}
+			if (problem != null) {
+				problems.add(date + " (" + problem + ")");
+			}
+		}
+		if (!problems.isEmpty()) {
+			throw new IllegalArgumentException("These occurrences cannot be moved: " + String.join(", ", problems));
+		}
+	}
+
+	// The first day from date, and before the next occurrence is due, that is neither a weekend
+	// nor closed; null if there is none.
+	private LocalDate nextBookableDay(LocalDate date, LocalDate before, LocalTime time, UUID departmentId) {
+		for (LocalDate day = date; day.isBefore(before); day = day.plusDays(1)) {
+			if (unavailableReason(day, time, departmentId) == null) {
+				return day;
+			}
+		}
+		return null;
+	}
+
+	private String unavailableReason(LocalDate date, LocalTime time, UUID departmentId) {
+		if (!AppointmentService.isBookableDayAndTime(date, time)) {
+			return "outside working days or hours";
+		}
+		if (closureCalendar.isClosed(date, departmentId)) {
+			return closureCalendar.reason(date, departmentId).orElse("closed");
+		}
+		return null;
+	}
+}
@@ -0,0 +1,8 @@
+package com.example.appointmentsystembackend.appointment;
+
+// Applied to every upcoming occurrence that is not cancelled or completed; null fields are left as is.
+public record AppointmentSeriesUpdateRequest(
+		String time,
+		String location,
+		String notes) {
+}
@@ -3,12 +3,19 @@ package com.example.appointmentsystembackend.appointment;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.DayOfWeek;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +25,8 @@ import com.example.appointmentsystembackend.notification.EmailService;
 import com.example.appointmentsystembackend.notification.Notification;
 import com.example.appointmentsystembackend.notification.NotificationRepository;
 import com.example.appointmentsystembackend.notification.NotificationType;
+import com.example.appointmentsystembackend.schedule.ClosureCalendar;
+import com.example.appointmentsystembackend.schedule.StaffAvailabilityCache;
 import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
 import com.example.appointmentsystembackend.servicecatalog.ServiceCatalogRepository;
 import com.example.appointmentsystembackend.user.Role;
@@ -36,16 +45,24 @@ public class AppointmentService {
 	private final DepartmentRepository departmentRepository;
 	private final NotificationRepository notificationRepository;
 	private final EmailService emailService;
+	private final StaffAvailabilityCache availabilityCache;
+	private final ClosureCalendar closureCalendar;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public AppointmentService(AppointmentRepository appointmentRepository, UserRepository userRepository,
 			ServiceCatalogRepository serviceCatalogRepository, DepartmentRepository departmentRepository,
-			NotificationRepository notificationRepository, EmailService emailService) {
+			NotificationRepository notificationRepository, EmailService emailService,
+			StaffAvailabilityCache availabilityCache, ClosureCalendar closureCalendar,
+			ApplicationEventPublisher eventPublisher) {
 		this.appointmentRepository = appointmentRepository;
 		this.userRepository = userRepository;
 		this.serviceCatalogRepository = serviceCatalogRepository;
 		this.departmentRepository = departmentRepository;
 		this.notificationRepository = notificationRepository;
 		this.emailService = emailService;
+		this.availabilityCache = availabilityCache;
+		this.closureCalendar = closureCalendar;
+		this.eventPublisher = eventPublisher;
 	}
 
 	public List<AppointmentResponse> listForUser(User user) {
@@ -64,25 +81,50 @@ public class AppointmentService {
 		if (staff.getServiceId() != null) {
 			return appointmentRepository.findByServiceId(staff.getServiceId());
 		}
-		if (staff.getDepartmentId() != null) {
-			List<UUID> departmentServiceIds = serviceCatalogRepository.findByDepartmentId(staff.getDepartmentId())
-					.stream()
-					.map(ServiceCatalog::getId)
-					.toList();
-			if (!departmentServiceIds.isEmpty()) {
-				return appointmentRepository.findByServiceIdIn(departmentServiceIds);
-			}
+		List<UUID> departmentServiceIds = staffScopeServiceIds(staff);
+		if (!departmentServiceIds.isEmpty()) {
+			return appointmentRepository.findByServiceIdIn(departmentServiceIds);
 		}
 		return List.of();
 	}
 
+	// Same role scoping as listForUser, restricted to rows whose updatedAt lies in (after, until].
+	@Transactional(readOnly = true)
+	public List<AppointmentResponse> listChangedForUser(User user, OffsetDateTime after, OffsetDateTime until) {
+		List<Appointment> appointments;
+		if (user.getRole() == Role.ADMIN) {
+			appointments = appointmentRepository.findChangedBetween(after, until);
+		} else if (user.getRole() == Role.STAFF) {
+			List<UUID> serviceIds = staffScopeServiceIds(user);
+			appointments = serviceIds.isEmpty()
+					? List.of()
+					: appointmentRepository.findChangedByServiceIdIn(serviceIds, after, until);
+		} else {
+			appointments = appointmentRepository.findChangedByClientId(user.getId(), after, until);
+		}
+		return appointments.stream().map(AppointmentResponse::from).toList();
+	}
+
+	private List<UUID> staffScopeServiceIds(User staff) {
+		if (staff.getServiceId() != null) {
+			return List.of(staff.getServiceId());
+		}
+		if (staff.getDepartmentId() == null) {
+			return List.of();
+		}
+		return serviceCatalogRepository.findByDepartmentId(staff.getDepartmentId()).stream()
+				.map(ServiceCatalog::getId)
+				.toList();
+	}
+
 	public AppointmentResponse createAppointment(User client, AppointmentRequest request) {
-		ServiceCatalog selectedService = resolveService(request);
-		User staff = resolveAssignedStaff(request, selectedService);
-		String location = resolveLocation(request, selectedService, staff);
+		ServiceCatalog selectedService = resolveService(request.serviceId());
 		LocalDate appointmentDate = LocalDate.parse(request.date());
 		LocalTime appointmentTime = LocalTime.parse(request.time());
 		validateWorkingDayAndHours(appointmentDate, appointmentTime);
+		validateNotClosed(appointmentDate, selectedService.getDepartmentId());
+		User staff = resolveAssignedStaff(request, selectedService, appointmentDate, appointmentTime);
+		String location = resolveLocation(request, selectedService, staff);
 		Appointment appointment = new Appointment(
 				client,
 				staff,
@@ -105,11 +147,11 @@ public class AppointmentService {
 		return AppointmentResponse.from(appointment);
 	}
 
-	private ServiceCatalog resolveService(AppointmentRequest request) {
-		if (request.serviceId() == null || request.serviceId().isBlank()) {
+	ServiceCatalog resolveService(String serviceId) {
+		if (serviceId == null || serviceId.isBlank()) {
 			throw new IllegalArgumentException("Service is required");
 		}
-		ServiceCatalog service = serviceCatalogRepository.findById(UUID.fromString(request.serviceId()))
+		ServiceCatalog service = serviceCatalogRepository.findById(UUID.fromString(serviceId))
 				.orElseThrow(() -> new IllegalArgumentException("Service not found"));
 		if (!service.isActive()) {
 			throw new IllegalArgumentException("Selected service is not available");
@@ -117,23 +159,35 @@ public class AppointmentService {
 		return service;
 	}
 
-	private User resolveAssignedStaff(AppointmentRequest request, ServiceCatalog selectedService) {
+	private User resolveAssignedStaff(AppointmentRequest request, ServiceCatalog selectedService, LocalDate date,
+			LocalTime time) {
 		if (request.staffId() != null && !request.staffId().isBlank()) {
-			User requestedStaff = userRepository.findById(UUID.fromString(request.staffId()))
-					.orElseThrow(() -> new IllegalArgumentException("Staff user not found"));
-			if (requestedStaff.getRole() != Role.STAFF || !requestedStaff.isActive()) {
-				throw new IllegalArgumentException("Staff user not available");
-			}
-			validateStaffMatchesServiceDepartment(requestedStaff, selectedService);
+			User requestedStaff = resolveRequestedStaff(request.staffId(), selectedService);
+			validateStaffWorkingAt(requestedStaff, date, time);
 			return requestedStaff;
 		}
 
-		return chooseBestStaffForService(selectedService)
+		return chooseBestStaffForService(selectedService, date, time)
 				.orElseThrow(() -> new IllegalArgumentException(
-						"No active staff available in the selected service department"));
+						"No active staff in the selected service department is working at that time"));
+	}
+
+	// Least-loaded staff member of the service's department who is working at the given time.
+	java.util.Optional<User> chooseBestStaffForService(ServiceCatalog selectedService, LocalDate date, LocalTime time) {
+		if (closureCalendar.isClosed(date, selectedService.getDepartmentId())) {
+			return java.util.Optional.empty();
+		}
+		return eligibleStaffForService(selectedService).stream()
+				.filter(staff -> availabilityCache.get(staff.getId()).isWorkingAt(date, time))
+				.min(Comparator
+						.comparingLong((User staff) -> appointmentRepository.countByStaffId(staff.getId()))
+						.thenComparing(User::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+						.thenComparing(User::getId, Comparator.nullsLast(Comparator.naturalOrder())));
 	}
 
-	private java.util.Optional<User> chooseBestStaffForService(ServiceCatalog selectedService) {
+	// Active staff of the service's department, matched by department id, department name or
+	// (legacy) the department of their own service.
+	public List<User> eligibleStaffForService(ServiceCatalog selectedService) {
 		List<User> departmentStaff = new ArrayList<>(userRepository.findByRoleAndActiveTrueAndDepartmentId(
 				Role.STAFF,
 				selectedService.getDepartmentId()));
@@ -157,10 +211,24 @@ public class AppointmentService {
 				.values());
 		return uniqueStaff.stream()
 				.filter(staff -> staffBelongsToServiceDepartment(staff, selectedService))
-				.min(Comparator
-						.comparingLong((User staff) -> appointmentRepository.countByStaffId(staff.getId()))
-						.thenComparing(User::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
-						.thenComparing(User::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+				.toList();
+	}
+
+	// An explicitly requested staff member must be active staff of the service's department.
+	User resolveRequestedStaff(String staffId, ServiceCatalog selectedService) {
+		User requestedStaff = userRepository.findById(UUID.fromString(staffId))
+				.orElseThrow(() -> new IllegalArgumentException("Staff user not found"));
+		if (requestedStaff.getRole() != Role.STAFF || !requestedStaff.isActive()) {
+			throw new IllegalArgumentException("Staff user not available");
+		}
+		validateStaffMatchesServiceDepartment(requestedStaff, selectedService);
+		return requestedStaff;
+	}
+
+	private void validateStaffWorkingAt(User staff, LocalDate date, LocalTime time) {
+		if (!availabilityCache.get(staff.getId()).isWorkingAt(date, time)) {
+			throw new IllegalArgumentException("Selected staff is not working at that time");
+		}
 	}
 
 	private void validateStaffMatchesServiceDepartment(User staff, ServiceCatalog selectedService) {
@@ -187,7 +255,7 @@ public class AppointmentService {
 		return false;
 	}
 
-	private String resolveLocation(AppointmentRequest request, ServiceCatalog selectedService, User assignedStaff) {
+	String resolveLocation(AppointmentRequest request, ServiceCatalog selectedService, User assignedStaff) {
 		if (request != null && request.location() != null && !request.location().isBlank()) {
 			return request.location();
 		}
@@ -207,6 +275,9 @@ public class AppointmentService {
 		}
 
 		AppointmentStatus previousStatus = appointment.getStatus();
+		User previousStaff = appointment.getStaff();
+		LocalDate previousDate = appointment.getDate();
+		LocalTime previousTime = appointment.getTime();
 		AppointmentStatus requestedStatus = null;
 		if (request.status() != null && !request.status().isBlank()) {
 			requestedStatus = AppointmentStatus.valueOf(request.status().toUpperCase());
@@ -220,6 +291,10 @@ public class AppointmentService {
 		}
 		if ((request.date() != null && !request.date().isBlank()) || (request.time() != null && !request.time().isBlank())) {
 			validateWorkingDayAndHours(appointment.getDate(), appointment.getTime());
+			if (appointment.getServiceId() != null) {
+				serviceCatalogRepository.findById(appointment.getServiceId())
+						.ifPresent(service -> validateNotClosed(appointment.getDate(), service.getDepartmentId()));
+			}
 		}
 		if (request.location() != null && !request.location().isBlank()) {
 			appointment.setLocation(request.location());
@@ -236,12 +311,14 @@ public class AppointmentService {
 				throw new IllegalArgumentException("Staff user not available");
 			}
 			validateStaffMatchesServiceDepartment(staff, service);
+			validateStaffWorkingAt(staff, appointment.getDate(), appointment.getTime());
 			appointment.setStaff(staff);
 		}
 		if (appointment.getStaff() == null && appointment.getServiceId() != null) {
 			ServiceCatalog service = serviceCatalogRepository.findById(appointment.getServiceId()).orElse(null);
 			if (service != null) {
-				chooseBestStaffForService(service).ifPresent(appointment::setStaff);
+				chooseBestStaffForService(service, appointment.getDate(), appointment.getTime())
+						.ifPresent(appointment::setStaff);
 			}
 		}
 
@@ -253,10 +330,93 @@ public class AppointmentService {
 		if (requestedStatus != null && requestedStatus != previousStatus) {
 			createStatusNotification(appointment, requestedStatus);
 		}
+		// The slot freed is the one held before this update.
+		if (requestedStatus == AppointmentStatus.CANCELLED && previousStatus != AppointmentStatus.CANCELLED) {
+			eventPublisher.publishEvent(AppointmentCancelledEvent.of(appointment, previousStaff, previousDate, previousTime));
+		}
+		if (appointment.getStatus() != previousStatus || !appointment.getDate().equals(previousDate)
+				|| !appointment.getTime().equals(previousTime)) {
+			eventPublisher.publishEvent(AppointmentChangedEvent.of(appointment));
+		}
 
 		return AppointmentResponse.from(appointment);
 	}
 
+	// One round trip for end-of-day processing: a single query loads the appointments, one UPDATE
+	// changes every status, the notifications are inserted together and the emails are handed to
+	// the mail worker as one batch after commit. Each id gets its own outcome in the response.
+	public BulkStatusUpdateResponse bulkUpdateStatus(User user, BulkStatusUpdateRequest request) {
+		if (user.getRole() == Role.CLIENT) {
+			throw new IllegalArgumentException("Not allowed");
+		}
+		AppointmentStatus status;
+		try {
+			status = AppointmentStatus.valueOf(request.status().trim().toUpperCase());
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Unknown appointment status: " + request.status());
+		}
+
+		Map<String, UUID> parsedIds = new LinkedHashMap<>();
+		for (String rawId : request.ids()) {
+			try {
+				parsedIds.put(rawId, UUID.fromString(rawId.trim()));
+			} catch (RuntimeException ex) {
+				parsedIds.put(rawId, null);
+			}
+		}
+		Map<UUID, Appointment> appointments = new HashMap<>();
+		List<UUID> lookupIds = parsedIds.values().stream().filter(Objects::nonNull).distinct().toList();
+		if (!lookupIds.isEmpty()) {
+			for (Appointment appointment : appointmentRepository.findWithClientAndStaffByIdIn(lookupIds)) {
+				appointments.put(appointment.getId(), appointment);
+			}
+		}
+
+		List<BulkStatusUpdateResponse.Result> results = new ArrayList<>();
+		List<Appointment> changed = new ArrayList<>();
+		Set<UUID> seen = new HashSet<>();
+		for (Map.Entry<String, UUID> entry : parsedIds.entrySet()) {
+			UUID id = entry.getValue();
+			Appointment appointment = id == null ? null : appointments.get(id);
+			if (id == null) {
+				results.add(new BulkStatusUpdateResponse.Result(entry.getKey(), "INVALID_ID", "Not a valid appointment id"));
+			} else if (appointment == null) {
+				results.add(new BulkStatusUpdateResponse.Result(entry.getKey(), "NOT_FOUND", "Appointment not found"));
+			} else if (appointment.getStatus() == status || !seen.add(id)) {
+				results.add(new BulkStatusUpdateResponse.Result(entry.getKey(), "UNCHANGED", null));
+			} else {
+				results.add(new BulkStatusUpdateResponse.Result(entry.getKey(), "UPDATED", null));
+				changed.add(appointment);
+			}
+		}
+		if (changed.isEmpty()) {
+			return new BulkStatusUpdateResponse(status.name(), 0, results);
+		}
+
+		appointmentRepository.updateStatusByIdIn(changed.stream().map(Appointment::getId).toList(), status,
+				OffsetDateTime.now());
+		List<Notification> notifications = new ArrayList<>();
+		for (Appointment appointment : changed) {
+			Notification notification = buildStatusNotification(appointment, status);
+			if (notification != null) {
+				notifications.add(notification);
+			}
+		}
+		notificationRepository.saveAll(notifications);
+		if (status == AppointmentStatus.COMPLETED || status == AppointmentStatus.CANCELLED) {
+			emailService.sendAppointmentStatusEmails(changed, status);
+		}
+		for (Appointment appointment : changed) {
+			if (status == AppointmentStatus.CANCELLED) {
+				eventPublisher.publishEvent(AppointmentCancelledEvent.of(appointment, appointment.getStaff(),
+						appointment.getDate(), appointment.getTime()));
+			}
+			eventPublisher.publishEvent(new AppointmentChangedEvent(appointment.getId(), appointment.getDate(),
+					appointment.getTime(), status));
+		}
+		return new BulkStatusUpdateResponse(status.name(), changed.size(), results);
+	}
+
 	public int autoAssignUnassignedAppointments() {
 		List<Appointment> unassignedAppointments = appointmentRepository.findByStaffIsNull();
 		List<Appointment> updatedAppointments = new ArrayList<>();
@@ -266,7 +426,8 @@ public class AppointmentService {
 			if (service == null || !service.isActive()) {
 				continue;
 			}
-			java.util.Optional<User> staff = chooseBestStaffForService(service);
+			java.util.Optional<User> staff = chooseBestStaffForService(service, appointment.getDate(),
+					appointment.getTime());
 			if (staff.isPresent()) {
 				appointment.setStaff(staff.get());
 				if (appointment.getLocation() == null || appointment.getLocation().isBlank()
@@ -305,14 +466,21 @@ public class AppointmentService {
 				.orElse(null);
 	}
 
-	private String normalizeLabel(String value) {
+	static String normalizeLabel(String value) {
 		return value == null ? "" : value.trim().toLowerCase().replaceAll("[^a-z0-9]+", " ");
 	}
 
 	private void createStatusNotification(Appointment appointment, AppointmentStatus status) {
+		Notification notification = buildStatusNotification(appointment, status);
+		if (notification != null) {
+			notificationRepository.save(notification);
+		}
+	}
+
+	private Notification buildStatusNotification(Appointment appointment, AppointmentStatus status) {
 		User client = appointment.getClient();
 		if (client == null) {
-			return;
+			return null;
 		}
 		String title;
 		String message;
@@ -343,14 +511,28 @@ public class AppointmentService {
 				type = NotificationType.INFO;
 			}
 		}
-		createClientNotification(client, type, title, message);
+		return new Notification(client, type, title, message, false);
 	}
 
 	private void createClientNotification(User client, NotificationType type, String title, String message) {
 		notificationRepository.save(new Notification(client, type, title, message, false));
 	}
 
-	private void validateWorkingDayAndHours(LocalDate date, LocalTime time) {
+	private void validateNotClosed(LocalDate date, UUID departmentId) {
+		if (closureCalendar.isClosed(date, departmentId)) {
+			String reason = closureCalendar.reason(date, departmentId).orElse("closure");
+			throw new IllegalArgumentException("The office is closed on " + date + " (" + reason + "). Please choose another day.");
+		}
+	}
+
+	// The booking rule enforced by validateWorkingDayAndHours, as a predicate.
+	public static boolean isBookableDayAndTime(LocalDate date, LocalTime time) {
+		DayOfWeek day = date.getDayOfWeek();
+		return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY
+				&& !time.isBefore(WORK_START) && !time.isAfter(WORK_END);
+	}
+
+	void validateWorkingDayAndHours(LocalDate date, LocalTime time) {
 		DayOfWeek day = date.getDayOfWeek();
 		if (day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY) {
 			throw new IllegalArgumentException("Weekend appointments are not allowed. Please choose Monday to Friday.");
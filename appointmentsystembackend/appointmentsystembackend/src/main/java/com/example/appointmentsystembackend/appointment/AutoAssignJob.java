@@ -0,0 +1,37 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.appointmentsystembackend.jobs.ClusterJob;
+
+// Assigns staff to appointments booked without one. This used to run inline on every admin
+// report request.
+@Component
+public class AutoAssignJob implements ClusterJob {
+	private final AppointmentService appointmentService;
+	private final Duration delay;
+
+	public AutoAssignJob(AppointmentService appointmentService,
+			@Value("${app.jobs.auto-assign-minutes:5}") long delayMinutes) {
+		this.appointmentService = appointmentService;
+		this.delay = Duration.ofMinutes(delayMinutes);
+	}
+
+	@Override
+	public String name() {
+		return "auto-assign";
+	}
+
+	@Override
+	public Duration fixedDelay() {
+		return delay;
+	}
+
+	@Override
+	public long run() {
+		return appointmentService.autoAssignUnassignedAppointments();
+	}
+}
@@ -0,0 +1,8 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record BookedSlot(UUID staffId, LocalDate date, LocalTime time) {
+}
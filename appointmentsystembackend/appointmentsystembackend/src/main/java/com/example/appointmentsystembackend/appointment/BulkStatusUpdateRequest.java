@@ -0,0 +1,12 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record BulkStatusUpdateRequest(
+		@NotEmpty @Size(max = 1000, message = "At most 1000 appointments can be updated at once") List<String> ids,
+		@NotBlank String status) {
+}
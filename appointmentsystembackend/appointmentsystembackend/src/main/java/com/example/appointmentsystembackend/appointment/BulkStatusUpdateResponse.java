@@ -0,0 +1,8 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.util.List;
+
+public record BulkStatusUpdateResponse(String status, int updated, List<Result> results) {
+	public record Result(String id, String outcome, String message) {
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.appointmentsystembackend.appointment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public enum SeriesFrequency {
+	WEEKLY,
+	MONTHLY;
+
+	public static SeriesFrequency parse(String value) {
+		try {
+			return SeriesFrequency.valueOf(value.trim().toUpperCase());
+		} catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Frequency must be weekly or monthly");
+		}
+	}
+
+	// Monthly occurrences are offset from the start date rather than from each other, so a series
+	// starting on the 31st falls on the last day of shorter months and returns to the 31st after.
+	public List<LocalDate> expand(LocalDate startDate, int occurrences) {
+		List<LocalDate> dates = new ArrayList<>(occurrences);
+		for (int i = 0; i < occurrences; i++) {
+			dates.add(this == WEEKLY ? startDate.plusWeeks(i) : startDate.plusMonths(i));
+		}
+		return dates;
+	}
+}
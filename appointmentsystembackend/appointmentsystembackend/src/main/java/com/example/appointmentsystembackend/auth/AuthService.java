@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.appointmentsystembackend.notification.EmailService;
+import com.example.appointmentsystembackend.ratelimit.RateLimitPolicy;
 import com.example.appointmentsystembackend.security.JwtService;
 import com.example.appointmentsystembackend.user.Role;
 import com.example.appointmentsystembackend.user.User;
@@ -32,13 +33,15 @@ public class AuthService {
 	private final GoogleTokenVerifierService googleTokenVerifierService;
 	private final PasswordResetTokenRepository passwordResetTokenRepository;
 	private final EmailService emailService;
+	private final RateLimitPolicy rateLimitPolicy;
 	private final SecureRandom secureRandom = new SecureRandom();
 
 	public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
 			AuthenticationManager authenticationManager, JwtService jwtService,
 			GoogleTokenVerifierService googleTokenVerifierService,
 			PasswordResetTokenRepository passwordResetTokenRepository,
-			EmailService emailService) {
+			EmailService emailService,
+			RateLimitPolicy rateLimitPolicy) {
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
 		this.authenticationManager = authenticationManager;
@@ -46,6 +49,7 @@ public class AuthService {
 		this.googleTokenVerifierService = googleTokenVerifierService;
 		this.passwordResetTokenRepository = passwordResetTokenRepository;
 		this.emailService = emailService;
+		this.rateLimitPolicy = rateLimitPolicy;
 	}
 
 	public AuthResponse register(RegisterRequest request) {
@@ -68,10 +72,12 @@ public class AuthService {
 	}
 
 	public AuthResponse login(LoginRequest request) {
+		String email = normalizeEmail(request.email());
+		rateLimitPolicy.checkLoginAccount(email);
 		Authentication auth;
 		try {
 			auth = authenticationManager.authenticate(
-					new UsernamePasswordAuthenticationToken(normalizeEmail(request.email()), request.password()));
+					new UsernamePasswordAuthenticationToken(email, request.password()));
 		} catch (DisabledException ex) {
 			throw new IllegalArgumentException("Your account is inactive. Contact admin to reactivate it.");
 		} catch (AuthenticationException ex) {
@@ -117,8 +123,7 @@ public class AuthService {
 		if (email.isBlank()) {
 			return response;
 		}
-
-		passwordResetTokenRepository.deleteByExpiresAtBefore(OffsetDateTime.now());
+		rateLimitPolicy.checkForgotPasswordAccount(email);
 
 		User user = userRepository.findByEmail(email).orElse(null);
 		if (user == null) {
@@ -1,15 +1,25 @@
 package com.example.appointmentsystembackend.auth;
 
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.example.appointmentsystembackend.ratelimit.RateLimitExceededException;
+import com.example.appointmentsystembackend.security.PasswordHashingUnavailableException;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+	private static final Set<String> CONCURRENT_WRITE_CONSTRAINTS = Set.of("uk_work_schedules_staff_day");
+
 	@ExceptionHandler(IllegalArgumentException.class)
 	public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException ex) {
 		return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
@@ -22,4 +32,39 @@ public class GlobalExceptionHandler {
 				: ex.getBindingResult().getAllErrors().get(0).getDefaultMessage();
 		return new ResponseEntity<>(Map.of("error", message), HttpStatus.BAD_REQUEST);
 	}
+
+	@ExceptionHandler(PasswordHashingUnavailableException.class)
+	public ResponseEntity<Map<String, String>> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(Map.of("error", ex.getMessage()));
+	}
+
+	@ExceptionHandler(RateLimitExceededException.class)
+	public ResponseEntity<Map<String, String>> handleRateLimitExceeded(RateLimitExceededException ex) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+				.body(Map.of("error", ex.getMessage()));
+	}
+
+	// Only unique constraints that guard concurrent writes become a 409 (one work schedule row per
+	// staff and day, where two saves of the same schedule race). Any other violation is a bug and
+	// is rethrown to the default 500 handling.
+	@ExceptionHandler(DataIntegrityViolationException.class)
+	public ResponseEntity<Map<String, String>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+		if (!CONCURRENT_WRITE_CONSTRAINTS.contains(violatedConstraint(ex))) {
+			throw ex;
+		}
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(Map.of("error", "The record was changed concurrently; reload and try again"));
+	}
+
+	private static String violatedConstraint(DataIntegrityViolationException ex) {
+		for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+				return violation.getConstraintName().toLowerCase(Locale.ROOT);
+			}
+		}
+		return "";
+	}
 }
@@ -0,0 +1,161 @@
+package com.example.appointmentsystembackend.auth;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Google's ID token signing keys, cached in memory. Keys are refreshed in the background before
+// the Cache-Control max-age runs out, and on demand when a token names an unknown kid (Google
+// rotates keys), with at most one on-demand fetch per minRefreshInterval.
+@Component
+public class GoogleJwksKeySource {
+	private static final Logger logger = LoggerFactory.getLogger(GoogleJwksKeySource.class);
+	private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+	private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+	private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+	// Refreshes hold refreshLock, and on-demand ones block a login request, so a slow endpoint
+	// must fail fast rather than stall both.
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+	private static final Duration READ_TIMEOUT = Duration.ofSeconds(3);
+
+	private final String jwksUri;
+	private final Duration minRefreshInterval;
+	private final ObjectMapper objectMapper;
+	private final RestClient restClient;
+	private final ReentrantLock refreshLock = new ReentrantLock();
+	private volatile Map<String, PublicKey> keys = Map.of();
+	private volatile Instant lastRefreshAttempt = Instant.EPOCH;
+	private ScheduledExecutorService scheduler;
+
+	public GoogleJwksKeySource(
+			@Value("${app.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+			@Value("${app.google.jwks-min-refresh-seconds:30}") long minRefreshSeconds,
+			ObjectMapper objectMapper) {
+		this.jwksUri = jwksUri;
+		this.minRefreshInterval = Duration.ofSeconds(minRefreshSeconds);
+		this.objectMapper = objectMapper;
+		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+		requestFactory.setConnectTimeout(CONNECT_TIMEOUT);
+		requestFactory.setReadTimeout(READ_TIMEOUT);
+		this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+	}
+
+	@PostConstruct
+	public void start() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "google-jwks-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.execute(this::scheduledRefresh);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	public PublicKey find(String kid) {
+		PublicKey key = keys.get(kid);
+		if (key != null) {
+			return key;
+		}
+		refreshLock.lock();
+		try {
+			key = keys.get(kid);
+			if (key == null && !Instant.now().isBefore(lastRefreshAttempt.plus(minRefreshInterval))) {
+				refresh();
+				key = keys.get(kid);
+			}
+		} finally {
+			refreshLock.unlock();
+		}
+		if (key == null) {
+			throw new IllegalArgumentException("Invalid Google token");
+		}
+		return key;
+	}
+
+	private void scheduledRefresh() {
+		Duration next;
+		refreshLock.lock();
+		try {
+			next = refresh();
+		} catch (RuntimeException ex) {
+			logger.warn("Could not refresh Google signing keys; retrying in {}.", RETRY_DELAY, ex);
+			next = RETRY_DELAY;
+		} finally {
+			refreshLock.unlock();
+		}
+		if (!scheduler.isShutdown()) {
+			scheduler.schedule(this::scheduledRefresh, next.toSeconds(), TimeUnit.SECONDS);
+		}
+	}
+
+	// Returns how long until the next background refresh; caller holds refreshLock.
+	private Duration refresh() {
+		lastRefreshAttempt = Instant.now();
+		ResponseEntity<String> response = restClient.get().uri(jwksUri).retrieve().toEntity(String.class);
+		keys = parseKeys(response.getBody());
+		Duration maxAge = maxAge(response.getHeaders().getCacheControl());
+		// Refresh a little early so a rotation never leaves the cache empty-handed.
+		return Duration.ofSeconds(Math.max(RETRY_DELAY.toSeconds(), maxAge.toSeconds() * 9 / 10));
+	}
+
+	private Map<String, PublicKey> parseKeys(String body) {
+		try {
+			JsonNode root = objectMapper.readTree(body);
+			Map<String, PublicKey> parsed = new HashMap<>();
+			KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+			Base64.Decoder decoder = Base64.getUrlDecoder();
+			for (JsonNode key : root.path("keys")) {
+				if (!"RSA".equals(key.path("kty").asText()) || key.path("kid").asText().isBlank()) {
+					continue;
+				}
+				BigInteger modulus = new BigInteger(1, decoder.decode(key.path("n").asText()));
+				BigInteger exponent = new BigInteger(1, decoder.decode(key.path("e").asText()));
+				parsed.put(key.path("kid").asText(),
+						keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+			}
+			return Map.copyOf(parsed);
+		} catch (Exception ex) {
+			throw new IllegalStateException("Could not parse Google signing keys", ex);
+		}
+	}
+
+	private Duration maxAge(String cacheControl) {
+		if (cacheControl == null) {
+			return DEFAULT_MAX_AGE;
+		}
+		Matcher matcher = MAX_AGE.matcher(cacheControl);
+		return matcher.find() ? Duration.ofSeconds(Long.parseLong(matcher.group(1))) : DEFAULT_MAX_AGE;
+	}
+}
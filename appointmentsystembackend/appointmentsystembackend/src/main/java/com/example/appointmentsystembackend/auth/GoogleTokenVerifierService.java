@@ -1,68 +1,131 @@
 package com.example.appointmentsystembackend.auth;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
-@SuppressWarnings("unchecked")
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Verifies Google ID tokens in-process: RS256 signature against the cached JWKS keys, then
+// issuer, audience, expiry and email_verified. No call to Google on the login path.
 @Service
 public class GoogleTokenVerifierService {
+	private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+	private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
 	private final String googleClientId;
-	private final RestClient restClient;
+	private final long clockSkewSeconds;
+	private final GoogleJwksKeySource keySource;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
 
-	public GoogleTokenVerifierService(@Value("${app.google.client-id}") String googleClientId) {
+	public GoogleTokenVerifierService(@Value("${app.google.client-id}") String googleClientId,
+			@Value("${app.google.clock-skew-seconds:60}") long clockSkewSeconds,
+			GoogleJwksKeySource keySource,
+			ObjectMapper objectMapper,
+			MeterRegistry meterRegistry) {
 		this.googleClientId = googleClientId;
-		this.restClient = RestClient.builder().baseUrl("https://oauth2.googleapis.com").build();
+		this.clockSkewSeconds = clockSkewSeconds;
+		this.keySource = keySource;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
 	}
 
 	public GoogleUserInfo verify(String idToken) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "error";
+		try {
+			GoogleUserInfo userInfo = verifyToken(idToken);
+			outcome = "success";
+			return userInfo;
+		} catch (IllegalArgumentException ex) {
+			outcome = "rejected";
+			throw ex;
+		} finally {
+			sample.stop(meterRegistry.timer("google.token.verify", "outcome", outcome));
+		}
+	}
+
+	private GoogleUserInfo verifyToken(String idToken) {
 		if (googleClientId == null || googleClientId.isBlank()) {
 			throw new IllegalArgumentException("Google login is not configured on the server");
 		}
 
+		String[] parts = idToken == null ? new String[0] : idToken.split("\\.");
+		if (parts.length != 3) {
+			throw new IllegalArgumentException("Invalid Google token");
+		}
+		JsonNode header = decode(parts[0]);
+		if (!"RS256".equals(header.path("alg").asText())) {
+			throw new IllegalArgumentException("Invalid Google token");
+		}
+		PublicKey key;
 		try {
-			Map<String, Object> payload = restClient
-					.get()
-					.uri(uriBuilder -> uriBuilder.path("/tokeninfo").queryParam("id_token", idToken).build())
-					.accept(MediaType.APPLICATION_JSON)
-					.retrieve()
-					.body(Map.class);
-
-			if (payload == null || payload.isEmpty()) {
-				throw new IllegalArgumentException("Invalid Google token");
-			}
-
-			String audience = asString(payload.get("aud"));
-			if (!googleClientId.equals(audience)) {
-				throw new IllegalArgumentException("Google token audience mismatch");
-			}
-
-			String emailVerifiedValue = asString(payload.get("email_verified"));
-			boolean isEmailVerified = "true".equalsIgnoreCase(emailVerifiedValue);
-			if (!isEmailVerified) {
-				throw new IllegalArgumentException("Google account email is not verified");
-			}
-
-			String email = asString(payload.get("email"));
-			String fullName = (String) payload.get("name");
-			if (email == null || email.isBlank()) {
-				throw new IllegalArgumentException("Google token does not contain an email");
-			}
-			if (fullName == null || fullName.isBlank()) {
-				fullName = email;
-			}
-			return new GoogleUserInfo(email.trim().toLowerCase(), fullName);
-		} catch (RestClientException ex) {
+			key = keySource.find(header.path("kid").asText());
+		} catch (IllegalStateException | RestClientException ex) {
 			throw new IllegalArgumentException("Failed to verify Google token");
 		}
+		if (!signatureMatches(parts, key)) {
+			throw new IllegalArgumentException("Invalid Google token");
+		}
+
+		JsonNode payload = decode(parts[1]);
+		if (!ISSUERS.contains(payload.path("iss").asText())) {
+			throw new IllegalArgumentException("Invalid Google token issuer");
+		}
+		if (!googleClientId.equals(payload.path("aud").asText())) {
+			throw new IllegalArgumentException("Google token audience mismatch");
+		}
+		if (!payload.path("exp").canConvertToLong()
+				|| payload.path("exp").asLong() + clockSkewSeconds < Instant.now().getEpochSecond()) {
+			throw new IllegalArgumentException("Google token has expired");
+		}
+
+		// email_verified is a boolean in ID tokens but has been a string in older tokens.
+		boolean isEmailVerified = "true".equalsIgnoreCase(payload.path("email_verified").asText());
+		if (!isEmailVerified) {
+			throw new IllegalArgumentException("Google account email is not verified");
+		}
+
+		String email = payload.path("email").asText(null);
+		String fullName = payload.path("name").asText(null);
+		if (email == null || email.isBlank()) {
+			throw new IllegalArgumentException("Google token does not contain an email");
+		}
+		if (fullName == null || fullName.isBlank()) {
+			fullName = email;
+		}
+		return new GoogleUserInfo(email.trim().toLowerCase(), fullName);
 	}
 
-	private String asString(Object value) {
-		return value == null ? null : String.valueOf(value);
+	private boolean signatureMatches(String[] parts, PublicKey key) {
+		try {
+			Signature signature = Signature.getInstance("SHA256withRSA");
+			signature.initVerify(key);
+			signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+			return signature.verify(BASE64_URL_DECODER.decode(parts[2]));
+		} catch (Exception ex) {
+			return false;
+		}
+	}
+
+	private JsonNode decode(String part) {
+		try {
+			return objectMapper.readTree(BASE64_URL_DECODER.decode(part));
+		} catch (Exception ex) {
+			throw new IllegalArgumentException("Invalid Google token");
+		}
 	}
 
 	public record GoogleUserInfo(String email, String fullName) {
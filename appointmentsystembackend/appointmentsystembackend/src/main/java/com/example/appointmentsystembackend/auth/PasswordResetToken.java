@@ -3,6 +3,7 @@ package com.example.appointmentsystembackend.auth;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
 import com.example.appointmentsystembackend.user.User;
 
 import jakarta.persistence.Column;
@@ -49,7 +50,7 @@ public class PasswordResetToken {
 	@PrePersist
 	public void prePersist() {
 		if (id == null) {
-			id = UUID.randomUUID();
+			id = TimeOrderedUuid.next();
 		}
 		if (createdAt == null) {
 			createdAt = OffsetDateTime.now();
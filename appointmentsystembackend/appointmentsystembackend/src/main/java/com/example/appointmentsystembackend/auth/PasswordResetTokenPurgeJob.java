@@ -0,0 +1,39 @@
+package com.example.appointmentsystembackend.auth;
+
+import java.time.OffsetDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.appointmentsystembackend.jobs.ClusterJob;
+
+// Deletes expired password reset codes. Expiry is checked when a code is used, so this only
+// keeps the table small; it used to run on every forgot-password request.
+@Component
+public class PasswordResetTokenPurgeJob implements ClusterJob {
+	private final PasswordResetTokenRepository passwordResetTokenRepository;
+	private final String cron;
+
+	public PasswordResetTokenPurgeJob(PasswordResetTokenRepository passwordResetTokenRepository,
+			@Value("${app.jobs.reset-token-purge-cron:0 0 * * * *}") String cron) {
+		this.passwordResetTokenRepository = passwordResetTokenRepository;
+		this.cron = cron;
+	}
+
+	@Override
+	public String name() {
+		return "reset-token-purge";
+	}
+
+	@Override
+	public String cron() {
+		return cron;
+	}
+
+	@Override
+	@Transactional
+	public long run() {
+		return passwordResetTokenRepository.deleteByExpiresAtBefore(OffsetDateTime.now());
+	}
+}
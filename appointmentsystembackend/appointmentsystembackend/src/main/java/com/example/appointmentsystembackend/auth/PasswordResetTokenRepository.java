@@ -5,6 +5,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.appointmentsystembackend.user.User;
 
@@ -13,5 +16,7 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
 
 	void deleteByUser(User user);
 
-	void deleteByExpiresAtBefore(OffsetDateTime cutoff);
+	@Modifying
+	@Query("delete from PasswordResetToken t where t.expiresAt < :cutoff")
+	int deleteByExpiresAtBefore(@Param("cutoff") OffsetDateTime cutoff);
 }
@@ -0,0 +1,42 @@
+package com.example.appointmentsystembackend.availability;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/availability")
+public class AvailabilityController {
+	private final AvailabilityService availabilityService;
+
+	public AvailabilityController(AvailabilityService availabilityService) {
+		this.availabilityService = availabilityService;
+	}
+
+	@GetMapping("/next")
+	public ResponseEntity<NextAvailabilityResponse> next(
+			@RequestParam UUID serviceId,
+			@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = "5") int limit) {
+		return ResponseEntity.ok(availabilityService.nextAvailable(serviceId, parseAfter(after), limit));
+	}
+
+	// Accepts 2025-03-04 or 2025-03-04T10:30; defaults to now.
+	private LocalDateTime parseAfter(String after) {
+		if (after == null || after.isBlank()) {
+			return LocalDateTime.now();
+		}
+		try {
+			return after.contains("T") ? LocalDateTime.parse(after) : LocalDate.parse(after).atStartOfDay();
+		} catch (DateTimeParseException ex) {
+			throw new IllegalArgumentException("after must be an ISO date or date-time");
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package com.example.appointmentsystembackend.availability;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.appointment.AppointmentService;
+import com.example.appointmentsystembackend.appointment.BookedSlot;
+import com.example.appointmentsystembackend.schedule.ClosureCalendar;
+import com.example.appointmentsystembackend.schedule.StaffAvailabilityCache;
+import com.example.appointmentsystembackend.schedule.WeeklyTemplate;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalogRepository;
+import com.example.appointmentsystembackend.settings.SystemSettings;
+import com.example.appointmentsystembackend.settings.SystemSettingsService;
+import com.example.appointmentsystembackend.user.User;
+
+// Earliest free slots for a service across every eligible staff member. Each staff member gets
+// a lazy iterator over their own free slots (weekly template, closures, existing bookings and
+// the daily cap); a priority queue keyed on each iterator's next slot merges them, so only as
+// many slots are generated as the answer needs. Bookings are loaded for all staff at once in
+// two-week chunks, and only as far ahead as the iterators actually get.
+@Service
+public class AvailabilityService {
+	private static final int MAX_LIMIT = 50;
+	private static final int LOAD_CHUNK_DAYS = 14;
+	private static final int DEFAULT_DURATION_MINUTES = 30;
+
+	private final AppointmentService appointmentService;
+	private final AppointmentRepository appointmentRepository;
+	private final ServiceCatalogRepository serviceCatalogRepository;
+	private final StaffAvailabilityCache availabilityCache;
+	private final ClosureCalendar closureCalendar;
+	private final SystemSettingsService settingsService;
+	private final int horizonDays;
+
+	public AvailabilityService(AppointmentService appointmentService, AppointmentRepository appointmentRepository,
+			ServiceCatalogRepository serviceCatalogRepository, StaffAvailabilityCache availabilityCache,
+			ClosureCalendar closureCalendar, SystemSettingsService settingsService,
+			@Value("${app.availability.horizon-days:90}") int horizonDays) {
+		this.appointmentService = appointmentService;
+		this.appointmentRepository = appointmentRepository;
+		this.serviceCatalogRepository = serviceCatalogRepository;
+		this.availabilityCache = availabilityCache;
+		this.closureCalendar = closureCalendar;
+		this.settingsService = settingsService;
+		this.horizonDays = horizonDays;
+	}
+
+	public NextAvailabilityResponse nextAvailable(UUID serviceId, LocalDateTime after, int limit) {
+		if (limit < 1 || limit > MAX_LIMIT) {
+			throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+		}
+		ServiceCatalog service = serviceCatalogRepository.findById(serviceId)
+				.filter(ServiceCatalog::isActive)
+				.orElseThrow(() -> new IllegalArgumentException("Service not found"));
+		SystemSettings settings = settingsService.getSettings();
+		int duration = settings.getAppointmentDuration() > 0 ? settings.getAppointmentDuration() : DEFAULT_DURATION_MINUTES;
+		int dailyCap = settings.getMaxAppointmentsPerDay();
+
+		List<User> staff = appointmentService.eligibleStaffForService(service);
+		List<AvailableSlot> slots = new ArrayList<>(limit);
+		if (staff.isEmpty()) {
+			return new NextAvailabilityResponse(serviceId.toString(), duration, slots);
+		}
+		LocalDate lastDay = after.toLocalDate().plusDays(horizonDays);
+		Bookings bookings = new Bookings(staff.stream().map(User::getId).toList(), after.toLocalDate(), lastDay);
+
+		PriorityQueue<StaffSlots> queue = new PriorityQueue<>(staff.size(),
+				Comparator.comparing(StaffSlots::current).thenComparingInt(StaffSlots::order));
+		for (int i = 0; i < staff.size(); i++) {
+			User member = staff.get(i);
+			StaffSlots iterator = new StaffSlots(member, i, availabilityCache.get(member.getId()),
+					service.getDepartmentId(), after, lastDay, duration, dailyCap, bookings);
+			if (iterator.advance()) {
+				queue.add(iterator);
+			}
+		}
+
+		LocalDateTime lastTaken = null;
+		while (slots.size() < limit && !queue.isEmpty()) {
+			StaffSlots next = queue.poll();
+			LocalDateTime slot = next.current();
+			// Several staff are often free at the same time; offer the time once.
+			if (!slot.equals(lastTaken)) {
+				slots.add(new AvailableSlot(slot.toLocalDate().toString(), slot.toLocalTime().toString(),
+						next.staff.getId().toString(), next.staff.getFullName()));
+				lastTaken = slot;
+			}
+			if (next.advance()) {
+				queue.add(next);
+			}
+		}
+		return new NextAvailabilityResponse(serviceId.toString(), duration, slots);
+	}
+
+	private final class StaffSlots {
+		private final User staff;
+		private final int order;
+		private final WeeklyTemplate template;
+		private final UUID departmentId;
+		private final LocalDateTime after;
+		private final LocalDate lastDay;
+		private final int duration;
+		private final int dailyCap;
+		private final Bookings bookings;
+
+		private LocalDate day;
+		private int nextMinute = -1;
+		private LocalDateTime current;
+
+		StaffSlots(User staff, int order, WeeklyTemplate template, UUID departmentId, LocalDateTime after,
+				LocalDate lastDay, int duration, int dailyCap, Bookings bookings) {
+			this.staff = staff;
+			this.order = order;
+			this.template = template;
+			this.departmentId = departmentId;
+			this.after = after;
+			this.lastDay = lastDay;
+			this.duration = duration;
+			this.dailyCap = dailyCap;
+			this.bookings = bookings;
+			this.day = after.toLocalDate();
+		}
+
+		LocalDateTime current() {
+			return current;
+		}
+
+		int order() {
+			return order;
+		}
+
+		boolean advance() {
+			while (!day.isAfter(lastDay)) {
+				if (nextMinute < 0) {
+					nextMinute = openDay() ? minuteOf(template.day(day.getDayOfWeek()).start()) : Integer.MAX_VALUE;
+				}
+				int end = minuteOf(template.day(day.getDayOfWeek()).end());
+				TreeSet<Integer> booked = bookings.on(staff.getId(), day);
+				while (nextMinute != Integer.MAX_VALUE && nextMinute + duration <= end) {
+					int start = nextMinute;
+					nextMinute += duration;
+					LocalDateTime candidate = day.atTime(start / 60, start % 60);
+					if (candidate.isAfter(after)
+							&& AppointmentService.isBookableDayAndTime(day, candidate.toLocalTime())
+							&& !overlaps(booked, start)) {
+						current = candidate;
+						return true;
+					}
+				}
+				day = day.plusDays(1);
+				nextMinute = -1;
+			}
+			return false;
+		}
+
+		private boolean openDay() {
+			if (!template.isWorkingOn(day) || closureCalendar.isClosed(day, departmentId)) {
+				return false;
+			}
+			return dailyCap <= 0 || bookings.on(staff.getId(), day).size() < dailyCap;
+		}
+
+		// Existing bookings need not sit on this grid, so any start within one duration conflicts.
+		private boolean overlaps(TreeSet<Integer> booked, int start) {
+			Integer nearest = booked.ceiling(start - duration + 1);
+			return nearest != null && nearest < start + duration;
+		}
+	}
+
+	private final class Bookings {
+		private static final TreeSet<Integer> NONE = new TreeSet<>();
+
+		private final List<UUID> staffIds;
+		private final LocalDate lastDay;
+		private final Map<UUID, Map<LocalDate, TreeSet<Integer>>> byStaff = new HashMap<>();
+		private LocalDate loadedUntil;
+
+		Bookings(List<UUID> staffIds, LocalDate firstDay, LocalDate lastDay) {
+			this.staffIds = staffIds;
+			this.lastDay = lastDay;
+			this.loadedUntil = firstDay.minusDays(1);
+		}
+
+		TreeSet<Integer> on(UUID staffId, LocalDate day) {
+			while (day.isAfter(loadedUntil) && loadedUntil.isBefore(lastDay)) {
+				LocalDate from = loadedUntil.plusDays(1);
+				LocalDate to = from.plusDays(LOAD_CHUNK_DAYS - 1);
+				if (to.isAfter(lastDay)) {
+					to = lastDay;
+				}
+				for (BookedSlot slot : appointmentRepository.findBookedSlots(staffIds, from, to)) {
+					byStaff.computeIfAbsent(slot.staffId(), id -> new HashMap<>())
+							.computeIfAbsent(slot.date(), date -> new TreeSet<>())
+							.add(minuteOf(slot.time()));
+				}
+				loadedUntil = to;
+			}
+			return byStaff.getOrDefault(staffId, Map.of()).getOrDefault(day, NONE);
+		}
+	}
+
+	private static int minuteOf(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+}
@@ -0,0 +1,8 @@
+package com.example.appointmentsystembackend.availability;
+
+public record AvailableSlot(
+		String date,
+		String time,
+		String staffId,
+		String staffName) {
+}
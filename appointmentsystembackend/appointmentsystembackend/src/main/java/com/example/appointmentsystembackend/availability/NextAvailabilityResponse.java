@@ -0,0 +1,9 @@
+package com.example.appointmentsystembackend.availability;
+
+import java.util.List;
+
+public record NextAvailabilityResponse(
+		String serviceId,
+		int durationMinutes,
+		List<AvailableSlot> slots) {
+}
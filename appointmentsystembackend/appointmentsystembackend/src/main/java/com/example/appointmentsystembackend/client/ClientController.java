@@ -13,9 +13,11 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.common.Paging;
 import com.example.appointmentsystembackend.user.Role;
 import com.example.appointmentsystembackend.user.User;
 import com.example.appointmentsystembackend.user.UserRepository;
@@ -34,13 +36,18 @@ public class ClientController {
 		this.appointmentRepository = appointmentRepository;
 	}
 
+	// active narrows the page to active (true) or inactive (false) clients.
 	@GetMapping
-	public ResponseEntity<List<ClientResponse>> list() {
-		List<ClientResponse> clients = userRepository.findAll().stream()
-				.filter(user -> user.getRole() == Role.CLIENT)
-				.map(user -> ClientResponse.from(user, appointmentRepository.countByClientId(user.getId())))
-				.toList();
-		return ResponseEntity.ok(clients);
+	public ResponseEntity<List<ClientResponse>> list(
+			@RequestParam(required = false) String q,
+			@RequestParam(required = false) Boolean active,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "100") int size) {
+		requireAdmin();
+		List<Boolean> actives = active != null ? List.of(active) : List.of(true, false);
+		return Paging.ok(userRepository
+				.findClientsWithAppointmentCounts(Paging.containsPattern(q), actives, Paging.pageRequest(page, size))
+				.map(row -> ClientResponse.from(row.user(), row.appointments())));
 	}
 
 	@PatchMapping("/{id}/status")
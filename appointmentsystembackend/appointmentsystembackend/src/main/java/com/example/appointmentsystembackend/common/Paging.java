@@ -0,0 +1,45 @@
+package com.example.appointmentsystembackend.common;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+
+// page/size query parameters for list endpoints. Bodies stay plain JSON arrays; the total row
+// count travels in the X-Total-Count header.
+public final class Paging {
+	public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+	public static final int MAX_SIZE = 500;
+
+	private Paging() {
+	}
+
+	public static PageRequest pageRequest(int page, int size) {
+		if (page < 0) {
+			throw new IllegalArgumentException("page must not be negative");
+		}
+		if (size < 1 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE);
+		}
+		return PageRequest.of(page, size);
+	}
+
+	public static <T> ResponseEntity<List<T>> ok(Page<T> page) {
+		return ResponseEntity.ok()
+				.header(TOTAL_COUNT_HEADER, Long.toString(page.getTotalElements()))
+				.body(page.getContent());
+	}
+
+	// Lowercased LIKE pattern matching the term anywhere; "%" when there is no term.
+	public static String containsPattern(String term) {
+		if (term == null || term.isBlank()) {
+			return "%";
+		}
+		String escaped = term.trim().toLowerCase()
+				.replace("\\", "\\\\")
+				.replace("%", "\\%")
+				.replace("_", "\\_");
+		return "%" + escaped + "%";
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.appointmentsystembackend.common;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// RFC 9562 version 7 UUIDs: 48-bit Unix milliseconds, then a 12-bit counter, then random bits.
+// New primary keys sort after existing ones, so inserts append to the right edge of the B-tree
+// instead of splitting random pages the way v4 keys do. The counter keeps ids from one JVM
+// strictly increasing, even within the same millisecond or if the clock steps back.
+public final class TimeOrderedUuid {
+	private static final AtomicLong LAST = new AtomicLong();
+
+	private TimeOrderedUuid() {
+	}
+
+	public static UUID next() {
+		long candidate = System.currentTimeMillis() << 12;
+		long current;
+		long next;
+		do {
+			current = LAST.get();
+			next = Math.max(candidate, current + 1);
+		} while (!LAST.compareAndSet(current, next));
+
+		long timestampAndCounter = next;
+		long mostSignificant = ((timestampAndCounter >>> 12) << 16) | 0x7000L | (timestampAndCounter & 0xFFFL);
+		long leastSignificant = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSignificant, leastSignificant);
+	}
+}
@@ -3,6 +3,8 @@ package com.example.appointmentsystembackend.department;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -51,7 +53,7 @@ public class Department {
 	@PrePersist
 	public void prePersist() {
 		if (id == null) {
-			id = UUID.randomUUID();
+			id = TimeOrderedUuid.next();
 		}
 		OffsetDateTime now = OffsetDateTime.now();
 		if (createdAt == null) {
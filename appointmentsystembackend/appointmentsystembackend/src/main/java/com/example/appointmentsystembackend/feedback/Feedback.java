@@ -4,6 +4,7 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 import com.example.appointmentsystembackend.appointment.Appointment;
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
 import com.example.appointmentsystembackend.user.User;
 
 import jakarta.persistence.Column;
@@ -57,7 +58,7 @@ public class Feedback {
 	@PrePersist
 	public void prePersist() {
 		if (id == null) {
-			id = UUID.randomUUID();
+			id = TimeOrderedUuid.next();
 		}
 		if (createdAt == null) {
 			createdAt = OffsetDateTime.now();
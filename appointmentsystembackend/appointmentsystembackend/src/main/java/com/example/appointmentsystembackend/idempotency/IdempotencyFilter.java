@@ -0,0 +1,208 @@
+package com.example.appointmentsystembackend.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.example.appointmentsystembackend.user.User;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Honours an Idempotency-Key header on appointment creation and updates. Keys are scoped to the
+// authenticated user. A retry with the same key and body gets the stored response back without
+// running the handler again; the same key with a different body is rejected, as is a retry that
+// arrives while the first request is still running. Server errors are not stored, so those
+// requests can be retried for real. Bodies above max-body-bytes are not kept: a replay of such a
+// response gets the original status with an empty body.
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+	public static final String HEADER = "Idempotency-Key";
+	private static final Pattern APPOINTMENT_UPDATE = Pattern.compile("/api/appointments/(series/)?[^/]+");
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final IdempotencyStore store;
+	private final int maxBodyBytes;
+
+	public IdempotencyFilter(IdempotencyStore store,
+			@Value("${app.idempotency.max-body-bytes:65536}") int maxBodyBytes) {
+		this.store = store;
+		this.maxBodyBytes = maxBodyBytes;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (request.getHeader(HEADER) == null) {
+			return true;
+		}
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return switch (request.getMethod()) {
+			case "POST" -> !path.equals("/api/appointments") && !path.equals("/api/appointments/series");
+			case "PATCH" -> !APPOINTMENT_UPDATE.matcher(path).matches();
+			default -> true;
+		};
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		String idempotencyKey = request.getHeader(HEADER).trim();
+		if (!(authentication != null && authentication.getPrincipal() instanceof User user)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1 to 255 characters");
+			return;
+		}
+
+		byte[] body = request.getInputStream().readAllBytes();
+		String key = user.getId() + ":" + idempotencyKey;
+		String fingerprint = fingerprint(request, body);
+		IdempotencyStore.Entry existing;
+		try {
+			existing = store.reserve(key, fingerprint);
+		} catch (IdempotencyStoreFullException ex) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+			writeError(response, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+			return;
+		}
+		if (existing != null) {
+			if (!existing.fingerprint().equals(fingerprint)) {
+				writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+						"Idempotency-Key was already used for a different request");
+			} else if (!existing.completed()) {
+				writeError(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still in progress");
+			} else {
+				replay(response, existing);
+			}
+			return;
+		}
+
+		ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		boolean stored = false;
+		try {
+			filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+			if (responseWrapper.getStatus() < 500) {
+				byte[] content = responseWrapper.getContentAsByteArray();
+				if (content.length > maxBodyBytes) {
+					store.complete(key, fingerprint, responseWrapper.getStatus(), null, null);
+				} else {
+					store.complete(key, fingerprint, responseWrapper.getStatus(), responseWrapper.getContentType(),
+							content);
+				}
+				stored = true;
+			}
+		} finally {
+			if (!stored) {
+				store.release(key);
+			}
+			responseWrapper.copyBodyToResponse();
+		}
+	}
+
+	private void replay(HttpServletResponse response, IdempotencyStore.Entry entry) throws IOException {
+		response.setStatus(entry.status());
+		response.setHeader("Idempotent-Replayed", "true");
+		if (entry.body() == null) {
+			response.setContentLength(0);
+			return;
+		}
+		if (entry.contentType() != null) {
+			response.setContentType(entry.contentType());
+		}
+		response.getOutputStream().write(entry.body());
+	}
+
+	private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+		response.setStatus(status.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.getWriter().write("{\"error\":\"" + message + "\"}");
+	}
+
+	private String fingerprint(HttpServletRequest request, byte[] body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest(body));
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("Failed to hash request", ex);
+		}
+	}
+
+	// Lets the handler read the body that was already consumed for the fingerprint.
+	private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+		private final byte[] body;
+
+		private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+			super(request);
+			this.body = body;
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream in = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+				@Override
+				public int read() {
+					return in.read();
+				}
+
+				@Override
+				public int read(byte[] buffer, int offset, int length) {
+					return in.read(buffer, offset, length);
+				}
+
+				@Override
+				public boolean isFinished() {
+					return in.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				// The whole body is already in memory, so it is available at once.
+				@Override
+				public void setReadListener(ReadListener listener) {
+					try {
+						if (in.available() > 0) {
+							listener.onDataAvailable();
+						}
+						listener.onAllDataRead();
+					} catch (IOException ex) {
+						listener.onError(ex);
+					}
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+		}
+	}
+}
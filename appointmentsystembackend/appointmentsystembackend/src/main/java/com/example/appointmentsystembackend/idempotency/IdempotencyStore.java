@@ -0,0 +1,99 @@
+package com.example.appointmentsystembackend.idempotency;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// In-memory record of recent idempotent requests: key -> request fingerprint and, once finished,
+// the response to replay. Every entry lives for the same TTL, so insertion order is expiry order
+// and expired entries are always at the head of the queue. Size is capped at max-entries: when
+// full, the oldest completed entries make room, but an in-progress entry is never evicted (its
+// retry would run the request twice), so a store full of them rejects new reservations.
+@Component
+public class IdempotencyStore {
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Queue<Expiry> expiries = new ConcurrentLinkedQueue<>();
+	private final long ttlNanos;
+	private final int maxEntries;
+
+	public IdempotencyStore(@Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+			@Value("${app.idempotency.max-entries:50000}") int maxEntries) {
+		this.ttlNanos = Duration.ofHours(ttlHours).toNanos();
+		this.maxEntries = maxEntries;
+	}
+
+	// Returns null when the key was free and is now reserved for the caller, otherwise the
+	// existing entry (in progress or completed). Throws IdempotencyStoreFullException when every
+	// slot holds a request that is still in progress.
+	Entry reserve(String key, String fingerprint) {
+		evictExpired();
+		if (entries.size() >= maxEntries && !evictCompleted() && !entries.containsKey(key)) {
+			throw new IdempotencyStoreFullException("Too many requests in progress, retry shortly");
+		}
+		long expiresAt = System.nanoTime() + ttlNanos;
+		Entry reserved = new Entry(fingerprint, expiresAt, 0, null, null);
+		Entry existing = entries.putIfAbsent(key, reserved);
+		if (existing == null) {
+			expiries.add(new Expiry(key, expiresAt));
+		}
+		return existing;
+	}
+
+	void complete(String key, String fingerprint, int status, String contentType, byte[] body) {
+		entries.computeIfPresent(key, (ignored, entry) -> new Entry(fingerprint, entry.expiresAt(), status,
+				contentType, body));
+	}
+
+	void release(String key) {
+		entries.remove(key);
+	}
+
+	private void evictExpired() {
+		long now = System.nanoTime();
+		Expiry head;
+		while ((head = expiries.peek()) != null && head.expiresAt() - now <= 0) {
+			if (expiries.remove(head)) {
+				removeIfCurrent(head);
+			}
+		}
+	}
+
+	// Walks from the oldest entry, skipping in-progress ones, until the store is below its cap.
+	// Only runs when full; expiries left behind by released keys are dropped on the way.
+	private boolean evictCompleted() {
+		Iterator<Expiry> it = expiries.iterator();
+		while (entries.size() >= maxEntries && it.hasNext()) {
+			Expiry expiry = it.next();
+			Entry entry = entries.get(expiry.key());
+			if (entry == null || entry.expiresAt() != expiry.expiresAt()) {
+				it.remove();
+			} else if (entry.completed() && entries.remove(expiry.key(), entry)) {
+				it.remove();
+			}
+		}
+		return entries.size() < maxEntries;
+	}
+
+	// A released and re-reserved key has a newer expiry; leave that entry alone.
+	private void removeIfCurrent(Expiry expiry) {
+		Entry entry = entries.get(expiry.key());
+		if (entry != null && entry.expiresAt() == expiry.expiresAt()) {
+			entries.remove(expiry.key(), entry);
+		}
+	}
+
+	record Entry(String fingerprint, long expiresAt, int status, String contentType, byte[] body) {
+		boolean completed() {
+			return status != 0;
+		}
+	}
+
+	private record Expiry(String key, long expiresAt) {
+	}
+}
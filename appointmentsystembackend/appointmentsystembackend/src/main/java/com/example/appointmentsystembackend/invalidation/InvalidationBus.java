@@ -0,0 +1,240 @@
+package com.example.appointmentsystembackend.invalidation;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// Cross-node cache invalidation over Postgres LISTEN/NOTIFY. Writers call publish inside their
+// transaction: the type's counter in cache_versions is bumped and a NOTIFY queued, and Postgres
+// delivers it to every listening node only when the transaction commits. Each node listens on a
+// dedicated connection and republishes other nodes' messages as InvalidationMessage events for
+// the caches to evict from.
+//
+// Writers of one type are serialised by its counter row, so each node sees a type's versions in
+// order. A gap, or a counter ahead of the last message when it is checked periodically, means
+// messages were missed (the listener was disconnected, say), and every entry of that type is
+// dropped instead.
+@Component
+public class InvalidationBus implements InvalidationPublisher {
+	private static final Logger logger = LoggerFactory.getLogger(InvalidationBus.class);
+	static final String CHANNEL = "cache_invalidation";
+	private static final int POLL_MILLIS = 1000;
+	private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+	// Keeps a batched payload (37 bytes per id) well under pg_notify's 8000-byte limit.
+	static final int MAX_BATCH_IDS = 150;
+	private static final String BUMP_SQL = """
+			INSERT INTO cache_versions (type, version) VALUES (?, 1)
+			ON CONFLICT (type) DO UPDATE SET version = cache_versions.version + 1
+			RETURNING version
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final DataSourceProperties dataSourceProperties;
+	private final boolean enabled;
+	private final Duration checkInterval;
+	private final String nodeId = UUID.randomUUID().toString();
+	// Last version applied per versioned type; only used by the listener thread.
+	private final Map<InvalidationType, Long> versions = new EnumMap<>(InvalidationType.class);
+	private final Counter received;
+	private final Counter resyncs;
+	private volatile boolean running;
+	private Thread listener;
+
+	public InvalidationBus(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+			DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry,
+			@Value("${app.invalidation.enabled:true}") boolean enabled,
+			@Value("${app.invalidation.check-seconds:30}") long checkSeconds) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.eventPublisher = eventPublisher;
+		this.dataSourceProperties = dataSourceProperties;
+		this.enabled = enabled;
+		this.checkInterval = Duration.ofSeconds(checkSeconds);
+		this.received = meterRegistry.counter("cache.invalidation.received");
+		this.resyncs = meterRegistry.counter("cache.invalidation.resyncs");
+	}
+
+	@Override
+	public void publish(InvalidationType type, UUID id) {
+		if (!enabled) {
+			return;
+		}
+		long version = type.versioned() ? jdbcTemplate.queryForObject(BUMP_SQL, Long.class, type.name()) : 0;
+		jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL,
+				new InvalidationMessage(type, id, version, nodeId).encode());
+	}
+
+	// One NOTIFY, and one counter bump, for the whole batch. Past MAX_BATCH_IDS the receivers
+	// drop every entry of the type instead.
+	@Override
+	public void publishAll(InvalidationType type, Collection<UUID> ids) {
+		if (!enabled || ids.isEmpty()) {
+			return;
+		}
+		if (ids.size() == 1 || ids.size() > MAX_BATCH_IDS) {
+			publish(type, ids.size() == 1 ? ids.iterator().next() : null);
+			return;
+		}
+		long version = type.versioned() ? jdbcTemplate.queryForObject(BUMP_SQL, Long.class, type.name()) : 0;
+		jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL,
+				InvalidationMessage.encode(type, ids, version, nodeId));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		listener = new Thread(this::listen, "cache-invalidation-listener");
+		listener.setDaemon(true);
+		listener.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (listener != null) {
+			listener.interrupt();
+		}
+	}
+
+	private void listen() {
+		boolean reconnecting = false;
+		while (running) {
+			try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+					dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+				PGConnection notifications = connection.unwrap(PGConnection.class);
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN " + CHANNEL);
+				}
+				// Caches are empty on the first connect; after a reconnect anything may have changed.
+				checkVersions(connection, notifications, reconnecting);
+				if (reconnecting) {
+					for (InvalidationType type : InvalidationType.values()) {
+						if (!type.versioned()) {
+							resync(type, 0);
+						}
+					}
+				}
+				reconnecting = true;
+				long nextCheck = System.nanoTime() + checkInterval.toNanos();
+				while (running) {
+					receive(notifications.getNotifications(POLL_MILLIS));
+					if (System.nanoTime() - nextCheck >= 0) {
+						checkVersions(connection, notifications, true);
+						nextCheck = System.nanoTime() + checkInterval.toNanos();
+					}
+				}
+			} catch (SQLException ex) {
+				if (!running) {
+					return;
+				}
+				logger.warn("Cache invalidation listener lost its connection; reconnecting", ex);
+				try {
+					Thread.sleep(RETRY_DELAY.toMillis());
+				} catch (InterruptedException interrupted) {
+					return;
+				}
+			}
+		}
+	}
+
+	// Messages received while the query ran are applied first, so a counter is only treated as
+	// ahead when its message really has not arrived; at worst a race costs one extra resync.
+	private void checkVersions(Connection connection, PGConnection notifications, boolean resync) throws SQLException {
+		Map<InvalidationType, Long> current = new EnumMap<>(InvalidationType.class);
+		try (Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery("SELECT type, version FROM cache_versions")) {
+			while (rs.next()) {
+				try {
+					current.put(InvalidationType.valueOf(rs.getString("type")), rs.getLong("version"));
+				} catch (IllegalArgumentException ex) {
+					// A type added by a newer node; nothing here caches it.
+				}
+			}
+		}
+		receive(notifications.getNotifications());
+		current.forEach((type, version) -> {
+			if (!resync) {
+				versions.put(type, version);
+			} else if (version > versions.getOrDefault(type, 0L)) {
+				resync(type, version);
+			}
+		});
+	}
+
+	private void receive(PGNotification[] notifications) {
+		if (notifications == null) {
+			return;
+		}
+		for (PGNotification notification : notifications) {
+			List<InvalidationMessage> messages = InvalidationMessage.parse(notification.getParameter());
+			if (messages.isEmpty()) {
+				logger.debug("Ignoring unknown cache invalidation {}", notification.getParameter());
+				continue;
+			}
+			// The messages of a batch share their type, version and node.
+			InvalidationMessage message = messages.get(0);
+			received.increment();
+			InvalidationType type = message.type();
+			if (type.versioned()) {
+				long known = versions.getOrDefault(type, 0L);
+				if (message.version() <= known) {
+					// Already covered by a resync.
+					continue;
+				}
+				versions.put(type, message.version());
+				if (message.version() > known + 1) {
+					resync(type, message.version());
+					continue;
+				}
+			}
+			// This node's own caches were invalidated by the writer.
+			if (!nodeId.equals(message.node())) {
+				messages.forEach(this::deliver);
+			}
+		}
+	}
+
+	private void resync(InvalidationType type, long version) {
+		if (type.versioned()) {
+			versions.put(type, version);
+		}
+		resyncs.increment();
+		logger.info("Cache invalidations for {} may have been missed; dropping all entries", type);
+		deliver(InvalidationMessage.all(type, version));
+	}
+
+	private void deliver(InvalidationMessage message) {
+		try {
+			eventPublisher.publishEvent(message);
+		} catch (RuntimeException ex) {
+			logger.warn("Failed to apply cache invalidation {}", message, ex);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.appointmentsystembackend.invalidation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Delivered as an application event on each node for changes made by another node. A null id
+// means every entry of the type must be dropped: sent when messages may have been missed.
+public record InvalidationMessage(InvalidationType type, UUID id, long version, String node) {
+	static InvalidationMessage all(InvalidationType type, long version) {
+		return new InvalidationMessage(type, null, version, null);
+	}
+
+	public boolean all() {
+		return id == null;
+	}
+
+	String encode() {
+		return encode(type, id != null ? List.of(id) : List.of(), version, node);
+	}
+
+	// Several ids of a type share one payload as a comma-separated list; none means all.
+	static String encode(InvalidationType type, Collection<UUID> ids, long version, String node) {
+		return type.name() + ";" + ids.stream().map(UUID::toString).collect(Collectors.joining(",")) + ";"
+				+ version + ";" + node;
+	}
+
+	// One message per id in the payload. Empty for payloads this version does not understand,
+	// e.g. from a newer node during a rollout.
+	static List<InvalidationMessage> parse(String payload) {
+		String[] parts = payload.split(";", -1);
+		if (parts.length != 4) {
+			return List.of();
+		}
+		try {
+			InvalidationType type = InvalidationType.valueOf(parts[0]);
+			long version = Long.parseLong(parts[2]);
+			if (parts[1].isEmpty()) {
+				return List.of(new InvalidationMessage(type, null, version, parts[3]));
+			}
+			List<InvalidationMessage> messages = new ArrayList<>();
+			for (String id : parts[1].split(",")) {
+				messages.add(new InvalidationMessage(type, UUID.fromString(id), version, parts[3]));
+			}
+			return messages;
+		} catch (IllegalArgumentException ex) {
+			return List.of();
+		}
+	}
+}
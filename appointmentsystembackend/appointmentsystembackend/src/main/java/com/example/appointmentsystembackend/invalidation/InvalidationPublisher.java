@@ -0,0 +1,17 @@
+package com.example.appointmentsystembackend.invalidation;
+
+import java.util.Collection;
+import java.util.UUID;
+
+// Tells the other nodes that cached data of the given type changed. Call inside the writing
+// transaction; the message is only delivered if it commits.
+@FunctionalInterface
+public interface InvalidationPublisher {
+	// A null id stands for every entry of the type.
+	void publish(InvalidationType type, UUID id);
+
+	// Several ids of one type at once; publishers that cannot batch send them one by one.
+	default void publishAll(InvalidationType type, Collection<UUID> ids) {
+		ids.forEach(id -> publish(type, id));
+	}
+}
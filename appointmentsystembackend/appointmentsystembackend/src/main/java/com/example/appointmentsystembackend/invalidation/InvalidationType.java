@@ -0,0 +1,23 @@
+package com.example.appointmentsystembackend.invalidation;
+
+public enum InvalidationType {
+	// Id is the staff member.
+	STAFF_AVAILABILITY(true),
+	// No id; the closure calendar is rebuilt as a whole.
+	CLOSURES(true),
+	// Id is the service whose queue changed.
+	WAITLIST(true),
+	// Id is the appointment. Appointment writes are too frequent to share one counter row, so
+	// these are not versioned; missed ones are covered by the full resync after a reconnect.
+	APPOINTMENT(false);
+
+	private final boolean versioned;
+
+	InvalidationType(boolean versioned) {
+		this.versioned = versioned;
+	}
+
+	public boolean versioned() {
+		return versioned;
+	}
+}
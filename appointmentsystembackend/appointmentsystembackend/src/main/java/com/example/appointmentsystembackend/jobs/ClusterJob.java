@@ -0,0 +1,22 @@
+package com.example.appointmentsystembackend.jobs;
+
+import java.time.Duration;
+
+// Background work that must run on one node of the cluster at a time. Beans of this type are
+// scheduled by JobSchedulingConfig and run through JobRunner, which only lets the node holding
+// the job's advisory lock run it.
+public interface ClusterJob {
+	String name();
+
+	// Spring cron expression; when null the job runs with fixedDelay() between runs.
+	default String cron() {
+		return null;
+	}
+
+	default Duration fixedDelay() {
+		return Duration.ofMinutes(5);
+	}
+
+	// Performs one run and returns the number of rows it processed.
+	long run();
+}
@@ -0,0 +1,44 @@
+package com.example.appointmentsystembackend.jobs;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+	private final JobRunner jobRunner;
+	private final List<ClusterJob> jobs;
+
+	public JobController(JobRunner jobRunner, List<ClusterJob> jobs) {
+		this.jobRunner = jobRunner;
+		this.jobs = jobs;
+	}
+
+	@GetMapping
+	public ResponseEntity<List<JobStatusResponse>> list() {
+		requireAdmin();
+		return ResponseEntity.ok(jobRunner.statuses(jobs));
+	}
+
+	private void requireAdmin() {
+		User user = currentUser();
+		if (user.getRole() != Role.ADMIN) {
+			throw new AccessDeniedException("Admin role required");
+		}
+	}
+
+	private User currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return (User) authentication.getPrincipal();
+	}
+}
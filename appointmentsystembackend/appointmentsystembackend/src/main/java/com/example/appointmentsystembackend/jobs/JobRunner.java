@@ -0,0 +1,301 @@
+package com.example.appointmentsystembackend.jobs;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Leader election per job with Postgres session-level advisory locks. Each node keeps one
+// coordination connection; the first node to take a job's lock on it runs that job on every
+// trigger until the session ends, and the other nodes' pg_try_advisory_lock calls fail so
+// they skip it. When the leader dies its session closes, Postgres releases the locks and the
+// next trigger on another node takes over. The run is recorded in scheduled_jobs through the
+// same session before the job starts, so a node whose session has been lost finds out there
+// and does not run. A heartbeat keeps the session busy and reports the owner. The session is
+// opened with the driver, outside the Hikari pool, so holding it for the node's lifetime does
+// not take a connection away from requests. The session's JDBC calls run under a
+// ReentrantLock rather than a monitor, so scheduler threads waiting on it are not pinned.
+@Component
+public class JobRunner implements DisposableBean {
+	private static final Logger logger = LoggerFactory.getLogger(JobRunner.class);
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	private final DataSourceProperties dataSourceProperties;
+	private final JdbcTemplate jdbcTemplate;
+	private final MeterRegistry meterRegistry;
+	private final String nodeId;
+	private final Set<String> running = ConcurrentHashMap.newKeySet();
+	private final ReentrantLock lock = new ReentrantLock();
+	// Guarded by lock.
+	private Connection session;
+	private final Set<String> held = new HashSet<>();
+
+	public JobRunner(DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+			@Value("${app.jobs.node-id:}") String nodeId) {
+		this.dataSourceProperties = dataSourceProperties;
+		this.jdbcTemplate = jdbcTemplate;
+		this.meterRegistry = meterRegistry;
+		this.nodeId = nodeId == null || nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+	}
+
+	public void trigger(ClusterJob job) {
+		if (!running.add(job.name())) {
+			return;
+		}
+		try {
+			if (lead(job) && due(job)) {
+				execute(job);
+			}
+		} catch (SQLException ex) {
+			logger.warn("Job coordination for {} failed; releasing leadership", job.name(), ex);
+			reset();
+		} finally {
+			running.remove(job.name());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.jobs.heartbeat-seconds:15}", timeUnit = TimeUnit.SECONDS)
+	public void heartbeat() {
+		lock.lock();
+		try {
+			if (held.isEmpty()) {
+				return;
+			}
+			try (PreparedStatement statement = session.prepareStatement(
+					"UPDATE scheduled_jobs SET heartbeat_at = ?, owner = ? WHERE name = ANY (?)")) {
+				statement.setObject(1, OffsetDateTime.now());
+				statement.setString(2, nodeId);
+				statement.setArray(3, session.createArrayOf("varchar", held.toArray()));
+				statement.executeUpdate();
+			} catch (SQLException ex) {
+				logger.warn("Job coordination session lost; releasing leadership of {}", held, ex);
+				reset();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public List<JobStatusResponse> statuses(List<ClusterJob> jobs) {
+		Map<String, JobStatusResponse> rows = jdbcTemplate.query("SELECT * FROM scheduled_jobs",
+				(rs, rowNum) -> new JobStatusResponse(
+						rs.getString("name"),
+						null,
+						rs.getString("owner"),
+						text(rs.getObject("heartbeat_at", OffsetDateTime.class)),
+						rs.getString("last_status"),
+						text(rs.getObject("last_started_at", OffsetDateTime.class)),
+						text(rs.getObject("last_finished_at", OffsetDateTime.class)),
+						rs.getObject("last_duration_ms", Long.class),
+						rs.getObject("last_rows", Long.class),
+						rs.getString("last_error")))
+				.stream()
+				.collect(Collectors.toMap(JobStatusResponse::name, Function.identity()));
+		return jobs.stream()
+				.map(job -> {
+					String schedule = job.cron() != null ? "cron " + job.cron() : "every " + job.fixedDelay();
+					JobStatusResponse row = rows.get(job.name());
+					if (row == null) {
+						return new JobStatusResponse(job.name(), schedule, null, null, null, null, null, null, null, null);
+					}
+					return new JobStatusResponse(job.name(), schedule, row.owner(), row.heartbeatAt(), row.lastStatus(),
+							row.lastStartedAt(), row.lastFinishedAt(), row.lastDurationMs(), row.lastRows(),
+							row.lastError());
+				})
+				.toList();
+	}
+
+	@Override
+	public void destroy() {
+		reset();
+	}
+
+	private boolean lead(ClusterJob job) throws SQLException {
+		lock.lock();
+		try {
+			if (held.contains(job.name())) {
+				return true;
+			}
+			if (session == null || session.isClosed()) {
+				session = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+						dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+				session.setAutoCommit(true);
+			}
+			try (PreparedStatement statement = session.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+				statement.setLong(1, lockKey(job.name()));
+				try (ResultSet rs = statement.executeQuery()) {
+					if (!rs.next() || !rs.getBoolean(1)) {
+						return false;
+					}
+				}
+			}
+			held.add(job.name());
+			logger.info("Node {} is now running job {}", nodeId, job.name());
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// A newly elected leader may take over right after the previous one ran, so a run is only
+	// due once the schedule has moved past the last recorded start or finish.
+	private boolean due(ClusterJob job) throws SQLException {
+		lock.lock();
+		try {
+			try (PreparedStatement statement = session.prepareStatement(
+					"SELECT last_started_at, last_finished_at FROM scheduled_jobs WHERE name = ?")) {
+				statement.setString(1, job.name());
+				try (ResultSet rs = statement.executeQuery()) {
+					if (!rs.next()) {
+						return true;
+					}
+					OffsetDateTime lastStarted = rs.getObject("last_started_at", OffsetDateTime.class);
+					OffsetDateTime lastFinished = rs.getObject("last_finished_at", OffsetDateTime.class);
+					OffsetDateTime now = OffsetDateTime.now();
+					if (job.cron() != null) {
+						if (lastStarted == null) {
+							return true;
+						}
+						var next = CronExpression.parse(job.cron())
+								.next(lastStarted.atZoneSameInstant(ZoneId.systemDefault()));
+						return next == null || !next.toOffsetDateTime().isAfter(now);
+					}
+					// Scheduling jitter between nodes is tolerated up to a tenth of the delay.
+					Duration minGap = job.fixedDelay().minus(job.fixedDelay().dividedBy(10));
+					return lastFinished == null || !lastFinished.plus(minGap).isAfter(now);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void execute(ClusterJob job) throws SQLException {
+		markStarted(job);
+		long startedAt = System.nanoTime();
+		String status = "SUCCEEDED";
+		String error = null;
+		long rows = 0;
+		try {
+			rows = job.run();
+		} catch (RuntimeException ex) {
+			status = "FAILED";
+			error = String.valueOf(ex.getMessage());
+			if (error.length() > MAX_ERROR_LENGTH) {
+				error = error.substring(0, MAX_ERROR_LENGTH);
+			}
+			logger.error("Job {} failed", job.name(), ex);
+		}
+		long elapsed = System.nanoTime() - startedAt;
+		meterRegistry.timer("jobs.run", "job", job.name(), "outcome", status.toLowerCase())
+				.record(elapsed, TimeUnit.NANOSECONDS);
+		markFinished(job, status, rows, TimeUnit.NANOSECONDS.toMillis(elapsed), error);
+	}
+
+	private void markStarted(ClusterJob job) throws SQLException {
+		lock.lock();
+		try {
+			OffsetDateTime now = OffsetDateTime.now();
+			try (PreparedStatement statement = session.prepareStatement("""
+					INSERT INTO scheduled_jobs (name, owner, heartbeat_at, last_status, last_started_at)
+					VALUES (?, ?, ?, 'RUNNING', ?)
+					ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, heartbeat_at = EXCLUDED.heartbeat_at,
+					    last_status = 'RUNNING', last_started_at = EXCLUDED.last_started_at
+					""")) {
+				statement.setString(1, job.name());
+				statement.setString(2, nodeId);
+				statement.setObject(3, now);
+				statement.setObject(4, now);
+				statement.executeUpdate();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void markFinished(ClusterJob job, String status, long rows, long durationMs, String error)
+			throws SQLException {
+		lock.lock();
+		try {
+			OffsetDateTime now = OffsetDateTime.now();
+			try (PreparedStatement statement = session.prepareStatement("""
+					UPDATE scheduled_jobs SET last_status = ?, last_finished_at = ?, last_duration_ms = ?, last_rows = ?,
+					    last_error = ?, heartbeat_at = ?
+					WHERE name = ?
+					""")) {
+				statement.setString(1, status);
+				statement.setObject(2, now);
+				statement.setLong(3, durationMs);
+				statement.setLong(4, rows);
+				statement.setString(5, error);
+				statement.setObject(6, now);
+				statement.setString(7, job.name());
+				statement.executeUpdate();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Closing the session releases its advisory locks; they are also released explicitly, so
+	// leadership moves on even if the close does not reach the server.
+	private void reset() {
+		lock.lock();
+		try {
+			held.clear();
+			if (session == null) {
+				return;
+			}
+			try (PreparedStatement statement = session.prepareStatement("SELECT pg_advisory_unlock_all()")) {
+				statement.execute();
+			} catch (SQLException ex) {
+				logger.debug("Could not release job locks; the session is gone", ex);
+			}
+			try {
+				session.close();
+			} catch (SQLException ex) {
+				logger.debug("Could not close job coordination session", ex);
+			}
+			session = null;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	static long lockKey(String jobName) {
+		return UUID.nameUUIDFromBytes(("cluster-job:" + jobName).getBytes(StandardCharsets.UTF_8))
+				.getMostSignificantBits();
+	}
+
+	private static String text(OffsetDateTime value) {
+		return value != null ? value.toString() : null;
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.appointmentsystembackend.jobs;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+// Triggers every ClusterJob on every node; JobRunner decides which node actually runs it.
+@Configuration
+public class JobSchedulingConfig implements SchedulingConfigurer {
+	private final List<ClusterJob> jobs;
+	private final JobRunner jobRunner;
+	private final boolean enabled;
+
+	public JobSchedulingConfig(List<ClusterJob> jobs, JobRunner jobRunner,
+			@Value("${app.jobs.enabled:true}") boolean enabled) {
+		this.jobs = jobs;
+		this.jobRunner = jobRunner;
+		this.enabled = enabled;
+	}
+
+	@Override
+	public void configureTasks(ScheduledTaskRegistrar registrar) {
+		if (!enabled) {
+			return;
+		}
+		for (ClusterJob job : jobs) {
+			Runnable task = () -> jobRunner.trigger(job);
+			if (job.cron() != null) {
+				registrar.addCronTask(task, job.cron());
+			} else {
+				registrar.addFixedDelayTask(new FixedDelayTask(task, job.fixedDelay(), job.fixedDelay()));
+			}
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.example.appointmentsystembackend.jobs;
+
+public record JobStatusResponse(
+		String name,
+		String schedule,
+		String owner,
+		String heartbeatAt,
+		String lastStatus,
+		String lastStartedAt,
+		String lastFinishedAt,
+		Long lastDurationMs,
+		Long lastRows,
+		String lastError) {
+}
@@ -0,0 +1,19 @@
+package com.example.appointmentsystembackend.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+	@Bean
+	public StatementCounter statementCounter() {
+		return new StatementCounter();
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+	}
+}
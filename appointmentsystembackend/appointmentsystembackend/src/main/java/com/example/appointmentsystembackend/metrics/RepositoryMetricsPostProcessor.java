@@ -0,0 +1,71 @@
+package com.example.appointmentsystembackend.metrics;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Spring Boot already times every repository call (spring.data.repository.invocations). This adds
+// the number of rows each finder returned, so a query that suddenly loads whole tables shows up.
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+			factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+					(proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+							new RowCountInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+		}
+		return bean;
+	}
+
+	private final class RowCountInterceptor implements MethodInterceptor {
+		private final String repository;
+
+		private RowCountInterceptor(String repository) {
+			this.repository = repository;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+			Object result = invocation.proceed();
+			int rows = rowCount(result);
+			if (rows >= 0) {
+				DistributionSummary.builder("repository.rows")
+						.tag("repository", repository)
+						.tag("method", invocation.getMethod().getName())
+						.register(meterRegistry.getObject())
+						.record(rows);
+			}
+			return result;
+		}
+
+		private int rowCount(Object result) {
+			if (result instanceof Collection<?> collection) {
+				return collection.size();
+			}
+			if (result instanceof Slice<?> slice) {
+				return slice.getNumberOfElements();
+			}
+			if (result instanceof Optional<?> optional) {
+				return optional.isPresent() ? 1 : 0;
+			}
+			return -1;
+		}
+	}
+}
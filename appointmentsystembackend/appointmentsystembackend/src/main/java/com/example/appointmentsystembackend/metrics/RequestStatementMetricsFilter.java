@@ -0,0 +1,54 @@
+package com.example.appointmentsystembackend.metrics;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Records how many SQL statements each request issued, tagged like http.server.requests, and
+// logs requests over the threshold; a jump in this number is the usual sign of an N+1 query.
+@Component
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+	private static final Logger logger = LoggerFactory.getLogger(RequestStatementMetricsFilter.class);
+
+	private final MeterRegistry meterRegistry;
+	private final int warnThreshold;
+
+	public RequestStatementMetricsFilter(MeterRegistry meterRegistry,
+			@Value("${app.metrics.statements-warn-threshold:50}") int warnThreshold) {
+		this.meterRegistry = meterRegistry;
+		this.warnThreshold = warnThreshold;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+		StatementCounter.begin();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			int statements = StatementCounter.end();
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+			DistributionSummary.builder("hibernate.statements.per.request")
+					.tag("method", request.getMethod())
+					.tag("uri", uri)
+					.register(meterRegistry)
+					.record(statements);
+			if (statements > warnThreshold) {
+				logger.warn("{} {} executed {} SQL statements", request.getMethod(), uri, statements);
+			}
+		}
+	}
+}
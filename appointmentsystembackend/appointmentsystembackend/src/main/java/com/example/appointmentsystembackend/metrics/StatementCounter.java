@@ -0,0 +1,27 @@
+package com.example.appointmentsystembackend.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts the SQL statements Hibernate prepares on the current thread between begin() and end().
+public class StatementCounter implements StatementInspector {
+	private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+	@Override
+	public String inspect(String sql) {
+		int[] count = COUNT.get();
+		if (count != null) {
+			count[0]++;
+		}
+		return sql;
+	}
+
+	static void begin() {
+		COUNT.set(new int[1]);
+	}
+
+	static int end() {
+		int[] count = COUNT.get();
+		COUNT.remove();
+		return count == null ? 0 : count[0];
+	}
+}
@@ -1,11 +1,15 @@
 package com.example.appointmentsystembackend.notification;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.example.appointmentsystembackend.appointment.Appointment;
 import com.example.appointmentsystembackend.appointment.AppointmentStatus;
@@ -15,13 +19,14 @@ import com.example.appointmentsystembackend.user.User;
 public class EmailService {
 	private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
-	private final JavaMailSender mailSender;
+	private final MailDispatcher mailDispatcher;
 	private final boolean enabled;
 	private final String fromAddress;
-	public EmailService(JavaMailSender mailSender,
+
+	public EmailService(MailDispatcher mailDispatcher,
 			@Value("${app.mail.enabled:true}") boolean enabled,
 			@Value("${app.mail.from:}") String fromAddress) {
-		this.mailSender = mailSender;
+		this.mailDispatcher = mailDispatcher;
 		this.enabled = enabled;
 		this.fromAddress = fromAddress;
 	}
@@ -31,10 +36,96 @@ public class EmailService {
 			logger.debug("Email notifications disabled; skipping appointment email.");
 			return;
 		}
+		SimpleMailMessage message = buildAppointmentStatusMessage(appointment, status);
+		if (message != null) {
+			sendAllAfterCommit(List.of(message), "appointment-status", "Failed to send appointment email.");
+		}
+	}
+
+	// Builds every message now, while the appointments and their clients are loaded, and hands
+	// them to the mail worker in one batch once the surrounding transaction has committed.
+	public void sendAppointmentStatusEmails(List<Appointment> appointments, AppointmentStatus status) {
+		if (!enabled) {
+			logger.debug("Email notifications disabled; skipping appointment emails.");
+			return;
+		}
+		List<SimpleMailMessage> messages = new ArrayList<>();
+		for (Appointment appointment : appointments) {
+			SimpleMailMessage message = buildAppointmentStatusMessage(appointment, status);
+			if (message != null) {
+				messages.add(message);
+			}
+		}
+		sendAllAfterCommit(messages, "appointment-status", "Failed to send appointment email.");
+	}
+
+	public void sendAppointmentReminderEmails(List<Appointment> appointments) {
+		if (!enabled) {
+			logger.debug("Email notifications disabled; skipping reminder emails.");
+			return;
+		}
+		List<SimpleMailMessage> messages = new ArrayList<>();
+		for (Appointment appointment : appointments) {
+			SimpleMailMessage message = buildAppointmentReminderMessage(appointment);
+			if (message != null) {
+				messages.add(message);
+			}
+		}
+		sendAllAfterCommit(messages, "appointment-reminder", "Failed to send appointment reminder email.");
+	}
+
+	// Nothing is mailed for a transaction that rolls back; outside a transaction messages go at once.
+	private void sendAllAfterCommit(List<SimpleMailMessage> messages, String type, String failureMessage) {
+		if (messages.isEmpty()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					mailDispatcher.sendAll(messages, type, failureMessage);
+				}
+			});
+		} else {
+			mailDispatcher.sendAll(messages, type, failureMessage);
+		}
+	}
+
+	private SimpleMailMessage buildAppointmentReminderMessage(Appointment appointment) {
+		User recipient = appointment.getClient();
+		if (recipient == null || recipient.getEmail() == null || recipient.getEmail().isBlank()) {
+			logger.warn("Appointment client email missing; skipping reminder email.");
+			return null;
+		}
+
+		StringBuilder body = new StringBuilder();
+		body.append("Hello ").append(recipient.getFullName()).append(",\n\n");
+		body.append("This is a reminder of your upcoming appointment.\n\n");
+		body.append("Appointment details:\n");
+		body.append("Type: ").append(appointment.getAppointmentType()).append("\n");
+		body.append("Date: ").append(appointment.getDate()).append("\n");
+		body.append("Time: ").append(appointment.getTime()).append("\n");
+		body.append("Location: ").append(appointment.getLocation()).append("\n");
+		if (appointment.getStaff() != null) {
+			body.append("Staff: ").append(appointment.getStaff().getFullName()).append("\n");
+		}
+		body.append("\nThank you.");
+
+		SimpleMailMessage message = new SimpleMailMessage();
+		message.setTo(recipient.getEmail());
+		message.setSubject("Appointment reminder");
+		message.setText(body.toString());
+		if (fromAddress != null && !fromAddress.isBlank()) {
+			message.setFrom(fromAddress);
+		}
+		return message;
+	}
+
+	private SimpleMailMessage buildAppointmentStatusMessage(Appointment appointment, AppointmentStatus status) {
 		User recipient = appointment.getClient();
 		if (recipient == null || recipient.getEmail() == null || recipient.getEmail().isBlank()) {
 			logger.warn("Appointment client email missing; skipping appointment email.");
-			return;
+			return null;
 		}
 
 		String statusLabel = status == AppointmentStatus.COMPLETED ? "completed" : "cancelled";
@@ -67,12 +158,7 @@ public class EmailService {
 		if (fromAddress != null && !fromAddress.isBlank()) {
 			message.setFrom(fromAddress);
 		}
-
-		try {
-			mailSender.send(message);
-		} catch (RuntimeException ex) {
-			logger.error("Failed to send appointment email.", ex);
-		}
+		return message;
 	}
 
 	public void sendPasswordResetCodeEmail(String toEmail, String fullName, String verificationCode) {
@@ -102,10 +188,6 @@ public class EmailService {
 			message.setFrom(fromAddress);
 		}
 
-		try {
-			mailSender.send(message);
-		} catch (RuntimeException ex) {
-			logger.error("Failed to send password reset code email.", ex);
-		}
+		sendAllAfterCommit(List.of(message), "password-reset", "Failed to send password reset code email.");
 	}
 }
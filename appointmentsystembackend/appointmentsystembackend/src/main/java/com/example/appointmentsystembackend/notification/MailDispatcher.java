@@ -0,0 +1,50 @@
+package com.example.appointmentsystembackend.notification;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Sends mail on the application task executor so an SMTP stall never holds a request thread.
+// With spring.threads.virtual.enabled=true that executor runs each send on a virtual thread.
+// Messages are fully built by the caller; nothing here touches JPA entities.
+@Component
+public class MailDispatcher {
+	private static final Logger logger = LoggerFactory.getLogger(MailDispatcher.class);
+
+	private final JavaMailSender mailSender;
+	private final MeterRegistry meterRegistry;
+
+	public MailDispatcher(JavaMailSender mailSender, MeterRegistry meterRegistry) {
+		this.mailSender = mailSender;
+		this.meterRegistry = meterRegistry;
+	}
+
+	// One executor task for a whole batch, so a bulk update does not flood the task queue.
+	@Async
+	public void sendAll(List<SimpleMailMessage> messages, String type, String failureMessage) {
+		for (SimpleMailMessage message : messages) {
+			deliver(message, type, failureMessage);
+		}
+	}
+
+	private void deliver(SimpleMailMessage message, String type, String failureMessage) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			mailSender.send(message);
+		} catch (RuntimeException ex) {
+			outcome = "error";
+			logger.error(failureMessage, ex);
+		} finally {
+			sample.stop(meterRegistry.timer("mail.send", "type", type, "outcome", outcome));
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.example.appointmentsystembackend.notification;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
 import com.example.appointmentsystembackend.user.User;
 
 import jakarta.persistence.Column;
@@ -14,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
@@ -43,6 +45,9 @@ public class Notification {
 	@Column(nullable = false)
 	private OffsetDateTime createdAt;
 
+	@Column(nullable = false)
+	private OffsetDateTime updatedAt;
+
 	protected Notification() {
 	}
 
@@ -57,11 +62,19 @@ public class Notification {
 	@PrePersist
 	public void prePersist() {
 		if (id == null) {
-			id = UUID.randomUUID();
+			id = TimeOrderedUuid.next();
 		}
 		if (createdAt == null) {
 			createdAt = OffsetDateTime.now();
 		}
+		if (updatedAt == null) {
+			updatedAt = createdAt;
+		}
+	}
+
+	@PreUpdate
+	public void preUpdate() {
+		updatedAt = OffsetDateTime.now();
 	}
 
 	public UUID getId() {
@@ -111,4 +124,8 @@ public class Notification {
 	public OffsetDateTime getCreatedAt() {
 		return createdAt;
 	}
+
+	public OffsetDateTime getUpdatedAt() {
+		return updatedAt;
+	}
 }
@@ -13,15 +13,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.appointmentsystembackend.sync.SyncService;
 import com.example.appointmentsystembackend.user.User;
 
 @RestController
 @RequestMapping("/api/notifications")
 public class NotificationController {
 	private final NotificationRepository notificationRepository;
+	private final SyncService syncService;
 
-	public NotificationController(NotificationRepository notificationRepository) {
+	public NotificationController(NotificationRepository notificationRepository, SyncService syncService) {
 		this.notificationRepository = notificationRepository;
+		this.syncService = syncService;
 	}
 
 	@GetMapping
@@ -40,6 +43,8 @@ public class NotificationController {
 				.filter(n -> n.getUser().getId().equals(user.getId()))
 				.orElseThrow(() -> new IllegalArgumentException("Notification not found"));
 		notification.setRead(true);
+		// Saved explicitly so the read flag and updatedAt reach the database for delta sync.
+		notification = notificationRepository.save(notification);
 		return ResponseEntity.ok(NotificationResponse.from(notification));
 	}
 
@@ -49,7 +54,7 @@ public class NotificationController {
 		Notification notification = notificationRepository.findById(id)
 				.filter(n -> n.getUser().getId().equals(user.getId()))
 				.orElseThrow(() -> new IllegalArgumentException("Notification not found"));
-		notificationRepository.delete(notification);
+		syncService.deleteNotification(notification);
 		return ResponseEntity.noContent().build();
 	}
 
@@ -1,5 +1,6 @@
 package com.example.appointmentsystembackend.notification;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -7,4 +8,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
 	List<Notification> findByUserId(UUID userId);
+	List<Notification> findByUserIdAndUpdatedAtGreaterThanAndUpdatedAtLessThanEqual(UUID userId,
+			OffsetDateTime after, OffsetDateTime until);
 }
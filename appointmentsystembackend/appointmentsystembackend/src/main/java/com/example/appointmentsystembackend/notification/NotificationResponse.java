@@ -8,7 +8,8 @@ public record NotificationResponse(
 		String title,
 		String message,
 		boolean read,
-		OffsetDateTime createdAt) {
+		OffsetDateTime createdAt,
+		OffsetDateTime updatedAt) {
 	public static NotificationResponse from(Notification notification) {
 		return new NotificationResponse(
 				notification.getId().toString(),
@@ -16,6 +17,7 @@ public record NotificationResponse(
 				notification.getTitle(),
 				notification.getMessage(),
 				notification.isRead(),
-				notification.getCreatedAt());
+				notification.getCreatedAt(),
+				notification.getUpdatedAt());
 	}
 }
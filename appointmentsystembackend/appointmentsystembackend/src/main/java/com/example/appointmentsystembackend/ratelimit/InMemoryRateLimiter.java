@@ -0,0 +1,96 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Per-node limiter. Keys are spread over independent shards; each bucket is an AtomicLong
+// updated with a CAS loop, so no locks are taken on the request path. When a shard grows past
+// its share of max-keys, buckets that have fully refilled are dropped (they are
+// indistinguishable from new ones). Live buckets are never dropped, since that would hand their
+// keys a fresh burst: if none has refilled, new keys are rejected until the earliest one does.
+// The shard remembers that time, so a full shard is swept at most once per refill rather than
+// on every new key.
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimiter implements RateLimiter {
+	private static final int SHARDS = 16;
+
+	private final Shard[] shards;
+	private final int maxKeysPerShard;
+	private final LongSupplier clock;
+
+	public InMemoryRateLimiter(@Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+		this(maxKeys, System::nanoTime);
+	}
+
+	InMemoryRateLimiter(int maxKeys, LongSupplier clock) {
+		this.shards = new Shard[SHARDS];
+		for (int i = 0; i < SHARDS; i++) {
+			shards[i] = new Shard();
+		}
+		this.maxKeysPerShard = Math.max(1, maxKeys / SHARDS);
+		this.clock = clock;
+	}
+
+	@Override
+	public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+		String bucketKey = rule.name() + ":" + key;
+		Shard shard = shards[Math.floorMod(bucketKey.hashCode(), SHARDS)];
+		long interval = rule.emissionIntervalNanos();
+		AtomicLong bucket = shard.buckets.get(bucketKey);
+		if (bucket == null) {
+			long now = clock.getAsLong();
+			if (shard.buckets.size() >= maxKeysPerShard && !evict(shard, now)) {
+				return RateLimitDecision.rejected(shard.nextSweep.get() - now);
+			}
+			bucket = shard.buckets.computeIfAbsent(bucketKey, ignored -> new AtomicLong(Long.MIN_VALUE));
+			// After its first request this bucket refills no earlier than one interval from now.
+			shard.nextSweep.accumulateAndGet(now + interval, Math::min);
+		}
+		long tolerance = rule.burstToleranceNanos();
+		while (true) {
+			long now = clock.getAsLong();
+			long theoreticalArrival = bucket.get();
+			long next = Math.max(theoreticalArrival, now) + interval;
+			if (next - now > tolerance) {
+				return RateLimitDecision.rejected(next - now - tolerance);
+			}
+			if (bucket.compareAndSet(theoreticalArrival, next)) {
+				return RateLimitDecision.ALLOWED;
+			}
+		}
+	}
+
+	// Drops refilled buckets and returns whether the shard has room. Skips the sweep while no
+	// bucket can have refilled since the last one.
+	private boolean evict(Shard shard, long now) {
+		if (now < shard.nextSweep.get()) {
+			return false;
+		}
+		long earliest = Long.MAX_VALUE;
+		Iterator<AtomicLong> buckets = shard.buckets.values().iterator();
+		while (buckets.hasNext()) {
+			long theoreticalArrival = buckets.next().get();
+			if (theoreticalArrival <= now) {
+				buckets.remove();
+			} else {
+				earliest = Math.min(earliest, theoreticalArrival);
+			}
+		}
+		shard.nextSweep.set(earliest);
+		return shard.buckets.size() < maxKeysPerShard;
+	}
+
+	private static final class Shard {
+		private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+		// No bucket refills before this time, so sweeping earlier would free nothing.
+		private final AtomicLong nextSweep = new AtomicLong(Long.MIN_VALUE);
+	}
+}
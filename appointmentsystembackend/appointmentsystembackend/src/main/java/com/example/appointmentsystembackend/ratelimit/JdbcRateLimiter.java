@@ -0,0 +1,51 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Shared limiter for multi-node deployments: buckets live in rate_limit_buckets and each
+// acquire is a single conditional upsert, so concurrent nodes cannot overspend a bucket.
+// Uses wall-clock milliseconds; node clocks are assumed to be NTP-synchronised.
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimiter implements RateLimiter {
+	private static final String ACQUIRE = """
+			INSERT INTO rate_limit_buckets (bucket_key, tat_ms) VALUES (?, ?)
+			ON CONFLICT (bucket_key) DO UPDATE
+				SET tat_ms = GREATEST(rate_limit_buckets.tat_ms, ?) + ?
+				WHERE GREATEST(rate_limit_buckets.tat_ms, ?) + ? - ? <= ?
+			RETURNING tat_ms
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public JdbcRateLimiter(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+		String bucketKey = rule.name() + ":" + key;
+		long now = System.currentTimeMillis();
+		long interval = Math.max(1, TimeUnit.NANOSECONDS.toMillis(rule.emissionIntervalNanos()));
+		long tolerance = interval * rule.capacity();
+		if (ThreadLocalRandom.current().nextInt(1000) == 0) {
+			// Fully refilled buckets carry no state; purge them now and then to bound the table.
+			jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE tat_ms < ?", now);
+		}
+		List<Long> updated = jdbcTemplate.queryForList(ACQUIRE, Long.class,
+				bucketKey, now + interval, now, interval, now, interval, now, tolerance);
+		if (!updated.isEmpty()) {
+			return RateLimitDecision.ALLOWED;
+		}
+		List<Long> current = jdbcTemplate.queryForList(
+				"SELECT tat_ms FROM rate_limit_buckets WHERE bucket_key = ?", Long.class, bucketKey);
+		long next = (current.isEmpty() ? now : Math.max(current.get(0), now)) + interval;
+		return RateLimitDecision.rejected(TimeUnit.MILLISECONDS.toNanos(Math.max(1, next - now - tolerance)));
+	}
+}
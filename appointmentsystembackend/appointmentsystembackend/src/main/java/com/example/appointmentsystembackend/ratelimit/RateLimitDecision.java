@@ -0,0 +1,9 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+public record RateLimitDecision(boolean allowed, long retryAfterSeconds) {
+	static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+	static RateLimitDecision rejected(long retryAfterNanos) {
+		return new RateLimitDecision(false, Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L));
+	}
+}
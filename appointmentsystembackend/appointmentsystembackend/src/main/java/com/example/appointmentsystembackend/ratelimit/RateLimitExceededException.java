@@ -0,0 +1,14 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+public class RateLimitExceededException extends RuntimeException {
+	private final long retryAfterSeconds;
+
+	public RateLimitExceededException(long retryAfterSeconds) {
+		super("Too many requests. Please try again later.");
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.appointmentsystembackend.user.User;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Runs in the security chain after JwtAuthenticationFilter so booking can also be limited per
+// account. Behind a reverse proxy, set server.forward-headers-strategy so getRemoteAddr() is
+// the client address rather than the proxy's.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+	private final RateLimitPolicy rateLimitPolicy;
+
+	public RateLimitFilter(RateLimitPolicy rateLimitPolicy) {
+		this.rateLimitPolicy = rateLimitPolicy;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+		if ("POST".equals(request.getMethod())) {
+			String path = request.getRequestURI().substring(request.getContextPath().length());
+			String ip = request.getRemoteAddr();
+			try {
+				switch (path) {
+					case "/api/auth/login" -> rateLimitPolicy.checkLoginIp(ip);
+					case "/api/auth/forgot-password" -> rateLimitPolicy.checkForgotPasswordIp(ip);
+					case "/api/appointments", "/api/appointments/series" -> {
+						rateLimitPolicy.checkBookingIp(ip);
+						Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+						if (authentication != null && authentication.getPrincipal() instanceof User user) {
+							rateLimitPolicy.checkBookingAccount(user.getId().toString());
+						}
+					}
+					default -> {
+					}
+				}
+			} catch (RateLimitExceededException ex) {
+				response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+				response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+				response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+				response.getWriter().write("{\"error\":\"" + ex.getMessage() + "\"}");
+				return;
+			}
+		}
+		filterChain.doFilter(request, response);
+	}
+}
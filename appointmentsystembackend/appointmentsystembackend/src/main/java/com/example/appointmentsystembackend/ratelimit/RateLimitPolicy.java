@@ -0,0 +1,75 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// The configured limits. IP limits are applied by RateLimitFilter; account limits by the
+// services that know the account (login and forgot-password by email, booking by user id).
+@Component
+public class RateLimitPolicy {
+	private final RateLimiter rateLimiter;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final RateLimitRule loginPerIp;
+	private final RateLimitRule loginPerAccount;
+	private final RateLimitRule forgotPasswordPerIp;
+	private final RateLimitRule forgotPasswordPerAccount;
+	private final RateLimitRule bookingPerIp;
+	private final RateLimitRule bookingPerAccount;
+
+	public RateLimitPolicy(RateLimiter rateLimiter, MeterRegistry meterRegistry,
+			@Value("${app.rate-limit.enabled:true}") boolean enabled,
+			@Value("${app.rate-limit.login-per-ip:20/60}") String loginPerIp,
+			@Value("${app.rate-limit.login-per-account:5/60}") String loginPerAccount,
+			@Value("${app.rate-limit.forgot-password-per-ip:5/900}") String forgotPasswordPerIp,
+			@Value("${app.rate-limit.forgot-password-per-account:3/900}") String forgotPasswordPerAccount,
+			@Value("${app.rate-limit.booking-per-ip:30/60}") String bookingPerIp,
+			@Value("${app.rate-limit.booking-per-account:10/60}") String bookingPerAccount) {
+		this.rateLimiter = rateLimiter;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.loginPerIp = RateLimitRule.parse("login-ip", loginPerIp);
+		this.loginPerAccount = RateLimitRule.parse("login-account", loginPerAccount);
+		this.forgotPasswordPerIp = RateLimitRule.parse("forgot-password-ip", forgotPasswordPerIp);
+		this.forgotPasswordPerAccount = RateLimitRule.parse("forgot-password-account", forgotPasswordPerAccount);
+		this.bookingPerIp = RateLimitRule.parse("booking-ip", bookingPerIp);
+		this.bookingPerAccount = RateLimitRule.parse("booking-account", bookingPerAccount);
+	}
+
+	public void checkLoginIp(String ip) {
+		check(loginPerIp, ip);
+	}
+
+	public void checkLoginAccount(String email) {
+		check(loginPerAccount, email);
+	}
+
+	public void checkForgotPasswordIp(String ip) {
+		check(forgotPasswordPerIp, ip);
+	}
+
+	public void checkForgotPasswordAccount(String email) {
+		check(forgotPasswordPerAccount, email);
+	}
+
+	public void checkBookingIp(String ip) {
+		check(bookingPerIp, ip);
+	}
+
+	public void checkBookingAccount(String userId) {
+		check(bookingPerAccount, userId);
+	}
+
+	private void check(RateLimitRule rule, String key) {
+		if (!enabled || key == null || key.isBlank()) {
+			return;
+		}
+		RateLimitDecision decision = rateLimiter.tryAcquire(key, rule);
+		if (!decision.allowed()) {
+			meterRegistry.counter("ratelimit.rejected", "rule", rule.name()).increment();
+			throw new RateLimitExceededException(decision.retryAfterSeconds());
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+import java.time.Duration;
+
+// Allows a burst of `capacity` requests, refilled evenly over `period`.
+public record RateLimitRule(String name, int capacity, Duration period) {
+	public RateLimitRule {
+		if (capacity < 1 || period.isZero() || period.isNegative()) {
+			throw new IllegalArgumentException("Invalid rate limit for " + name);
+		}
+	}
+
+	// Parses "<requests>/<seconds>", e.g. "10/60" for ten requests a minute.
+	public static RateLimitRule parse(String name, String spec) {
+		String[] parts = spec.trim().split("/");
+		if (parts.length != 2) {
+			throw new IllegalArgumentException("Rate limit for " + name + " must look like <requests>/<seconds>");
+		}
+		return new RateLimitRule(name, Integer.parseInt(parts[0].trim()),
+				Duration.ofSeconds(Long.parseLong(parts[1].trim())));
+	}
+
+	long emissionIntervalNanos() {
+		return period.toNanos() / capacity;
+	}
+
+	long burstToleranceNanos() {
+		return emissionIntervalNanos() * capacity;
+	}
+}
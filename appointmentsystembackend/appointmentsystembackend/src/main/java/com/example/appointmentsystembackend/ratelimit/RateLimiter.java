@@ -0,0 +1,7 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+// Generic cell rate algorithm (a token bucket stored as one timestamp per key): each key keeps
+// the time at which its bucket would be full again, so an update is a single compare-and-set.
+public interface RateLimiter {
+	RateLimitDecision tryAcquire(String key, RateLimitRule rule);
+}
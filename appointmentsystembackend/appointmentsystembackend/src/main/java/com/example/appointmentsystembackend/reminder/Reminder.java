@@ -0,0 +1,14 @@
+package com.example.appointmentsystembackend.reminder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// A reminder leadMinutes before the appointment start it was computed from.
+public record Reminder(UUID appointmentId, int leadMinutes, Instant startsAt) {
+	Key key() {
+		return new Key(appointmentId, leadMinutes);
+	}
+
+	record Key(UUID appointmentId, int leadMinutes) {
+	}
+}
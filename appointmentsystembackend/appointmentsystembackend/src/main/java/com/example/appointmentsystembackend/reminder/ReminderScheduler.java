@@ -0,0 +1,339 @@
+package com.example.appointmentsystembackend.reminder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.appointmentsystembackend.appointment.AppointmentChangedEvent;
+import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.appointment.AppointmentStart;
+import com.example.appointmentsystembackend.appointment.AppointmentStatus;
+import com.example.appointmentsystembackend.invalidation.InvalidationMessage;
+import com.example.appointmentsystembackend.invalidation.InvalidationPublisher;
+import com.example.appointmentsystembackend.invalidation.InvalidationType;
+import com.example.appointmentsystembackend.jobs.ClusterJob;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Holds the reminders due in the next window in a timing wheel and fires them on each tick.
+// The window is loaded from the database in slices (one start-time projection query per lead
+// time) as it slides forward, so the database is read once per slice rather than polled per
+// appointment; appointments confirmed, moved or cancelled inside the loaded window are
+// rescheduled from their change events. On startup, reminders missed while the node was down
+// are sent if the appointment has not started yet, the most imminent one only. Only the node
+// leading the job keeps a wheel. Changes made on other nodes reach it through the invalidation
+// bus; one that regains leadership after a gap rebuilds the wheel, as it ignored them meanwhile.
+// The wheel is guarded by a ReentrantLock held only while it is read or changed; the window
+// queries run outside it, so change events on request threads never wait for a load. Changes
+// that arrive during a load are scheduled straight into the range being loaded, and the load
+// then skips those appointments rather than overwriting them with rows read before the change.
+@Component
+public class ReminderScheduler implements ClusterJob {
+	private static final Logger logger = LoggerFactory.getLogger(ReminderScheduler.class);
+	private static final long WHEEL_TICK_MILLIS = 60_000;
+	private static final int WHEEL_SIZE = 60;
+	private static final int WHEEL_LEVELS = 3;
+
+	private final AppointmentRepository appointmentRepository;
+	private final ReminderService reminderService;
+	private final InvalidationPublisher invalidations;
+	private final boolean enabled;
+	// Longest lead first.
+	private final List<Duration> leads;
+	private final Duration window;
+	private final int batchSize;
+	private final Duration tick;
+	private final ZoneId zone = ZoneId.systemDefault();
+	private final ReentrantLock lock = new ReentrantLock();
+	// Transaction resource key for the appointments changed in the current transaction.
+	private final Object pendingChanges = new Object();
+	private TimingWheel<Reminder.Key, Reminder> wheel;
+	private Instant loadedUntil;
+	private Instant lastTick;
+	private PendingLoad loading;
+
+	public ReminderScheduler(AppointmentRepository appointmentRepository, ReminderService reminderService,
+			InvalidationPublisher invalidations, MeterRegistry meterRegistry,
+			@Value("${app.reminders.enabled:true}") boolean enabled,
+			@Value("${app.reminders.lead-minutes:1440,60}") List<Long> leadMinutes,
+			@Value("${app.reminders.window-hours:6}") long windowHours,
+			@Value("${app.reminders.batch-size:500}") int batchSize,
+			@Value("${app.reminders.tick-seconds:30}") long tickSeconds) {
+		this.appointmentRepository = appointmentRepository;
+		this.reminderService = reminderService;
+		this.invalidations = invalidations;
+		this.enabled = enabled;
+		this.leads = leadMinutes.stream()
+				.distinct()
+				.sorted(Comparator.reverseOrder())
+				.map(Duration::ofMinutes)
+				.toList();
+		this.window = Duration.ofHours(windowHours);
+		this.batchSize = batchSize;
+		this.tick = Duration.ofSeconds(tickSeconds);
+		meterRegistry.gauge("reminders.scheduled", this, ReminderScheduler::scheduled);
+	}
+
+	@Override
+	public String name() {
+		return "reminders";
+	}
+
+	@Override
+	public Duration fixedDelay() {
+		return tick;
+	}
+
+	@Override
+	public long run() {
+		if (!enabled || leads.isEmpty()) {
+			return 0;
+		}
+		Instant now = Instant.now();
+		PendingLoad load = null;
+		lock.lock();
+		try {
+			if (lastTick != null && lastTick.plus(tick.multipliedBy(3)).isBefore(now)) {
+				wheel = null;
+			}
+			lastTick = now;
+			if (wheel == null) {
+				wheel = new TimingWheel<>(WHEEL_TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, now.toEpochMilli());
+				loadedUntil = null;
+				load = new PendingLoad(wheel, now.minus(leads.get(0)), now.plus(window));
+			} else if (loadedUntil.isBefore(now.plus(window.dividedBy(2)))) {
+				load = new PendingLoad(wheel, loadedUntil, now.plus(window));
+			}
+			loading = load;
+		} finally {
+			lock.unlock();
+		}
+		if (load != null) {
+			loadWindow(load, now);
+		}
+		List<Reminder> due;
+		lock.lock();
+		try {
+			due = wheel == null ? List.of() : wheel.advance(now.toEpochMilli());
+		} finally {
+			lock.unlock();
+		}
+		long sent = 0;
+		for (int from = 0; from < due.size(); from += batchSize) {
+			List<Reminder> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+			try {
+				sent += reminderService.send(batch, zone);
+			} catch (RuntimeException ex) {
+				// Unclaimed reminders are not retried; the next ones for the appointment still fire.
+				logger.error("Failed to send {} appointment reminders", batch.size(), ex);
+			}
+		}
+		return sent;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAppointmentChanged(AppointmentChangedEvent event) {
+		lock.lock();
+		try {
+			if (wheel == null) {
+				return;
+			}
+			for (Duration lead : leads) {
+				wheel.cancel(new Reminder.Key(event.appointmentId(), (int) lead.toMinutes()));
+			}
+			Instant until = loadedUntil;
+			if (loading != null && loading.target() == wheel) {
+				loading.changed().add(event.appointmentId());
+				until = loading.until();
+			}
+			// Reminders beyond the loaded window are picked up when it slides over them; ones already
+			// missed (an appointment confirmed an hour before it starts) fire on the next tick.
+			if (ReminderService.REMINDABLE.contains(event.status())) {
+				Instant start = event.date().atTime(event.time()).atZone(zone).toInstant();
+				schedule(event.appointmentId(), start, Instant.EPOCH, until, Instant.now());
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// The appointments changed in a transaction are collected and published together just before
+	// it commits, so a bulk write sends one NOTIFY rather than one per appointment. Changes made
+	// outside a transaction are not published, as nothing commits them.
+	@EventListener
+	public void publishChange(AppointmentChangedEvent event) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()
+				|| !TransactionSynchronizationManager.isActualTransactionActive()) {
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		Set<UUID> changed = (Set<UUID>) TransactionSynchronizationManager.getResource(pendingChanges);
+		if (changed == null) {
+			changed = new LinkedHashSet<>();
+			bindPendingChanges(changed);
+		}
+		changed.add(event.appointmentId());
+	}
+
+	// The set is unbound while an inner REQUIRES_NEW transaction runs, so that one collects and
+	// publishes its own changes.
+	private void bindPendingChanges(Set<UUID> changed) {
+		TransactionSynchronizationManager.bindResource(pendingChanges, changed);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void suspend() {
+				TransactionSynchronizationManager.unbindResourceIfPossible(pendingChanges);
+			}
+
+			@Override
+			public void resume() {
+				TransactionSynchronizationManager.bindResource(pendingChanges, changed);
+			}
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				invalidations.publishAll(InvalidationType.APPOINTMENT, changed);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(pendingChanges);
+			}
+		});
+	}
+
+	// A change made on another node: reschedule from the committed row.
+	@EventListener
+	public void onInvalidation(InvalidationMessage message) {
+		if (message.type() != InvalidationType.APPOINTMENT) {
+			return;
+		}
+		lock.lock();
+		try {
+			if (wheel == null) {
+				return;
+			}
+			if (message.all()) {
+				wheel = null;
+				return;
+			}
+		} finally {
+			lock.unlock();
+		}
+		onAppointmentChanged(appointmentRepository.findById(message.id())
+				.map(AppointmentChangedEvent::of)
+				.orElseGet(() -> new AppointmentChangedEvent(message.id(), null, null, AppointmentStatus.CANCELLED)));
+	}
+
+	// Adds every reminder firing in [from, until). Each lead gets its own range query, so the
+	// slices loaded for different leads never overlap. The queries run without the lock.
+	private void loadWindow(PendingLoad load, Instant now) {
+		List<AppointmentStart> starts = new ArrayList<>();
+		try {
+			for (Duration lead : leads) {
+				LocalDate firstDay = load.from().plus(lead).atZone(zone).toLocalDate();
+				LocalDate lastDay = load.until().plus(lead).atZone(zone).toLocalDate();
+				starts.addAll(appointmentRepository.findStarts(ReminderService.REMINDABLE, firstDay, lastDay));
+			}
+		} catch (RuntimeException ex) {
+			lock.lock();
+			try {
+				if (loading == load) {
+					loading = null;
+				}
+				// A wheel that never loaded is dropped so the next tick rebuilds it; a slide is
+				// simply retried, as loadedUntil has not moved.
+				if (wheel == load.target() && loadedUntil == null) {
+					wheel = null;
+				}
+			} finally {
+				lock.unlock();
+			}
+			throw ex;
+		}
+		int loaded = 0;
+		lock.lock();
+		try {
+			if (loading == load) {
+				loading = null;
+			}
+			if (wheel != load.target()) {
+				return;
+			}
+			for (AppointmentStart start : starts) {
+				if (!load.changed().contains(start.appointmentId())) {
+					loaded += schedule(start.appointmentId(),
+							start.date().atTime(start.time()).atZone(zone).toInstant(), load.from(), load.until(), now);
+				}
+			}
+			loadedUntil = load.until();
+		} finally {
+			lock.unlock();
+		}
+		logger.debug("Loaded {} reminders up to {}", loaded, load.until());
+	}
+
+	private int schedule(UUID appointmentId, Instant start, Instant from, Instant until, Instant now) {
+		if (!start.isAfter(now)) {
+			return 0;
+		}
+		int scheduled = 0;
+		Duration missed = null;
+		for (Duration lead : leads) {
+			Instant fireAt = start.minus(lead);
+			if (fireAt.isBefore(from) || !fireAt.isBefore(until)) {
+				continue;
+			}
+			if (fireAt.isAfter(now)) {
+				scheduled += add(appointmentId, lead, start, fireAt);
+			} else {
+				missed = lead;
+			}
+		}
+		if (missed != null) {
+			scheduled += add(appointmentId, missed, start, now);
+		}
+		return scheduled;
+	}
+
+	private int add(UUID appointmentId, Duration lead, Instant start, Instant fireAt) {
+		Reminder reminder = new Reminder(appointmentId, (int) lead.toMinutes(), start);
+		return wheel.schedule(reminder.key(), fireAt.toEpochMilli(), reminder) ? 1 : 0;
+	}
+
+	private int scheduled() {
+		lock.lock();
+		try {
+			return wheel == null ? 0 : wheel.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// A window load in flight: the wheel it fills, its range, and the appointments changed since
+	// its queries may have run.
+	private record PendingLoad(TimingWheel<Reminder.Key, Reminder> target, Instant from, Instant until,
+			Set<UUID> changed) {
+		PendingLoad(TimingWheel<Reminder.Key, Reminder> target, Instant from, Instant until) {
+			this(target, from, until, new HashSet<>());
+		}
+	}
+}
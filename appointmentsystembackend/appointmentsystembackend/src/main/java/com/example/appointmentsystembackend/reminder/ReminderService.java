@@ -0,0 +1,122 @@
+package com.example.appointmentsystembackend.reminder;
+
+import java.sql.PreparedStatement;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.appointmentsystembackend.appointment.Appointment;
+import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.appointment.AppointmentStatus;
+import com.example.appointmentsystembackend.notification.EmailService;
+import com.example.appointmentsystembackend.notification.Notification;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.notification.NotificationType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Sends a batch of due reminders: one query loads the appointments, one INSERT ... RETURNING
+// claims the sends, and the notifications and emails go out together. Reminders whose
+// appointment has since moved, been cancelled or already been reminded are dropped.
+@Service
+public class ReminderService {
+	static final Set<AppointmentStatus> REMINDABLE = EnumSet.of(AppointmentStatus.CONFIRMED, AppointmentStatus.SCHEDULED);
+
+	private static final String CLAIM_SQL = """
+			INSERT INTO appointment_reminders (appointment_id, starts_at, lead_minutes, sent_at)
+			SELECT r.appointment_id, to_timestamp(r.starts_at_ms / 1000.0), r.lead_minutes, now()
+			FROM unnest(?::uuid[], ?::bigint[], ?::integer[]) AS r(appointment_id, starts_at_ms, lead_minutes)
+			ON CONFLICT DO NOTHING
+			RETURNING appointment_id, lead_minutes
+			""";
+
+	private final AppointmentRepository appointmentRepository;
+	private final NotificationRepository notificationRepository;
+	private final EmailService emailService;
+	private final JdbcTemplate jdbcTemplate;
+	private final Counter sent;
+
+	public ReminderService(AppointmentRepository appointmentRepository, NotificationRepository notificationRepository,
+			EmailService emailService, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+		this.appointmentRepository = appointmentRepository;
+		this.notificationRepository = notificationRepository;
+		this.emailService = emailService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.sent = meterRegistry.counter("reminders.sent");
+	}
+
+	@Transactional
+	public int send(List<Reminder> reminders, ZoneId zone) {
+		List<UUID> ids = reminders.stream().map(Reminder::appointmentId).distinct().toList();
+		Map<UUID, Appointment> appointments = appointmentRepository.findWithClientAndStaffByIdIn(ids).stream()
+				.collect(Collectors.toMap(Appointment::getId, Function.identity()));
+		List<Reminder> current = reminders.stream()
+				.filter(reminder -> {
+					Appointment appointment = appointments.get(reminder.appointmentId());
+					return appointment != null && REMINDABLE.contains(appointment.getStatus())
+							&& appointment.getDate().atTime(appointment.getTime()).atZone(zone).toInstant()
+									.equals(reminder.startsAt());
+				})
+				.toList();
+		if (current.isEmpty()) {
+			return 0;
+		}
+
+		Set<Reminder.Key> claimed = claim(current);
+		List<Notification> notifications = new ArrayList<>();
+		List<Appointment> reminded = new ArrayList<>();
+		Set<UUID> emailed = new HashSet<>();
+		for (Reminder reminder : current) {
+			if (!claimed.contains(reminder.key())) {
+				continue;
+			}
+			Appointment appointment = appointments.get(reminder.appointmentId());
+			notifications.add(new Notification(
+					appointment.getClient(),
+					NotificationType.REMINDER,
+					"Appointment Reminder",
+					String.format("Reminder: your %s appointment is on %s at %s at %s.",
+							appointment.getAppointmentType(), appointment.getDate(), appointment.getTime(),
+							appointment.getLocation()),
+					false));
+			if (emailed.add(appointment.getId())) {
+				reminded.add(appointment);
+			}
+		}
+		notificationRepository.saveAll(notifications);
+		emailService.sendAppointmentReminderEmails(reminded);
+		sent.increment(notifications.size());
+		return notifications.size();
+	}
+
+	private Set<Reminder.Key> claim(List<Reminder> reminders) {
+		UUID[] ids = new UUID[reminders.size()];
+		Long[] startsAt = new Long[reminders.size()];
+		Integer[] leads = new Integer[reminders.size()];
+		for (int i = 0; i < reminders.size(); i++) {
+			ids[i] = reminders.get(i).appointmentId();
+			startsAt[i] = reminders.get(i).startsAt().toEpochMilli();
+			leads[i] = reminders.get(i).leadMinutes();
+		}
+		List<Reminder.Key> claimed = jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(CLAIM_SQL);
+			statement.setArray(1, connection.createArrayOf("uuid", ids));
+			statement.setArray(2, connection.createArrayOf("bigint", startsAt));
+			statement.setArray(3, connection.createArrayOf("integer", leads));
+			return statement;
+		}, (rs, rowNum) -> new Reminder.Key(rs.getObject("appointment_id", UUID.class), rs.getInt("lead_minutes")));
+		return new HashSet<>(claimed);
+	}
+}
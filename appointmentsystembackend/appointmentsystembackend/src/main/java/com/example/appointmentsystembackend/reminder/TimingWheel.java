@@ -0,0 +1,143 @@
+package com.example.appointmentsystembackend.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Hierarchical timing wheel. Level 0 has one bucket per tick; each level above covers wheelSize
+// buckets of the level below. A timer goes into the lowest level whose range still reaches its
+// deadline and is moved down a level each time its bucket comes round, so scheduling,
+// cancelling and advancing by one tick cost O(1) however many timers are pending.
+// Not thread-safe; callers synchronise.
+final class TimingWheel<K, V> {
+	private final long tickMillis;
+	private final int wheelSize;
+	private final long[] levelTicks;
+	private final List<List<Set<Timer<K, V>>>> levels = new ArrayList<>();
+	private final Map<K, Timer<K, V>> timers = new HashMap<>();
+	private final List<Timer<K, V>> overdue = new ArrayList<>();
+	private long currentTick;
+
+	TimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+		this.tickMillis = tickMillis;
+		this.wheelSize = wheelSize;
+		this.levelTicks = new long[levelCount];
+		long span = 1;
+		for (int level = 0; level < levelCount; level++) {
+			levelTicks[level] = span;
+			span = Math.multiplyExact(span, wheelSize);
+			List<Set<Timer<K, V>>> buckets = new ArrayList<>(wheelSize);
+			for (int i = 0; i < wheelSize; i++) {
+				buckets.add(new LinkedHashSet<>());
+			}
+			levels.add(buckets);
+		}
+		this.currentTick = Math.floorDiv(startMillis, tickMillis);
+	}
+
+	private static final class Timer<K, V> {
+		final K key;
+		final long tick;
+		final V value;
+		Set<Timer<K, V>> bucket;
+
+		Timer(K key, long tick, V value) {
+			this.key = key;
+			this.tick = tick;
+			this.value = value;
+		}
+	}
+
+	// Replaces any timer with the same key. Returns false when the deadline lies beyond the
+	// wheel's range, which is at least (wheelSize - 1) * wheelSize^(levels - 1) ticks; such
+	// timers are not kept.
+	boolean schedule(K key, long deadlineMillis, V value) {
+		cancel(key);
+		Timer<K, V> timer = new Timer<>(key, Math.floorDiv(deadlineMillis, tickMillis), value);
+		if (!place(timer)) {
+			return false;
+		}
+		timers.put(key, timer);
+		return true;
+	}
+
+	boolean cancel(K key) {
+		Timer<K, V> timer = timers.remove(key);
+		if (timer == null) {
+			return false;
+		}
+		if (timer.bucket != null) {
+			timer.bucket.remove(timer);
+		} else {
+			overdue.remove(timer);
+		}
+		return true;
+	}
+
+	// Moves the wheel to nowMillis and returns the values of every timer that came due.
+	List<V> advance(long nowMillis) {
+		List<V> fired = new ArrayList<>();
+		drain(overdue, fired);
+		long target = Math.floorDiv(nowMillis, tickMillis);
+		while (currentTick < target) {
+			currentTick++;
+			// Higher levels first: a bucket cascading from level 2 may land in the level 1 bucket
+			// that cascades on the same tick.
+			for (int level = levelTicks.length - 1; level > 0; level--) {
+				if (currentTick % levelTicks[level] == 0) {
+					Set<Timer<K, V>> bucket = bucket(level, currentTick);
+					List<Timer<K, V>> cascading = new ArrayList<>(bucket);
+					bucket.clear();
+					for (Timer<K, V> timer : cascading) {
+						place(timer);
+					}
+				}
+			}
+			Set<Timer<K, V>> due = bucket(0, currentTick);
+			List<Timer<K, V>> dueTimers = new ArrayList<>(due);
+			due.clear();
+			drain(dueTimers, fired);
+			drain(overdue, fired);
+		}
+		return fired;
+	}
+
+	int size() {
+		return timers.size();
+	}
+
+	private boolean place(Timer<K, V> timer) {
+		if (timer.tick <= currentTick) {
+			timer.bucket = null;
+			overdue.add(timer);
+			return true;
+		}
+		for (int level = 0; level < levelTicks.length; level++) {
+			// Distance in this level's buckets; below wheelSize the bucket index cannot alias one
+			// that has already been passed in the current rotation.
+			long distance = Math.floorDiv(timer.tick, levelTicks[level]) - Math.floorDiv(currentTick, levelTicks[level]);
+			if (distance < wheelSize) {
+				Set<Timer<K, V>> bucket = bucket(level, timer.tick);
+				bucket.add(timer);
+				timer.bucket = bucket;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Set<Timer<K, V>> bucket(int level, long tick) {
+		return levels.get(level).get((int) Math.floorMod(Math.floorDiv(tick, levelTicks[level]), (long) wheelSize));
+	}
+
+	private void drain(List<Timer<K, V>> source, List<V> fired) {
+		for (Timer<K, V> timer : source) {
+			timers.remove(timer.key);
+			fired.add(timer.value);
+		}
+		source.clear();
+	}
+}
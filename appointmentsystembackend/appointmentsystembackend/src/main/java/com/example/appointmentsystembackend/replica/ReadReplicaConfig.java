@@ -0,0 +1,67 @@
+package com.example.appointmentsystembackend.replica;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Replaces Boot's single pool with a primary pool, a replica pool and the routing data source
+// in front of them when app.datasource.replica.url is set. Flyway, JPA and JDBC all use the
+// routed data source; outside @ReplicaRead read-only transactions it always picks the primary.
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.url:}'.isBlank()")
+public class ReadReplicaConfig {
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	// Read-only connections, so the replica pool cannot write even when it points at the primary.
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(DataSourceProperties properties,
+			@Value("${app.datasource.replica.url}") String url,
+			@Value("${app.datasource.replica.username:}") String username,
+			@Value("${app.datasource.replica.password:}") String password) {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.driverClassName(properties.determineDriverClassName())
+				.url(url)
+				.username(username.isBlank() ? properties.determineUsername() : username)
+				.password(password.isBlank() ? properties.determinePassword() : password)
+				.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReadReplicaRoutingDataSource replicaRoutingDataSource(
+			@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica,
+			@Value("${app.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+			MeterRegistry meterRegistry) {
+		return new ReadReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(maxLagSeconds), meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.appointmentsystembackend.replica;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Sends connections for read-only transactions inside @ReplicaRead methods to the replica and
+// everything else to the primary. It sits behind a LazyConnectionDataSourceProxy, so the
+// connection is fetched at the first statement, after the transaction's read-only flag is set.
+// While the replica lags more than maxLag, or cannot be reached, those reads use the primary.
+class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+	private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+	// Zero when the replica has replayed everything it received, so an idle primary does not
+	// read as lag; null (no replication, e.g. a second pool on the primary) counts as zero.
+	private static final String LAG_SQL = """
+			SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+			    ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)
+			""";
+
+	enum Route {
+		PRIMARY,
+		REPLICA
+	}
+
+	private final DataSource primary;
+	private final DataSource replica;
+	private final Duration maxLag;
+	private final Counter fallbacks;
+	private volatile boolean replicaUsable;
+	private volatile double lagSeconds;
+
+	ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+		this.primary = primary;
+		this.replica = replica;
+		this.maxLag = maxLag;
+		this.fallbacks = meterRegistry.counter("datasource.replica.fallbacks");
+		meterRegistry.gauge("datasource.replica.lag", this, routing -> routing.lagSeconds);
+		setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return replicaUsable && ReplicaReadAspect.active() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				? Route.REPLICA
+				: Route.PRIMARY;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (determineCurrentLookupKey() != Route.REPLICA) {
+			return primary.getConnection();
+		}
+		try {
+			return replica.getConnection();
+		} catch (SQLException ex) {
+			replicaUsable = false;
+			fallbacks.increment();
+			logger.warn("Read replica unavailable; reading from the primary until it recovers", ex);
+			return primary.getConnection();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.datasource.replica.check-seconds:5}", timeUnit = TimeUnit.SECONDS)
+	public void checkReplica() {
+		boolean usable;
+		try (Connection connection = replica.getConnection();
+				Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery(LAG_SQL)) {
+			rs.next();
+			lagSeconds = rs.getDouble(1);
+			usable = lagSeconds <= maxLag.toMillis() / 1000.0;
+		} catch (SQLException ex) {
+			logger.debug("Read replica check failed", ex);
+			usable = false;
+		}
+		if (usable != replicaUsable) {
+			logger.info(usable ? "Read replica in use (lag {}s)" : "Read replica not in use (lag {}s); reading from the primary",
+					lagSeconds);
+		}
+		replicaUsable = usable;
+	}
+}
@@ -0,0 +1,15 @@
+package com.example.appointmentsystembackend.replica;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Lets the read-only transactions of the annotated method (or of every method of the annotated
+// class) run on the read replica when one is configured. Only for reads that tolerate a few
+// seconds of replication lag; anything a user expects to see right after writing it stays on
+// the primary by not being annotated.
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,35 @@
+package com.example.appointmentsystembackend.replica;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// Marks the thread as running a @ReplicaRead method. The routing data source still sends only
+// read-only transactions to the replica, so a write made from inside one (in a REQUIRES_NEW
+// transaction, say) goes to the primary.
+@Aspect
+@Component
+public class ReplicaReadAspect {
+	private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+	static boolean active() {
+		return Boolean.TRUE.equals(ACTIVE.get());
+	}
+
+	@Around("@annotation(com.example.appointmentsystembackend.replica.ReplicaRead)"
+			+ " || @within(com.example.appointmentsystembackend.replica.ReplicaRead)")
+	public Object allowReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+		Boolean previous = ACTIVE.get();
+		ACTIVE.set(Boolean.TRUE);
+		try {
+			return joinPoint.proceed();
+		} finally {
+			if (previous == null) {
+				ACTIVE.remove();
+			} else {
+				ACTIVE.set(previous);
+			}
+		}
+	}
+}
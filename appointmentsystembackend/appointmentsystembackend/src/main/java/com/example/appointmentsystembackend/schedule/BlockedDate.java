@@ -3,6 +3,7 @@ package com.example.appointmentsystembackend.schedule;
 import java.time.LocalDate;
 import java.util.UUID;
 
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
 import com.example.appointmentsystembackend.user.User;
 
 import jakarta.persistence.Column;
@@ -43,7 +44,7 @@ public class BlockedDate {
 	@PrePersist
 	public void prePersist() {
 		if (id == null) {
-			id = UUID.randomUUID();
+			id = TimeOrderedUuid.next();
 		}
 	}
 
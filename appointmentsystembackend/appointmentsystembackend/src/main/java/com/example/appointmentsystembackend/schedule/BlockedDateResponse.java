@@ -10,4 +10,11 @@ public record BlockedDateResponse(
 				blockedDate.getDate().toString(),
 				blockedDate.getReason());
 	}
+
+	public static BlockedDateResponse from(WeeklyTemplate.BlockedDay blockedDay) {
+		return new BlockedDateResponse(
+				blockedDay.id().toString(),
+				blockedDay.date().toString(),
+				blockedDay.reason());
+	}
 }
@@ -0,0 +1,82 @@
+package com.example.appointmentsystembackend.schedule;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "closures")
+public class Closure {
+	@Id
+	@Column(nullable = false, updatable = false)
+	private UUID id;
+
+	@Column(nullable = false)
+	private LocalDate startDate;
+
+	// Inclusive.
+	@Column(nullable = false)
+	private LocalDate endDate;
+
+	// Null for organisation-wide closures.
+	@Column
+	private UUID departmentId;
+
+	@Column(nullable = false)
+	private String reason;
+
+	@Column(nullable = false)
+	private OffsetDateTime createdAt;
+
+	protected Closure() {
+	}
+
+	public Closure(LocalDate startDate, LocalDate endDate, UUID departmentId, String reason) {
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.departmentId = departmentId;
+		this.reason = reason;
+	}
+
+	@PrePersist
+	public void prePersist() {
+		if (id == null) {
+			id = TimeOrderedUuid.next();
+		}
+		if (createdAt == null) {
+			createdAt = OffsetDateTime.now();
+		}
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
+	public UUID getDepartmentId() {
+		return departmentId;
+	}
+
+	public String getReason() {
+		return reason;
+	}
+
+	public OffsetDateTime getCreatedAt() {
+		return createdAt;
+	}
+}
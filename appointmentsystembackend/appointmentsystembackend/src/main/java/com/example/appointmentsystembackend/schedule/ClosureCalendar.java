@@ -0,0 +1,151 @@
+package com.example.appointmentsystembackend.schedule;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.appointmentsystembackend.invalidation.InvalidationMessage;
+import com.example.appointmentsystembackend.invalidation.InvalidationPublisher;
+import com.example.appointmentsystembackend.invalidation.InvalidationType;
+
+// In-memory view of the closures table: for the organisation and for each department, the
+// closed days as merged, sorted, non-overlapping epoch-day ranges. isClosed is a binary search
+// over at most two of them, independent of how many staff a closure affects. The snapshot is
+// rebuilt lazily after any closure change, on other nodes once the invalidation bus reports it.
+// As in StaffAvailabilityCache, a generation counter keeps a load that overlapped an
+// invalidation from being published.
+@Component
+public class ClosureCalendar {
+	private final ClosureRepository closureRepository;
+	private final InvalidationPublisher invalidations;
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	public ClosureCalendar(ClosureRepository closureRepository, InvalidationPublisher invalidations) {
+		this.closureRepository = closureRepository;
+		this.invalidations = invalidations;
+	}
+
+	public boolean isClosed(LocalDate date, UUID departmentId) {
+		Snapshot current = snapshot();
+		long day = date.toEpochDay();
+		if (current.organization().contains(day)) {
+			return true;
+		}
+		Ranges department = departmentId == null ? null : current.departments().get(departmentId);
+		return department != null && department.contains(day);
+	}
+
+	// Reason of the first closure covering the date, for error messages.
+	public Optional<String> reason(LocalDate date, UUID departmentId) {
+		return snapshot().closures().stream()
+				.filter(closure -> closure.getDepartmentId() == null || closure.getDepartmentId().equals(departmentId))
+				.filter(closure -> !date.isBefore(closure.getStartDate()) && !date.isAfter(closure.getEndDate()))
+				.map(Closure::getReason)
+				.findFirst();
+	}
+
+	public void invalidate() {
+		evict();
+		invalidations.publish(InvalidationType.CLOSURES, null);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict();
+				}
+			});
+		}
+	}
+
+	@EventListener
+	public void onInvalidation(InvalidationMessage message) {
+		if (message.type() == InvalidationType.CLOSURES) {
+			evict();
+		}
+	}
+
+	private Snapshot snapshot() {
+		Snapshot current = snapshot.get();
+		if (current != null) {
+			return current;
+		}
+		long loadedAt = generation.get();
+		// Past closures are irrelevant to booking and assignment; keep a year for reschedules.
+		current = Snapshot.of(closureRepository.findByEndDateGreaterThanEqualOrderByStartDateAsc(
+				LocalDate.now().minusYears(1)));
+		if (generation.get() == loadedAt && snapshot.compareAndSet(null, current)
+				&& generation.get() != loadedAt) {
+			// An invalidation landed between the check and the publish.
+			snapshot.compareAndSet(current, null);
+		}
+		return current;
+	}
+
+	private void evict() {
+		generation.incrementAndGet();
+		snapshot.set(null);
+	}
+
+	private record Snapshot(List<Closure> closures, Ranges organization, Map<UUID, Ranges> departments) {
+		static Snapshot of(List<Closure> closures) {
+			List<Closure> organization = new ArrayList<>();
+			Map<UUID, List<Closure>> byDepartment = new HashMap<>();
+			for (Closure closure : closures) {
+				if (closure.getDepartmentId() == null) {
+					organization.add(closure);
+				} else {
+					byDepartment.computeIfAbsent(closure.getDepartmentId(), id -> new ArrayList<>()).add(closure);
+				}
+			}
+			Map<UUID, Ranges> departments = new HashMap<>();
+			byDepartment.forEach((id, list) -> departments.put(id, Ranges.merge(list)));
+			return new Snapshot(List.copyOf(closures), Ranges.merge(organization), Map.copyOf(departments));
+		}
+	}
+
+	// starts is strictly increasing and ranges do not touch, so the only candidate for a day
+	// is the last range starting on or before it.
+	record Ranges(long[] starts, long[] ends) {
+		static Ranges merge(List<Closure> closures) {
+			long[][] ranges = closures.stream()
+					.map(closure -> new long[] { closure.getStartDate().toEpochDay(), closure.getEndDate().toEpochDay() })
+					.sorted((a, b) -> Long.compare(a[0], b[0]))
+					.toArray(long[][]::new);
+			long[] starts = new long[ranges.length];
+			long[] ends = new long[ranges.length];
+			int size = 0;
+			for (long[] range : ranges) {
+				if (size > 0 && range[0] <= ends[size - 1] + 1) {
+					ends[size - 1] = Math.max(ends[size - 1], range[1]);
+				} else {
+					starts[size] = range[0];
+					ends[size] = range[1];
+					size++;
+				}
+			}
+			return new Ranges(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+		}
+
+		boolean contains(long day) {
+			int index = Arrays.binarySearch(starts, day);
+			if (index >= 0) {
+				return true;
+			}
+			int before = -index - 2;
+			return before >= 0 && ends[before] >= day;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.appointmentsystembackend.schedule;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/closures")
+@Validated
+public class ClosureController {
+	private final ClosureService closureService;
+
+	public ClosureController(ClosureService closureService) {
+		this.closureService = closureService;
+	}
+
+	@GetMapping
+	public ResponseEntity<List<ClosureResponse>> list() {
+		List<ClosureResponse> closures = closureService.listUpcoming().stream()
+				.map(ClosureResponse::from)
+				.toList();
+		return ResponseEntity.ok(closures);
+	}
+
+	@PostMapping
+	public ResponseEntity<ClosureResponse> create(@Valid @RequestBody ClosureRequest request) {
+		requireAdmin();
+		return new ResponseEntity<>(ClosureResponse.from(closureService.create(request)), HttpStatus.CREATED);
+	}
+
+	@DeleteMapping("/{id}")
+	public ResponseEntity<Void> delete(@PathVariable UUID id) {
+		requireAdmin();
+		closureService.delete(id);
+		return ResponseEntity.noContent().build();
+	}
+
+	private void requireAdmin() {
+		User user = currentUser();
+		if (user.getRole() != Role.ADMIN) {
+			throw new AccessDeniedException("Admin role required");
+		}
+	}
+
+	private User currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return (User) authentication.getPrincipal();
+	}
+}
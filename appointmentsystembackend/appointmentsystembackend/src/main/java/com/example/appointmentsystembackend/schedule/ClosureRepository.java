@@ -0,0 +1,11 @@
+package com.example.appointmentsystembackend.schedule;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ClosureRepository extends JpaRepository<Closure, UUID> {
+	List<Closure> findByEndDateGreaterThanEqualOrderByStartDateAsc(LocalDate date);
+}
@@ -0,0 +1,11 @@
+package com.example.appointmentsystembackend.schedule;
+
+import jakarta.validation.constraints.NotBlank;
+
+// endDate defaults to startDate; departmentId empty means the whole organisation.
+public record ClosureRequest(
+		@NotBlank String startDate,
+		String endDate,
+		String departmentId,
+		@NotBlank String reason) {
+}
@@ -0,0 +1,17 @@
+package com.example.appointmentsystembackend.schedule;
+
+public record ClosureResponse(
+		String id,
+		String startDate,
+		String endDate,
+		String departmentId,
+		String reason) {
+	public static ClosureResponse from(Closure closure) {
+		return new ClosureResponse(
+				closure.getId().toString(),
+				closure.getStartDate().toString(),
+				closure.getEndDate().toString(),
+				closure.getDepartmentId() != null ? closure.getDepartmentId().toString() : null,
+				closure.getReason());
+	}
+}
@@ -0,0 +1,57 @@
+package com.example.appointmentsystembackend.schedule;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.appointmentsystembackend.department.DepartmentRepository;
+
+@Service
+@Transactional
+public class ClosureService {
+	private final ClosureRepository closureRepository;
+	private final DepartmentRepository departmentRepository;
+	private final ClosureCalendar closureCalendar;
+
+	public ClosureService(ClosureRepository closureRepository, DepartmentRepository departmentRepository,
+			ClosureCalendar closureCalendar) {
+		this.closureRepository = closureRepository;
+		this.departmentRepository = departmentRepository;
+		this.closureCalendar = closureCalendar;
+	}
+
+	@Transactional(readOnly = true)
+	public List<Closure> listUpcoming() {
+		return closureRepository.findByEndDateGreaterThanEqualOrderByStartDateAsc(LocalDate.now());
+	}
+
+	public Closure create(ClosureRequest request) {
+		LocalDate startDate = LocalDate.parse(request.startDate());
+		LocalDate endDate = request.endDate() == null || request.endDate().isBlank()
+				? startDate
+				: LocalDate.parse(request.endDate());
+		if (endDate.isBefore(startDate)) {
+			throw new IllegalArgumentException("Closure end date must not be before its start date");
+		}
+		UUID departmentId = null;
+		if (request.departmentId() != null && !request.departmentId().isBlank()) {
+			departmentId = UUID.fromString(request.departmentId());
+			if (!departmentRepository.existsById(departmentId)) {
+				throw new IllegalArgumentException("Department not found");
+			}
+		}
+		Closure closure = closureRepository.save(new Closure(startDate, endDate, departmentId, request.reason().trim()));
+		closureCalendar.invalidate();
+		return closure;
+	}
+
+	public void delete(UUID id) {
+		Closure closure = closureRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("Closure not found"));
+		closureRepository.delete(closure);
+		closureCalendar.invalidate();
+	}
+}
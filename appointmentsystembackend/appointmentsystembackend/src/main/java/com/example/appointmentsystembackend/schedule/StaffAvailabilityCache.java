@@ -0,0 +1,97 @@
+package com.example.appointmentsystembackend.schedule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.appointmentsystembackend.invalidation.InvalidationMessage;
+import com.example.appointmentsystembackend.invalidation.InvalidationPublisher;
+import com.example.appointmentsystembackend.invalidation.InvalidationType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Per-staff WeeklyTemplate cache. Entries are dropped whenever a schedule or blocked date
+// changes: immediately and again after the writing transaction commits, so a reader that
+// loaded the old rows in between cannot leave them cached. The generation counter stops a
+// load that started before an invalidation from being stored after it. Other nodes are told
+// through the invalidation bus and evict once the change has committed.
+@Component
+public class StaffAvailabilityCache {
+	private final WorkScheduleRepository workScheduleRepository;
+	private final BlockedDateRepository blockedDateRepository;
+	private final InvalidationPublisher invalidations;
+	private final Map<UUID, WeeklyTemplate> templates = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private final Counter hits;
+	private final Counter misses;
+
+	public StaffAvailabilityCache(WorkScheduleRepository workScheduleRepository,
+			BlockedDateRepository blockedDateRepository, InvalidationPublisher invalidations,
+			MeterRegistry meterRegistry) {
+		this.workScheduleRepository = workScheduleRepository;
+		this.blockedDateRepository = blockedDateRepository;
+		this.invalidations = invalidations;
+		this.hits = meterRegistry.counter("schedule.cache", "result", "hit");
+		this.misses = meterRegistry.counter("schedule.cache", "result", "miss");
+		meterRegistry.gaugeMapSize("schedule.cache.size", List.of(), templates);
+	}
+
+	public WeeklyTemplate get(UUID staffId) {
+		WeeklyTemplate template = templates.get(staffId);
+		if (template != null) {
+			hits.increment();
+			return template;
+		}
+		misses.increment();
+		long loadedAt = generation.get();
+		template = WeeklyTemplate.compile(workScheduleRepository.findByStaffId(staffId),
+				blockedDateRepository.findByStaffId(staffId));
+		if (generation.get() == loadedAt) {
+			templates.putIfAbsent(staffId, template);
+		}
+		return template;
+	}
+
+	public void invalidate(UUID staffId) {
+		evict(staffId);
+		invalidations.publish(InvalidationType.STAFF_AVAILABILITY, staffId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict(staffId);
+				}
+			});
+		}
+	}
+
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		templates.clear();
+	}
+
+	@EventListener
+	public void onInvalidation(InvalidationMessage message) {
+		if (message.type() != InvalidationType.STAFF_AVAILABILITY) {
+			return;
+		}
+		if (message.all()) {
+			invalidateAll();
+		} else {
+			evict(message.id());
+		}
+	}
+
+	private void evict(UUID staffId) {
+		generation.incrementAndGet();
+		templates.remove(staffId);
+	}
+}
@@ -34,7 +34,7 @@ public class StaffScheduleController {
 	@GetMapping
 	public ResponseEntity<List<WorkScheduleResponse>> getSchedule() {
 		User staff = requireStaff();
-		List<WorkScheduleResponse> response = service.getOrCreateSchedule(staff).stream()
+		List<WorkScheduleResponse> response = service.getSchedule(staff).days().stream()
 				.map(WorkScheduleResponse::from)
 				.toList();
 		return ResponseEntity.ok(response);
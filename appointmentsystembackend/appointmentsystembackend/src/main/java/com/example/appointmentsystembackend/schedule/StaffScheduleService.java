@@ -1,8 +1,14 @@
 package com.example.appointmentsystembackend.schedule;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,36 +20,71 @@ import com.example.appointmentsystembackend.user.User;
 public class StaffScheduleService {
 	private final WorkScheduleRepository workScheduleRepository;
 	private final BlockedDateRepository blockedDateRepository;
+	private final StaffAvailabilityCache availabilityCache;
 
 	public StaffScheduleService(WorkScheduleRepository workScheduleRepository,
-			BlockedDateRepository blockedDateRepository) {
+			BlockedDateRepository blockedDateRepository, StaffAvailabilityCache availabilityCache) {
 		this.workScheduleRepository = workScheduleRepository;
 		this.blockedDateRepository = blockedDateRepository;
+		this.availabilityCache = availabilityCache;
 	}
 
-	public List<WorkSchedule> getOrCreateSchedule(User staff) {
-		List<WorkSchedule> schedules = workScheduleRepository.findByStaffId(staff.getId());
-		if (!schedules.isEmpty()) {
-			return schedules;
-		}
-		return createDefaultSchedule(staff);
+	// Staff who never saved a schedule get WeeklyTemplate.DEFAULT_WEEK; nothing is written here.
+	@Transactional(readOnly = true)
+	public WeeklyTemplate getSchedule(User staff) {
+		return availabilityCache.get(staff.getId());
 	}
 
+	// Applies the submitted week as a per-day diff: unchanged days are left alone, changed days are
+	// updated in place (batched on flush) and only missing days are inserted. Days left out of the
+	// request are removed, as before. (staff_id, day_of_week) is unique, so two concurrent saves
+	// cannot both insert the same day; the loser gets a 409.
 	public List<WorkSchedule> updateSchedule(User staff, List<WorkScheduleRequest> requests) {
-		workScheduleRepository.findByStaffId(staff.getId()).forEach(workScheduleRepository::delete);
-		List<WorkSchedule> schedules = requests.stream()
-				.map(req -> new WorkSchedule(
-						staff,
-						req.day(),
-						LocalTime.parse(req.startTime()),
-						LocalTime.parse(req.endTime()),
-						req.isWorking()))
-				.toList();
-		return workScheduleRepository.saveAll(schedules);
+		Map<String, WorkSchedule> existing = new HashMap<>();
+		for (WorkSchedule schedule : workScheduleRepository.findByStaffId(staff.getId())) {
+			existing.put(schedule.getDayOfWeek(), schedule);
+		}
+		List<WorkSchedule> result = new ArrayList<>(requests.size());
+		List<WorkSchedule> inserts = new ArrayList<>();
+		for (WorkScheduleRequest request : requests) {
+			String day = canonicalDay(request.day());
+			LocalTime startTime = LocalTime.parse(request.startTime());
+			LocalTime endTime = LocalTime.parse(request.endTime());
+			if (result.stream().anyMatch(schedule -> schedule.getDayOfWeek().equals(day))) {
+				throw new IllegalArgumentException("Duplicate schedule entry for " + day);
+			}
+			WorkSchedule schedule = existing.remove(day);
+			if (schedule == null) {
+				schedule = new WorkSchedule(staff, day, startTime, endTime, request.isWorking());
+				inserts.add(schedule);
+			} else if (!schedule.getStartTime().equals(startTime) || !schedule.getEndTime().equals(endTime)
+					|| schedule.isWorking() != request.isWorking()) {
+				schedule.setStartTime(startTime);
+				schedule.setEndTime(endTime);
+				schedule.setWorking(request.isWorking());
+			}
+			result.add(schedule);
+		}
+		if (!existing.isEmpty()) {
+			workScheduleRepository.deleteAllInBatch(existing.values());
+		}
+		workScheduleRepository.saveAll(inserts);
+		availabilityCache.invalidate(staff.getId());
+		return result;
+	}
+
+	// "monday", " MONDAY " and "Monday" all map to the stored form "Monday".
+	static String canonicalDay(String day) {
+		try {
+			return DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)).getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Unknown day of week: " + day);
+		}
 	}
 
-	public List<BlockedDate> listBlockedDates(User staff) {
-		return blockedDateRepository.findByStaffId(staff.getId());
+	@Transactional(readOnly = true)
+	public List<WeeklyTemplate.BlockedDay> listBlockedDates(User staff) {
+		return availabilityCache.get(staff.getId()).blockedDays();
 	}
 
 	public BlockedDate addBlockedDate(User staff, BlockedDateRequest request) {
@@ -51,7 +92,9 @@ public class StaffScheduleService {
 				staff,
 				LocalDate.parse(request.date()),
 				request.reason());
-		return blockedDateRepository.save(blockedDate);
+		blockedDateRepository.save(blockedDate);
+		availabilityCache.invalidate(staff.getId());
+		return blockedDate;
 	}
 
 	public void removeBlockedDate(User staff, String blockedDateId) {
@@ -59,17 +102,13 @@ public class StaffScheduleService {
 				.filter(entry -> entry.getStaff().getId().equals(staff.getId()))
 				.orElseThrow(() -> new IllegalArgumentException("Blocked date not found"));
 		blockedDateRepository.delete(blockedDate);
+		availabilityCache.invalidate(staff.getId());
 	}
 
-	private List<WorkSchedule> createDefaultSchedule(User staff) {
-		List<WorkSchedule> schedules = List.of(
-				new WorkSchedule(staff, "Monday", LocalTime.of(8, 0), LocalTime.of(17, 0), true),
-				new WorkSchedule(staff, "Tuesday", LocalTime.of(8, 0), LocalTime.of(17, 0), true),
-				new WorkSchedule(staff, "Wednesday", LocalTime.of(8, 0), LocalTime.of(17, 0), true),
-				new WorkSchedule(staff, "Thursday", LocalTime.of(8, 0), LocalTime.of(17, 0), true),
-				new WorkSchedule(staff, "Friday", LocalTime.of(8, 0), LocalTime.of(17, 0), true),
-				new WorkSchedule(staff, "Saturday", LocalTime.of(9, 0), LocalTime.of(14, 0), true),
-				new WorkSchedule(staff, "Sunday", LocalTime.of(0, 0), LocalTime.of(0, 0), false));
-		return workScheduleRepository.saveAll(schedules);
+	// Used when a staff account is deleted.
+	public void removeAllFor(User staff) {
+		workScheduleRepository.deleteAll(workScheduleRepository.findByStaffId(staff.getId()));
+		blockedDateRepository.deleteAll(blockedDateRepository.findByStaffId(staff.getId()));
+		availabilityCache.invalidate(staff.getId());
 	}
 }
@@ -0,0 +1,114 @@
+package com.example.appointmentsystembackend.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+// Immutable, compiled form of one staff member's week: working minute ranges indexed by
+// DayOfWeek plus the blocked dates as sorted epoch days. Built from the work_schedules and
+// blocked_dates rows by StaffAvailabilityCache; answering "is staff X working at T" is two
+// array reads and a binary search.
+public final class WeeklyTemplate {
+	private static final int DAYS = DayOfWeek.values().length;
+
+	// Used for staff who have never saved a schedule; not written to the database.
+	static final List<Day> DEFAULT_WEEK = List.of(
+			new Day(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(17, 0), true),
+			new Day(DayOfWeek.TUESDAY, LocalTime.of(8, 0), LocalTime.of(17, 0), true),
+			new Day(DayOfWeek.WEDNESDAY, LocalTime.of(8, 0), LocalTime.of(17, 0), true),
+			new Day(DayOfWeek.THURSDAY, LocalTime.of(8, 0), LocalTime.of(17, 0), true),
+			new Day(DayOfWeek.FRIDAY, LocalTime.of(8, 0), LocalTime.of(17, 0), true),
+			new Day(DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(14, 0), true),
+			new Day(DayOfWeek.SUNDAY, LocalTime.of(0, 0), LocalTime.of(0, 0), false));
+
+	private final Day[] days = new Day[DAYS];
+	// -1 for days off; otherwise minutes since midnight.
+	private final int[] startMinute = new int[DAYS];
+	private final int[] endMinute = new int[DAYS];
+	private final long[] blockedEpochDays;
+	private final List<BlockedDay> blockedDays;
+
+	WeeklyTemplate(List<Day> week, List<BlockedDay> blocked) {
+		Arrays.fill(startMinute, -1);
+		Arrays.fill(endMinute, -1);
+		for (DayOfWeek day : DayOfWeek.values()) {
+			days[day.ordinal()] = new Day(day, LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, false);
+		}
+		for (Day day : week) {
+			int index = day.day().ordinal();
+			days[index] = day;
+			if (day.working()) {
+				startMinute[index] = minuteOfDay(day.start());
+				endMinute[index] = minuteOfDay(day.end());
+			}
+		}
+		List<BlockedDay> sorted = new ArrayList<>(blocked);
+		sorted.sort(Comparator.comparing(BlockedDay::date));
+		this.blockedDays = List.copyOf(sorted);
+		this.blockedEpochDays = sorted.stream().mapToLong(entry -> entry.date().toEpochDay()).distinct().toArray();
+	}
+
+	static WeeklyTemplate compile(List<WorkSchedule> schedules, List<BlockedDate> blockedDates) {
+		List<Day> week = schedules.isEmpty()
+				? DEFAULT_WEEK
+				: schedules.stream()
+						.map(schedule -> new Day(parseDay(schedule.getDayOfWeek()), schedule.getStartTime(),
+								schedule.getEndTime(), schedule.isWorking()))
+						.toList();
+		List<BlockedDay> blocked = blockedDates.stream()
+				.map(entry -> new BlockedDay(entry.getId(), entry.getDate(), entry.getReason()))
+				.toList();
+		return new WeeklyTemplate(week, blocked);
+	}
+
+	// Inclusive of the end time, matching the booking rule that accepts a 17:00 start.
+	public boolean isWorkingAt(LocalDate date, LocalTime time) {
+		int index = date.getDayOfWeek().ordinal();
+		if (startMinute[index] < 0 || isBlocked(date)) {
+			return false;
+		}
+		int minute = minuteOfDay(time);
+		return minute >= startMinute[index] && minute <= endMinute[index];
+	}
+
+	public boolean isWorkingOn(LocalDate date) {
+		return startMinute[date.getDayOfWeek().ordinal()] >= 0 && !isBlocked(date);
+	}
+
+	public boolean isBlocked(LocalDate date) {
+		return Arrays.binarySearch(blockedEpochDays, date.toEpochDay()) >= 0;
+	}
+
+	public Day day(DayOfWeek day) {
+		return days[day.ordinal()];
+	}
+
+	// Monday first.
+	public List<Day> days() {
+		return List.of(days);
+	}
+
+	public List<BlockedDay> blockedDays() {
+		return blockedDays;
+	}
+
+	private static int minuteOfDay(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+
+	private static DayOfWeek parseDay(String day) {
+		return DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT));
+	}
+
+	public record Day(DayOfWeek day, LocalTime start, LocalTime end, boolean working) {
+	}
+
+	public record BlockedDay(UUID id, LocalDate date, String reason) {
+	}
+}
@@ -3,6 +3,7 @@ package com.example.appointmentsystembackend.schedule;
 import java.time.LocalTime;
 import java.util.UUID;
 
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
 import com.example.appointmentsystembackend.user.User;
 
 import jakarta.persistence.Column;
@@ -13,9 +14,11 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
-@Table(name = "work_schedules")
+@Table(name = "work_schedules", uniqueConstraints = @UniqueConstraint(name = "uk_work_schedules_staff_day",
+		columnNames = { "staff_id", "day_of_week" }))
 public class WorkSchedule {
 	@Id
 	@Column(nullable = false, updatable = false)
@@ -51,7 +54,7 @@ public class WorkSchedule {
 	@PrePersist
 	public void prePersist() {
 		if (id == null) {
-			id = UUID.randomUUID();
+			id = TimeOrderedUuid.next();
 		}
 	}
 
@@ -1,5 +1,8 @@
 package com.example.appointmentsystembackend.schedule;
 
+import java.time.format.TextStyle;
+import java.util.Locale;
+
 public record WorkScheduleResponse(
 		String day,
 		String startTime,
@@ -12,4 +15,12 @@ public record WorkScheduleResponse(
 				schedule.getEndTime().toString(),
 				schedule.isWorking());
 	}
+
+	public static WorkScheduleResponse from(WeeklyTemplate.Day day) {
+		return new WorkScheduleResponse(
+				day.day().getDisplayName(TextStyle.FULL, Locale.ENGLISH),
+				day.start().toString(),
+				day.end().toString(),
+				day.working());
+	}
 }
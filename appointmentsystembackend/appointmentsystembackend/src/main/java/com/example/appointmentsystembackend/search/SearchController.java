@@ -0,0 +1,45 @@
+package com.example.appointmentsystembackend.search;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+	private final SearchService searchService;
+
+	public SearchController(SearchService searchService) {
+		this.searchService = searchService;
+	}
+
+	@GetMapping
+	public ResponseEntity<SearchResponse> search(
+			@RequestParam String q,
+			@RequestParam(defaultValue = "all") String types,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		requireAdmin();
+		return ResponseEntity.ok(searchService.search(q, SearchType.parse(types), page, size));
+	}
+
+	private void requireAdmin() {
+		User user = currentUser();
+		if (user.getRole() != Role.ADMIN) {
+			throw new AccessDeniedException("Admin role required");
+		}
+	}
+
+	private User currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return (User) authentication.getPrincipal();
+	}
+}
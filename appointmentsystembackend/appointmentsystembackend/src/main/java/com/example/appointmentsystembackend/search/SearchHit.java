@@ -0,0 +1,9 @@
+package com.example.appointmentsystembackend.search;
+
+public record SearchHit(
+		String type,
+		String id,
+		String title,
+		String detail,
+		double score) {
+}
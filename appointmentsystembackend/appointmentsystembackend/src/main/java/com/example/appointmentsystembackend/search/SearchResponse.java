@@ -0,0 +1,12 @@
+package com.example.appointmentsystembackend.search;
+
+import java.util.List;
+
+// Fuzzy matches have no cheap exact total, so paging reports hasMore instead of a count.
+public record SearchResponse(
+		String query,
+		int page,
+		int size,
+		boolean hasMore,
+		List<SearchHit> results) {
+}
@@ -0,0 +1,165 @@
+package com.example.appointmentsystembackend.search;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.appointmentsystembackend.common.Paging;
+import com.example.appointmentsystembackend.replica.ReplicaRead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Ranked search over clients, appointments and services using the pg_trgm indexes from V6.
+// A row matches when its document contains the term (LIKE) or a word in it is similar to the
+// term (%>); exact substrings rank above fuzzy matches. Each type is limited to the rows the
+// requested page can use before the branches are merged, and the whole statement runs under
+// statement_timeout so one broad query cannot hold a connection.
+@Service
+public class SearchService {
+	private static final int MIN_QUERY_LENGTH = 2;
+	private static final int MAX_QUERY_LENGTH = 100;
+	private static final int MAX_SIZE = 100;
+	private static final int MAX_RESULTS = 1000;
+	private static final String QUERY_CANCELED = "57014";
+
+	// Must match the indexed expressions in V6__search_trigram_indexes.sql.
+	private static final String CLIENT_DOCUMENT = "lower(u.full_name || ' ' || u.email || ' ' || coalesce(u.phone, ''))";
+	private static final String PHONE_DIGITS = "regexp_replace(coalesce(u.phone, ''), '[^0-9]', '', 'g')";
+	private static final String APPOINTMENT_DOCUMENT =
+			"lower(a.appointment_type || ' ' || a.location || ' ' || coalesce(a.notes, ''))";
+	private static final String SERVICE_DOCUMENT = "lower(s.name || ' ' || coalesce(s.description, ''))";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final Timer timer;
+	private final int timeoutMs;
+
+	public SearchService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry, @Value("${app.search.timeout-ms:800}") int timeoutMs) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.timer = meterRegistry.timer("search.query");
+		this.timeoutMs = timeoutMs;
+	}
+
+	@ReplicaRead
+	public SearchResponse search(String query, Set<SearchType> types, int page, int size) {
+		String term = query == null ? "" : query.trim().toLowerCase();
+		if (term.length() < MIN_QUERY_LENGTH || term.length() > MAX_QUERY_LENGTH) {
+			throw new IllegalArgumentException(
+					"Search query must be between " + MIN_QUERY_LENGTH + " and " + MAX_QUERY_LENGTH + " characters");
+		}
+		if (size > MAX_SIZE) {
+			throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE);
+		}
+		int offset = (int) Paging.pageRequest(page, size).getOffset();
+		if (offset + size > MAX_RESULTS) {
+			throw new IllegalArgumentException("Only the first " + MAX_RESULTS + " results can be paged; refine the search");
+		}
+
+		String digits = term.replaceAll("[^0-9]", "");
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("q", term)
+				.addValue("pattern", Paging.containsPattern(term))
+				.addValue("digits", "%" + digits + "%")
+				.addValue("branchLimit", offset + size + 1)
+				.addValue("limit", size + 1)
+				.addValue("offset", offset);
+		String sql = buildQuery(types, digits.length() >= 3);
+
+		List<SearchHit> hits;
+		Timer.Sample sample = Timer.start();
+		try {
+			hits = transactionTemplate.execute(status -> {
+				jdbcTemplate.getJdbcTemplate().execute("SET LOCAL statement_timeout = " + timeoutMs);
+				return jdbcTemplate.query(sql, params, (rs, row) -> new SearchHit(
+						rs.getString("type"),
+						rs.getString("id"),
+						rs.getString("title"),
+						rs.getString("detail"),
+						rs.getDouble("score")));
+			});
+		} catch (DataAccessException ex) {
+			if (isStatementTimeout(ex)) {
+				throw new IllegalArgumentException("Search took too long; try a more specific query");
+			}
+			throw ex;
+		} finally {
+			sample.stop(timer);
+		}
+		boolean hasMore = hits.size() > size;
+		return new SearchResponse(term, page, size, hasMore, hasMore ? hits.subList(0, size) : hits);
+	}
+
+	// Postgres reports statement_timeout as SQLSTATE 57014 (query_canceled), which spring-jdbc
+	// translates by its class ("57") to DataAccessResourceFailureException, not QueryTimeoutException.
+	private static boolean isStatementTimeout(DataAccessException ex) {
+		if (ex instanceof QueryTimeoutException) {
+			return true;
+		}
+		for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException sqlException && QUERY_CANCELED.equals(sqlException.getSQLState())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String buildQuery(Set<SearchType> types, boolean matchPhoneDigits) {
+		List<String> branches = new ArrayList<>();
+		if (types.contains(SearchType.CLIENT)) {
+			String phoneMatch = matchPhoneDigits ? " OR " + PHONE_DIGITS + " LIKE :digits" : "";
+			String phoneScore = matchPhoneDigits ? " + CASE WHEN " + PHONE_DIGITS + " LIKE :digits THEN 1 ELSE 0 END" : "";
+			branches.add("""
+					(SELECT 'client' AS type, u.id::text AS id, u.full_name AS title,
+						u.email || coalesce(' / ' || u.phone, '') AS detail,
+						%1$s%2$s AS score
+					FROM users u
+					WHERE u.role = 'CLIENT' AND (%3$s%4$s)
+					ORDER BY score DESC LIMIT :branchLimit)
+					""".formatted(score(CLIENT_DOCUMENT), phoneScore, matches(CLIENT_DOCUMENT), phoneMatch));
+		}
+		if (types.contains(SearchType.APPOINTMENT)) {
+			branches.add("""
+					(SELECT 'appointment' AS type, a.id::text AS id, a.appointment_type AS title,
+						u.full_name || ' / ' || to_char(a.date, 'YYYY-MM-DD') || ' ' || to_char(a.time, 'HH24:MI')
+							|| ' / ' || a.location AS detail,
+						%1$s AS score
+					FROM appointments a JOIN users u ON u.id = a.client_id
+					WHERE %2$s
+					ORDER BY score DESC LIMIT :branchLimit)
+					""".formatted(score(APPOINTMENT_DOCUMENT), matches(APPOINTMENT_DOCUMENT)));
+		}
+		if (types.contains(SearchType.SERVICE)) {
+			branches.add("""
+					(SELECT 'service' AS type, s.id::text AS id, s.name AS title, s.description AS detail,
+						%1$s AS score
+					FROM services s
+					WHERE %2$s
+					ORDER BY score DESC LIMIT :branchLimit)
+					""".formatted(score(SERVICE_DOCUMENT), matches(SERVICE_DOCUMENT)));
+		}
+		return "SELECT type, id, title, detail, score FROM (\n" + String.join("UNION ALL\n", branches)
+				+ ") hits ORDER BY score DESC, title, id LIMIT :limit OFFSET :offset";
+	}
+
+	private static String matches(String document) {
+		return "(" + document + " LIKE :pattern ESCAPE '\\' OR " + document + " %> :q)";
+	}
+
+	private static String score(String document) {
+		return "CASE WHEN " + document + " LIKE :pattern ESCAPE '\\' THEN 1 ELSE 0 END + word_similarity(:q, " + document + ")";
+	}
+}
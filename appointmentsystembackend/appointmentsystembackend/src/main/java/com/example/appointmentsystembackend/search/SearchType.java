@@ -0,0 +1,34 @@
+package com.example.appointmentsystembackend.search;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum SearchType {
+	CLIENT,
+	APPOINTMENT,
+	SERVICE;
+
+	// "all" or a comma-separated list such as "clients,appointments".
+	public static Set<SearchType> parse(String value) {
+		if (value == null || value.isBlank() || value.equalsIgnoreCase("all")) {
+			return EnumSet.allOf(SearchType.class);
+		}
+		Set<SearchType> types = EnumSet.noneOf(SearchType.class);
+		for (String part : value.split(",")) {
+			String name = part.trim().toUpperCase();
+			if (name.endsWith("S")) {
+				name = name.substring(0, name.length() - 1);
+			}
+			try {
+				types.add(SearchType.valueOf(name));
+			} catch (IllegalArgumentException ex) {
+				throw new IllegalArgumentException("Unknown search type: " + part.trim());
+			}
+		}
+		// "," splits into nothing; an empty set would leave the search query without a branch.
+		if (types.isEmpty()) {
+			throw new IllegalArgumentException("At least one search type is required");
+		}
+		return types;
+	}
+}
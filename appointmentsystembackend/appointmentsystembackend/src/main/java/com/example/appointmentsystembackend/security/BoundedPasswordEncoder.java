@@ -0,0 +1,91 @@
+package com.example.appointmentsystembackend.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+// Runs BCrypt on a small fixed pool so a login burst cannot occupy every CPU and starve other
+// endpoints. When the pool and its queue are full, or a hash waits longer than the timeout,
+// callers get PasswordHashingUnavailableException (503) instead of queueing indefinitely.
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMillis,
+			MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.timeoutMillis = timeoutMillis;
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> {
+					Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+		this.encodeTimer = meterRegistry.timer("password.hash", "operation", "encode");
+		this.matchesTimer = meterRegistry.timer("password.hash", "operation", "matches");
+		ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private <T> T run(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException ex) {
+			throw new PasswordHashingUnavailableException("Too many sign-in requests. Please try again shortly.");
+		}
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException ex) {
+			future.cancel(true);
+			throw new PasswordHashingUnavailableException("Too many sign-in requests. Please try again shortly.");
+		} catch (InterruptedException ex) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PasswordHashingUnavailableException("Password hashing was interrupted");
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Password hashing failed", ex.getCause());
+		}
+	}
+}
@@ -1,14 +1,16 @@
 package com.example.appointmentsystembackend.security;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.example.appointmentsystembackend.user.User;
 import com.example.appointmentsystembackend.user.UserRepository;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 	private final UserRepository userRepository;
 
 	public CustomUserDetailsService(UserRepository userRepository) {
@@ -20,4 +22,12 @@ public class CustomUserDetailsService implements UserDetailsService {
 		return userRepository.findByEmail(username)
 				.orElseThrow(() -> new UsernameNotFoundException("User not found"));
 	}
+
+	@Override
+	public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+		User user = userRepository.findByEmail(userDetails.getUsername())
+				.orElseThrow(() -> new UsernameNotFoundException("User not found"));
+		user.setPassword(newPassword);
+		return userRepository.save(user);
+	}
 }
@@ -0,0 +1,7 @@
+package com.example.appointmentsystembackend.security;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+	public PasswordHashingUnavailableException(String message) {
+		super(message);
+	}
+}
@@ -1,10 +1,18 @@
 package com.example.appointmentsystembackend.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,47 +20,84 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.example.appointmentsystembackend.idempotency.IdempotencyFilter;
+import com.example.appointmentsystembackend.ratelimit.RateLimitFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
+	private final RateLimitFilter rateLimitFilter;
+	private final IdempotencyFilter idempotencyFilter;
 	private final CustomUserDetailsService userDetailsService;
 
-	public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
-			CustomUserDetailsService userDetailsService) {
+	public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter,
+			IdempotencyFilter idempotencyFilter, CustomUserDetailsService userDetailsService) {
 		this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+		this.rateLimitFilter = rateLimitFilter;
+		this.idempotencyFilter = idempotencyFilter;
 		this.userDetailsService = userDetailsService;
 	}
 
 	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider,
+			@Value("${app.metrics.scrape-token:}") String scrapeToken) throws Exception {
 		http
 				.csrf(csrf -> csrf.disable())
 				.cors(cors -> cors.configurationSource(corsConfigurationSource()))
 				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.authorizeHttpRequests(auth -> auth
 						.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-						.requestMatchers(HttpMethod.GET, "/api/departments", "/api/services", "/api/clients").permitAll()
+						.requestMatchers(HttpMethod.GET, "/api/departments", "/api/services").permitAll()
 						.requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/google",
 								"/api/auth/forgot-password", "/api/auth/reset-password")
 						.permitAll()
+						.requestMatchers("/actuator/health").permitAll()
+						.requestMatchers("/actuator/prometheus").access(prometheusAccess(scrapeToken))
+						.requestMatchers("/actuator/**").hasRole("ADMIN")
 						.anyRequest().authenticated())
-				.authenticationProvider(authenticationProvider())
-				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+				.authenticationProvider(authenticationProvider)
+				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+				.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+				.addFilterAfter(idempotencyFilter, RateLimitFilter.class);
 		return http.build();
 	}
 
+	// Admins, or a scraper sending "Authorization: Bearer <app.metrics.scrape-token>". With no token
+	// configured the endpoint is admin-only like the rest of /actuator.
+	private static AuthorizationManager<RequestAuthorizationContext> prometheusAccess(String scrapeToken) {
+		AuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager.hasRole("ADMIN");
+		if (scrapeToken == null || scrapeToken.isBlank()) {
+			return admin;
+		}
+		byte[] expected = ("Bearer " + scrapeToken).getBytes(StandardCharsets.UTF_8);
+		AuthorizationManager<RequestAuthorizationContext> scraper = (authentication, context) -> {
+			String header = context.getRequest().getHeader("Authorization");
+			return new AuthorizationDecision(header != null
+					&& MessageDigest.isEqual(expected, header.getBytes(StandardCharsets.UTF_8)));
+		};
+		return AuthorizationManagers.anyOf(scraper, admin);
+	}
+
 	@Bean
-	public AuthenticationProvider authenticationProvider() {
+	public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder,
+			@Value("${app.password.upgrade-on-login:true}") boolean upgradeOnLogin) {
 		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
 		provider.setUserDetailsService(userDetailsService);
-		provider.setPasswordEncoder(passwordEncoder());
+		provider.setPasswordEncoder(passwordEncoder);
+		if (upgradeOnLogin) {
+			// Rehashes stored passwords below the configured BCrypt strength after a successful login.
+			provider.setUserDetailsPasswordService(userDetailsService);
+		}
 		return provider;
 	}
 
@@ -62,8 +107,14 @@ public class SecurityConfig {
 	}
 
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+			@Value("${app.password.bcrypt-strength:10}") int strength,
+			@Value("${app.password.hashing-threads:0}") int threads,
+			@Value("${app.password.hashing-queue-capacity:64}") int queueCapacity,
+			@Value("${app.password.hashing-timeout-ms:3000}") long timeoutMillis) {
+		int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity,
+				timeoutMillis, meterRegistry);
 	}
 
 	@Bean
@@ -72,6 +123,9 @@ public class SecurityConfig {
 		config.addAllowedOriginPattern("*");
 		config.addAllowedMethod("*");
 		config.addAllowedHeader("*");
+		config.addExposedHeader("Idempotent-Replayed");
+		config.addExposedHeader("Retry-After");
+		config.addExposedHeader("X-Total-Count");
 		config.setAllowCredentials(false);
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 		source.registerCorsConfiguration("/**", config);
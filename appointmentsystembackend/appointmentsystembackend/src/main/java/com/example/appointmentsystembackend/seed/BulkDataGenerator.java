@@ -0,0 +1,428 @@
+package com.example.appointmentsystembackend.seed;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.appointmentsystembackend.appointment.AppointmentStatus;
+
+@Component
+@Profile("bulk-seed")
+public class BulkDataGenerator implements CommandLineRunner {
+	private static final Logger logger = LoggerFactory.getLogger(BulkDataGenerator.class);
+
+	private static final String[] DEPARTMENT_NAMES = {
+			"Domestic Taxes", "Customs", "Taxpayer Services", "Compliance", "Registration", "Audit",
+			"Legal Affairs", "Scheduling", "Revenue Protection", "Refunds" };
+	private static final String[] SERVICE_NAMES = {
+			"Consultation", "Annual Filing", "License Renewal", "Registration", "Refund Claim",
+			"Certificate Request", "Objection Hearing", "Audit Review" };
+	private static final String[] FIRST_NAMES = {
+			"Jean", "Marie", "Eric", "Aline", "Patrick", "Grace", "Emmanuel", "Diane", "Claude", "Josiane",
+			"Olivier", "Chantal", "David", "Solange", "Samuel", "Ange" };
+	private static final String[] LAST_NAMES = {
+			"Niyibizi", "Uwase", "Mugisha", "Uwimana", "Habimana", "Mukamana", "Nkurunziza", "Ingabire",
+			"Hakizimana", "Uwera", "Ndayisaba", "Umutoni" };
+	private static final String[] LOCATIONS = { "Main Office", "Kicukiro Office", "Remera Office", "Nyamirambo Office" };
+	private static final int COPY_FLUSH_BYTES = 1 << 20;
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final PasswordEncoder passwordEncoder;
+	private final long seed;
+	private final int departmentCount;
+	private final int servicesPerDepartment;
+	private final int staffCount;
+	private final int clientCount;
+	private final int appointmentCount;
+	private final int years;
+	private final double feedbackRatio;
+	private final double notificationRatio;
+	private final String password;
+
+	public BulkDataGenerator(DataSource dataSource, JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+			@Value("${app.seed.bulk.seed:42}") long seed,
+			@Value("${app.seed.bulk.departments:8}") int departmentCount,
+			@Value("${app.seed.bulk.services-per-department:6}") int servicesPerDepartment,
+			@Value("${app.seed.bulk.staff:200}") int staffCount,
+			@Value("${app.seed.bulk.clients:50000}") int clientCount,
+			@Value("${app.seed.bulk.appointments:1000000}") int appointmentCount,
+			@Value("${app.seed.bulk.years:3}") int years,
+			@Value("${app.seed.bulk.feedback-ratio:0.3}") double feedbackRatio,
+			@Value("${app.seed.bulk.notification-ratio:1.0}") double notificationRatio,
+			@Value("${app.seed.bulk.password:loadtest123}") String password) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = jdbcTemplate;
+		this.passwordEncoder = passwordEncoder;
+		this.seed = seed;
+		this.departmentCount = departmentCount;
+		this.servicesPerDepartment = servicesPerDepartment;
+		this.staffCount = staffCount;
+		this.clientCount = clientCount;
+		this.appointmentCount = appointmentCount;
+		this.years = years;
+		this.feedbackRatio = feedbackRatio;
+		this.notificationRatio = notificationRatio;
+		this.password = password;
+	}
+
+	@Override
+	public void run(String... args) throws SQLException {
+		Long existingUsers = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+		if (existingUsers != null && existingUsers > 0) {
+			logger.info("Bulk seed skipped: database already contains {} users.", existingUsers);
+			return;
+		}
+
+		long started = System.nanoTime();
+		SplittableRandom random = new SplittableRandom(seed);
+		Dataset dataset = new Dataset(random);
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+			try {
+				long departments = dataset.copyDepartments(copyManager);
+				long services = dataset.copyServices(copyManager);
+				long users = dataset.copyUsers(copyManager, passwordEncoder.encode(password));
+				long appointments = dataset.copyAppointments(copyManager);
+				long feedback = dataset.copyFeedback(copyManager);
+				long notifications = dataset.copyNotifications(copyManager);
+				connection.commit();
+				logger.info("Bulk seed loaded {} departments, {} services, {} users, {} appointments, {} feedback, "
+						+ "{} notifications in {} ms (seed {}).", departments, services, users, appointments, feedback,
+						notifications, (System.nanoTime() - started) / 1_000_000, seed);
+			} catch (SQLException | RuntimeException ex) {
+				connection.rollback();
+				throw ex;
+			}
+		}
+	}
+
+	// Everything is derived from a single seeded random in a fixed order, so the same seed
+	// always produces the same ids and rows. Appointments are kept as primitive columns so
+	// feedback and notifications can be generated after the appointment COPY has finished.
+	private final class Dataset {
+		private final SplittableRandom random;
+		private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		private final LocalDate today = LocalDate.now();
+
+		private final UUID[] departmentIds = new UUID[departmentCount];
+		private final UUID[] serviceIds = new UUID[departmentCount * servicesPerDepartment];
+		private final UUID[] staffIds = new UUID[staffCount];
+		private final int[] staffDepartment = new int[staffCount];
+		private final UUID[] clientIds = new UUID[clientCount];
+
+		private final long[] appointmentHigh = new long[appointmentCount];
+		private final long[] appointmentLow = new long[appointmentCount];
+		private final int[] appointmentClient = new int[appointmentCount];
+		private final int[] appointmentStaff = new int[appointmentCount];
+		private final int[] appointmentService = new int[appointmentCount];
+		private final long[] appointmentEpochDay = new long[appointmentCount];
+		private final byte[] appointmentStatus = new byte[appointmentCount];
+
+		private Dataset(SplittableRandom random) {
+			this.random = random;
+		}
+
+		private long copyDepartments(CopyManager copyManager) throws SQLException {
+			try (CopyStream copy = new CopyStream(copyManager,
+					"COPY departments (id, name, description, type, active, created_at, updated_at) FROM STDIN WITH (FORMAT csv)")) {
+				for (int i = 0; i < departmentCount; i++) {
+					departmentIds[i] = nextUuid();
+					Instant createdAt = now.minus(years * 365L + 30, ChronoUnit.DAYS);
+					copy.row(departmentIds[i], departmentName(i), "Generated department",
+							i % 3 == 0 ? "SUPPORT" : "OPERATIONAL", true, createdAt, createdAt);
+				}
+				return copy.finish();
+			}
+		}
+
+		private long copyServices(CopyManager copyManager) throws SQLException {
+			try (CopyStream copy = new CopyStream(copyManager,
+					"COPY services (id, name, description, department_id, requirements, active, created_at, updated_at) "
+							+ "FROM STDIN WITH (FORMAT csv)")) {
+				for (int i = 0; i < serviceIds.length; i++) {
+					int department = i / servicesPerDepartment;
+					serviceIds[i] = nextUuid();
+					Instant createdAt = now.minus(years * 365L + 30, ChronoUnit.DAYS);
+					copy.row(serviceIds[i], serviceName(i), "Generated service", departmentIds[department],
+							"National ID", random.nextInt(20) != 0, createdAt, createdAt);
+				}
+				return copy.finish();
+			}
+		}
+
+		private long copyUsers(CopyManager copyManager, String passwordHash) throws SQLException {
+			try (CopyStream copy = new CopyStream(copyManager,
+					"COPY users (id, email, full_name, password, role, department, department_id, service_id, service_name, "
+							+ "phone, active, created_at) FROM STDIN WITH (FORMAT csv)")) {
+				Instant firstDay = now.minus(years * 365L, ChronoUnit.DAYS);
+				copy.row(nextUuid(), "admin@load.test", "Load Test Admin", passwordHash, "ADMIN", "Administration",
+						null, null, null, phone(0), true, firstDay);
+				for (int i = 0; i < staffCount; i++) {
+					int department = i % departmentCount;
+					int service = department * servicesPerDepartment + random.nextInt(servicesPerDepartment);
+					staffIds[i] = nextUuid();
+					staffDepartment[i] = department;
+					copy.row(staffIds[i], "staff" + i + "@load.test", personName(), passwordHash, "STAFF",
+							departmentName(department), departmentIds[department], serviceIds[service],
+							serviceName(service), phone(i + 1), random.nextInt(25) != 0, firstDay);
+				}
+				long spanSeconds = years * 365L * 86_400L;
+				// Every client stays active: the load test logs in as any client<i>, and a disabled
+				// account would show up as request errors against the SLO rather than as latency.
+				for (int i = 0; i < clientCount; i++) {
+					clientIds[i] = nextUuid();
+					copy.row(clientIds[i], "client" + i + "@load.test", personName(), passwordHash, "CLIENT",
+							null, null, null, null, phone(staffCount + i + 1), true,
+							firstDay.plusSeconds((long) (random.nextDouble() * spanSeconds)));
+				}
+				return copy.finish();
+			}
+		}
+
+		private long copyAppointments(CopyManager copyManager) throws SQLException {
+			int[][] staffByDepartment = staffByDepartment();
+			LocalDate firstDay = today.minusYears(years);
+			int spanDays = (int) ChronoUnit.DAYS.between(firstDay, today.plusDays(60));
+			try (CopyStream copy = new CopyStream(copyManager,
+					"COPY appointments (id, client_id, staff_id, service_id, appointment_type, date, time, location, "
+							+ "status, notes, created_at, updated_at) FROM STDIN WITH (FORMAT csv)")) {
+				for (int i = 0; i < appointmentCount; i++) {
+					UUID id = nextUuid();
+					appointmentHigh[i] = id.getMostSignificantBits();
+					appointmentLow[i] = id.getLeastSignificantBits();
+					// Heavy hitters: a few clients, services and staff take most of the bookings.
+					int client = skewed(clientCount, 3.0);
+					int service = skewed(serviceIds.length, 2.0);
+					int[] candidates = staffByDepartment[service / servicesPerDepartment];
+					int staff = candidates.length == 0 || random.nextInt(30) == 0 ? -1
+							: candidates[skewed(candidates.length, 1.5)];
+					LocalDate date = weekday(firstDay.plusDays(random.nextInt(spanDays)));
+					LocalTime time = LocalTime.of(8, 0).plusMinutes(30L * skewed(18, 1.3));
+					AppointmentStatus status = status(date);
+					Instant createdAt = date.minusDays(1 + random.nextInt(30)).atTime(9, 0).toInstant(ZoneOffset.UTC)
+							.plusSeconds(random.nextInt(28_800));
+					Instant updatedAt = status == AppointmentStatus.PENDING ? createdAt
+							: createdAt.plusSeconds(random.nextInt(172_800));
+
+					appointmentClient[i] = client;
+					appointmentStaff[i] = staff;
+					appointmentService[i] = service;
+					appointmentEpochDay[i] = date.toEpochDay();
+					appointmentStatus[i] = (byte) status.ordinal();
+					copy.row(id, clientIds[client], staff < 0 ? null : staffIds[staff], serviceIds[service],
+							serviceName(service), date, time, LOCATIONS[skewed(LOCATIONS.length, 2.0)], status.name(),
+							random.nextInt(4) == 0 ? "Bring supporting documents" : null, createdAt, updatedAt);
+				}
+				return copy.finish();
+			}
+		}
+
+		private long copyFeedback(CopyManager copyManager) throws SQLException {
+			try (CopyStream copy = new CopyStream(copyManager,
+					"COPY feedback (id, appointment_id, staff_id, client_id, rating, comment, created_at) "
+							+ "FROM STDIN WITH (FORMAT csv)")) {
+				for (int i = 0; i < appointmentCount; i++) {
+					if (appointmentStatus[i] != AppointmentStatus.COMPLETED.ordinal() || appointmentStaff[i] < 0
+							|| random.nextDouble() >= feedbackRatio) {
+						continue;
+					}
+					int rating = rating();
+					copy.row(nextUuid(), new UUID(appointmentHigh[i], appointmentLow[i]), staffIds[appointmentStaff[i]],
+							clientIds[appointmentClient[i]], rating, rating >= 4 ? "Quick and helpful service" : "Long wait",
+							dayInstant(appointmentEpochDay[i] + 1 + random.nextInt(7)));
+				}
+				return copy.finish();
+			}
+		}
+
+		private long copyNotifications(CopyManager copyManager) throws SQLException {
+			try (CopyStream copy = new CopyStream(copyManager,
+					"COPY notifications (id, user_id, type, title, message, read, created_at, updated_at) "
+							+ "FROM STDIN WITH (FORMAT csv)")) {
+				long todayEpochDay = today.toEpochDay();
+				for (int i = 0; i < appointmentCount; i++) {
+					if (random.nextDouble() >= notificationRatio) {
+						continue;
+					}
+					UUID client = clientIds[appointmentClient[i]];
+					long epochDay = appointmentEpochDay[i];
+					String service = serviceName(appointmentService[i]);
+					boolean old = epochDay < todayEpochDay - 14;
+					copy.row(nextUuid(), client, "CONFIRMATION", "Appointment Submitted",
+							"Your " + service + " appointment has been submitted and is pending review.",
+							old || random.nextBoolean(), dayInstant(epochDay - 20), dayInstant(epochDay - 20));
+					AppointmentStatus status = AppointmentStatus.values()[appointmentStatus[i]];
+					if (status == AppointmentStatus.PENDING) {
+						continue;
+					}
+					String type = status == AppointmentStatus.CANCELLED ? "ALERT" : "CONFIRMATION";
+					copy.row(nextUuid(), client, type, "Appointment " + status.name().toLowerCase(),
+							"Your " + service + " appointment status changed to " + status.name().toLowerCase() + ".",
+							old || random.nextInt(3) == 0, dayInstant(epochDay - 2), dayInstant(epochDay - 2));
+				}
+				return copy.finish();
+			}
+		}
+
+		private int[][] staffByDepartment() {
+			int[] sizes = new int[departmentCount];
+			for (int department : staffDepartment) {
+				sizes[department]++;
+			}
+			int[][] result = new int[departmentCount][];
+			for (int i = 0; i < departmentCount; i++) {
+				result[i] = new int[sizes[i]];
+				sizes[i] = 0;
+			}
+			for (int staff = 0; staff < staffCount; staff++) {
+				int department = staffDepartment[staff];
+				result[department][sizes[department]++] = staff;
+			}
+			return result;
+		}
+
+		private AppointmentStatus status(LocalDate date) {
+			int roll = random.nextInt(100);
+			if (date.isBefore(today)) {
+				return roll < 70 ? AppointmentStatus.COMPLETED
+						: roll < 88 ? AppointmentStatus.CANCELLED
+						: roll < 95 ? AppointmentStatus.CONFIRMED
+						: AppointmentStatus.PENDING;
+			}
+			return roll < 45 ? AppointmentStatus.PENDING
+					: roll < 75 ? AppointmentStatus.CONFIRMED
+					: roll < 95 ? AppointmentStatus.SCHEDULED
+					: AppointmentStatus.CANCELLED;
+		}
+
+		private int rating() {
+			int roll = random.nextInt(100);
+			return roll < 45 ? 5 : roll < 75 ? 4 : roll < 88 ? 3 : roll < 95 ? 2 : 1;
+		}
+
+		private LocalDate weekday(LocalDate date) {
+			if (date.getDayOfWeek() == DayOfWeek.SATURDAY) {
+				return date.minusDays(1);
+			}
+			if (date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+				return date.plusDays(1);
+			}
+			return date;
+		}
+
+		private int skewed(int size, double exponent) {
+			return Math.min(size - 1, (int) (Math.pow(random.nextDouble(), exponent) * size));
+		}
+
+		private UUID nextUuid() {
+			long high = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+			long low = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+			return new UUID(high, low);
+		}
+
+		private String personName() {
+			return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+		}
+
+		private String phone(int index) {
+			return String.format("+250 78%d %03d %03d", index % 10, (index / 1000) % 1000, index % 1000);
+		}
+
+		private String departmentName(int index) {
+			String name = DEPARTMENT_NAMES[index % DEPARTMENT_NAMES.length];
+			return index < DEPARTMENT_NAMES.length ? name : name + " " + (index / DEPARTMENT_NAMES.length + 1);
+		}
+
+		private String serviceName(int index) {
+			return departmentName(index / servicesPerDepartment) + " "
+					+ SERVICE_NAMES[index % servicesPerDepartment % SERVICE_NAMES.length];
+		}
+
+		private Instant dayInstant(long epochDay) {
+			return LocalDate.ofEpochDay(epochDay).atTime(10, 0).toInstant(ZoneOffset.UTC);
+		}
+	}
+
+	// Streams CSV rows into a COPY ... FROM STDIN, flushing roughly every megabyte.
+	private static final class CopyStream implements AutoCloseable {
+		private final CopyIn copyIn;
+		private final StringBuilder buffer = new StringBuilder(COPY_FLUSH_BYTES + 4096);
+		private long rows;
+
+		private CopyStream(CopyManager copyManager, String sql) throws SQLException {
+			this.copyIn = copyManager.copyIn(sql);
+		}
+
+		private void row(Object... values) throws SQLException {
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					buffer.append(',');
+				}
+				appendValue(values[i]);
+			}
+			buffer.append('\n');
+			rows++;
+			if (buffer.length() >= COPY_FLUSH_BYTES) {
+				flush();
+			}
+		}
+
+		private void appendValue(Object value) {
+			if (value == null) {
+				return;
+			}
+			String text = value.toString();
+			if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+				buffer.append(text);
+				return;
+			}
+			buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+		}
+
+		private void flush() throws SQLException {
+			if (buffer.isEmpty()) {
+				return;
+			}
+			byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+			copyIn.writeToCopy(bytes, 0, bytes.length);
+			buffer.setLength(0);
+		}
+
+		private long finish() throws SQLException {
+			flush();
+			copyIn.endCopy();
+			return rows;
+		}
+
+		@Override
+		public void close() throws SQLException {
+			if (copyIn.isActive()) {
+				copyIn.cancelCopy();
+			}
+		}
+	}
+}
@@ -5,6 +5,7 @@ import java.time.LocalTime;
 import java.util.UUID;
 
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -24,6 +25,7 @@ import com.example.appointmentsystembackend.user.User;
 import com.example.appointmentsystembackend.user.UserRepository;
 
 @Component
+@Profile("!bulk-seed")
 public class DataSeeder implements CommandLineRunner {
 	private final UserRepository userRepository;
 	private final AppointmentRepository appointmentRepository;
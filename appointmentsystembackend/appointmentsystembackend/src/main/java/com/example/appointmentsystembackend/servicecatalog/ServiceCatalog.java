@@ -3,6 +3,8 @@ package com.example.appointmentsystembackend.servicecatalog;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -52,7 +54,7 @@ public class ServiceCatalog {
 	@PrePersist
 	public void prePersist() {
 		if (id == null) {
-			id = UUID.randomUUID();
+			id = TimeOrderedUuid.next();
 		}
 		OffsetDateTime now = OffsetDateTime.now();
 		if (createdAt == null) {
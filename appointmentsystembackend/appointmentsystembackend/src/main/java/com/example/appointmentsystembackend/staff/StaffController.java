@@ -17,14 +17,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.appointmentsystembackend.appointment.Appointment;
 import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.common.Paging;
 import com.example.appointmentsystembackend.department.Department;
 import com.example.appointmentsystembackend.department.DepartmentRepository;
-import com.example.appointmentsystembackend.schedule.BlockedDateRepository;
-import com.example.appointmentsystembackend.schedule.WorkScheduleRepository;
+import com.example.appointmentsystembackend.schedule.StaffScheduleService;
 import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
 import com.example.appointmentsystembackend.servicecatalog.ServiceCatalogRepository;
 import com.example.appointmentsystembackend.user.Role;
@@ -41,31 +42,40 @@ public class StaffController {
 	private final AppointmentRepository appointmentRepository;
 	private final DepartmentRepository departmentRepository;
 	private final ServiceCatalogRepository serviceCatalogRepository;
-	private final WorkScheduleRepository workScheduleRepository;
-	private final BlockedDateRepository blockedDateRepository;
+	private final StaffScheduleService staffScheduleService;
 	private final PasswordEncoder passwordEncoder;
 
 	public StaffController(UserRepository userRepository, AppointmentRepository appointmentRepository,
 			DepartmentRepository departmentRepository, ServiceCatalogRepository serviceCatalogRepository,
-			WorkScheduleRepository workScheduleRepository, BlockedDateRepository blockedDateRepository,
-			PasswordEncoder passwordEncoder) {
+			StaffScheduleService staffScheduleService, PasswordEncoder passwordEncoder) {
 		this.userRepository = userRepository;
 		this.appointmentRepository = appointmentRepository;
 		this.departmentRepository = departmentRepository;
 		this.serviceCatalogRepository = serviceCatalogRepository;
-		this.workScheduleRepository = workScheduleRepository;
-		this.blockedDateRepository = blockedDateRepository;
+		this.staffScheduleService = staffScheduleService;
 		this.passwordEncoder = passwordEncoder;
 	}
 
+	// department filters by department name, ignoring case.
 	@GetMapping
-	public ResponseEntity<List<StaffResponse>> list() {
+	public ResponseEntity<List<StaffResponse>> list(
+			@RequestParam(required = false) String q,
+			@RequestParam(required = false) String department,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "100") int size) {
 		requireAdmin();
-		List<StaffResponse> staff = userRepository.findAll().stream()
-				.filter(user -> user.getRole() == Role.STAFF)
-				.map(user -> StaffResponse.from(user, appointmentRepository.countByStaffId(user.getId())))
-				.toList();
-		return ResponseEntity.ok(staff);
+		String departmentName = department == null ? "" : department.trim().toLowerCase();
+		return Paging.ok(userRepository
+				.findStaffWithAppointmentCounts(Paging.containsPattern(q), departmentName, Paging.pageRequest(page, size))
+				.map(row -> StaffResponse.from(row.user(), row.appointments())));
+	}
+
+	// Totals over every staff member, for the figures above the paged list.
+	@GetMapping("/summary")
+	public StaffSummaryResponse summary() {
+		requireAdmin();
+		return new StaffSummaryResponse(userRepository.countByRole(Role.STAFF),
+				userRepository.countByRoleAndActiveTrue(Role.STAFF), appointmentRepository.countByStaffIsNotNull());
 	}
 
 	@PostMapping
@@ -116,8 +126,7 @@ public class StaffController {
 			appointmentRepository.saveAll(assignedAppointments);
 		}
 		// Remove dependent schedule records before deleting staff user.
-		workScheduleRepository.deleteAll(workScheduleRepository.findByStaffId(user.getId()));
-		blockedDateRepository.deleteAll(blockedDateRepository.findByStaffId(user.getId()));
+		staffScheduleService.removeAllFor(user);
 
 		userRepository.delete(user);
 		return ResponseEntity.noContent().build();
@@ -0,0 +1,7 @@
+package com.example.appointmentsystembackend.staff;
+
+public record StaffSummaryResponse(
+		long total,
+		long active,
+		long appointmentsHandled) {
+}
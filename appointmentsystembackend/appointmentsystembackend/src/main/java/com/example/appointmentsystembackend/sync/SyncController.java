@@ -0,0 +1,46 @@
+package com.example.appointmentsystembackend.sync;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.appointmentsystembackend.user.User;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+	private final SyncService syncService;
+
+	public SyncController(SyncService syncService) {
+		this.syncService = syncService;
+	}
+
+	@GetMapping
+	public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) String since) {
+		User user = currentUser();
+		return ResponseEntity.ok(syncService.changesSince(user, parseSince(since)));
+	}
+
+	private OffsetDateTime parseSince(String since) {
+		if (since == null || since.isBlank()) {
+			return null;
+		}
+		try {
+			return OffsetDateTime.parse(since);
+		} catch (DateTimeParseException ex) {
+			throw new IllegalArgumentException("since must be an ISO-8601 timestamp with offset");
+		}
+	}
+
+	private User currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return (User) authentication.getPrincipal();
+	}
+}
@@ -0,0 +1,6 @@
+package com.example.appointmentsystembackend.sync;
+
+public enum SyncEntityType {
+	APPOINTMENT,
+	NOTIFICATION
+}
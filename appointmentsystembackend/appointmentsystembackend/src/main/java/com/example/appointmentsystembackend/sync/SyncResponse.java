@@ -0,0 +1,18 @@
+package com.example.appointmentsystembackend.sync;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import com.example.appointmentsystembackend.appointment.AppointmentResponse;
+import com.example.appointmentsystembackend.notification.NotificationResponse;
+
+// full=true means the lists are a complete snapshot and the client should replace its local copy;
+// otherwise they are upserts and deletions to apply. watermark is the next request's since.
+public record SyncResponse(
+		OffsetDateTime watermark,
+		boolean full,
+		List<AppointmentResponse> appointments,
+		List<NotificationResponse> notifications,
+		List<String> deletedAppointmentIds,
+		List<String> deletedNotificationIds) {
+}
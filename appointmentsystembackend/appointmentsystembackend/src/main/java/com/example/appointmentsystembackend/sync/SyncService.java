@@ -0,0 +1,95 @@
+package com.example.appointmentsystembackend.sync;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.appointmentsystembackend.appointment.AppointmentResponse;
+import com.example.appointmentsystembackend.appointment.AppointmentService;
+import com.example.appointmentsystembackend.notification.Notification;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.notification.NotificationResponse;
+import com.example.appointmentsystembackend.user.User;
+
+// Rows are returned when their updatedAt falls in (since, watermark]. The watermark trails the
+// clock by a safety window because updatedAt is stamped before commit: a transaction that is
+// still open when we read becomes visible later with an older timestamp, and must not land
+// behind a watermark the client has already been given.
+@Service
+public class SyncService {
+	private static final OffsetDateTime EPOCH = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	private final AppointmentService appointmentService;
+	private final NotificationRepository notificationRepository;
+	private final SyncTombstoneRepository tombstoneRepository;
+	private final Duration safetyWindow;
+	private final Duration tombstoneRetention;
+
+	public SyncService(AppointmentService appointmentService, NotificationRepository notificationRepository,
+			SyncTombstoneRepository tombstoneRepository,
+			@Value("${app.sync.safety-window-seconds:5}") long safetyWindowSeconds,
+			@Value("${app.sync.tombstone-retention-days:30}") long tombstoneRetentionDays) {
+		this.appointmentService = appointmentService;
+		this.notificationRepository = notificationRepository;
+		this.tombstoneRepository = tombstoneRepository;
+		this.safetyWindow = Duration.ofSeconds(safetyWindowSeconds);
+		this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+	}
+
+	@Transactional(readOnly = true)
+	public SyncResponse changesSince(User user, OffsetDateTime since) {
+		OffsetDateTime now = OffsetDateTime.now();
+		OffsetDateTime watermark = now.minus(safetyWindow).truncatedTo(ChronoUnit.MICROS);
+		// Without a watermark, or one older than the tombstones we still keep, deletions may
+		// have been missed, so the client gets everything and replaces its local state.
+		if (since == null || since.isBefore(now.minus(tombstoneRetention))) {
+			return new SyncResponse(watermark, true,
+					appointmentService.listChangedForUser(user, EPOCH, watermark),
+					notifications(user, EPOCH, watermark),
+					List.of(), List.of());
+		}
+		if (!since.isBefore(watermark)) {
+			return new SyncResponse(since, false, List.of(), List.of(), List.of(), List.of());
+		}
+
+		List<String> deletedAppointmentIds = new ArrayList<>();
+		List<String> deletedNotificationIds = new ArrayList<>();
+		for (SyncTombstone tombstone : tombstoneRepository.findVisibleBetween(user.getId(), since, watermark)) {
+			if (tombstone.getEntityType() == SyncEntityType.APPOINTMENT) {
+				deletedAppointmentIds.add(tombstone.getEntityId().toString());
+			} else {
+				deletedNotificationIds.add(tombstone.getEntityId().toString());
+			}
+		}
+		List<AppointmentResponse> appointments = appointmentService.listChangedForUser(user, since, watermark);
+		return new SyncResponse(watermark, false, appointments, notifications(user, since, watermark),
+				deletedAppointmentIds, deletedNotificationIds);
+	}
+
+	// Deletes the notification and leaves a tombstone for its owner in the same transaction.
+	@Transactional
+	public void deleteNotification(Notification notification) {
+		notificationRepository.delete(notification);
+		tombstoneRepository.save(new SyncTombstone(SyncEntityType.NOTIFICATION, notification.getId(),
+				notification.getUser().getId()));
+	}
+
+	@Transactional
+	public int purgeExpiredTombstones() {
+		return tombstoneRepository.deleteByDeletedAtBefore(OffsetDateTime.now().minus(tombstoneRetention));
+	}
+
+	private List<NotificationResponse> notifications(User user, OffsetDateTime after, OffsetDateTime until) {
+		return notificationRepository
+				.findByUserIdAndUpdatedAtGreaterThanAndUpdatedAtLessThanEqual(user.getId(), after, until).stream()
+				.map(NotificationResponse::from)
+				.toList();
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.appointmentsystembackend.sync;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "sync_tombstones")
+public class SyncTombstone {
+	@Id
+	@Column(nullable = false, updatable = false)
+	private UUID id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 32)
+	private SyncEntityType entityType;
+
+	@Column(nullable = false)
+	private UUID entityId;
+
+	// Null when the deletion concerns every account that could see the row.
+	@Column
+	private UUID userId;
+
+	@Column(nullable = false)
+	private OffsetDateTime deletedAt;
+
+	protected SyncTombstone() {
+	}
+
+	public SyncTombstone(SyncEntityType entityType, UUID entityId, UUID userId) {
+		this.entityType = entityType;
+		this.entityId = entityId;
+		this.userId = userId;
+	}
+
+	@PrePersist
+	public void prePersist() {
+		if (id == null) {
+			id = TimeOrderedUuid.next();
+		}
+		if (deletedAt == null) {
+			deletedAt = OffsetDateTime.now();
+		}
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public SyncEntityType getEntityType() {
+		return entityType;
+	}
+
+	public UUID getEntityId() {
+		return entityId;
+	}
+
+	public UUID getUserId() {
+		return userId;
+	}
+
+	public OffsetDateTime getDeletedAt() {
+		return deletedAt;
+	}
+}
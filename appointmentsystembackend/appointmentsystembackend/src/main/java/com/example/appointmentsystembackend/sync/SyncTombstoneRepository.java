@@ -0,0 +1,21 @@
+package com.example.appointmentsystembackend.sync;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+	@Query("select t from SyncTombstone t where (t.userId = :userId or t.userId is null) "
+			+ "and t.deletedAt > :after and t.deletedAt <= :until")
+	List<SyncTombstone> findVisibleBetween(@Param("userId") UUID userId, @Param("after") OffsetDateTime after,
+			@Param("until") OffsetDateTime until);
+
+	@Modifying
+	@Query("delete from SyncTombstone t where t.deletedAt < :cutoff")
+	int deleteByDeletedAtBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
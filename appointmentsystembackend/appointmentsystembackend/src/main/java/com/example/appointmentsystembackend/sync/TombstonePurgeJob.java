@@ -0,0 +1,34 @@
+package com.example.appointmentsystembackend.sync;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.appointmentsystembackend.jobs.ClusterJob;
+
+// Drops sync tombstones older than the retention; clients behind that get a full snapshot.
+@Component
+public class TombstonePurgeJob implements ClusterJob {
+	private final SyncService syncService;
+	private final String cron;
+
+	public TombstonePurgeJob(SyncService syncService,
+			@Value("${app.jobs.tombstone-purge-cron:0 30 3 * * *}") String cron) {
+		this.syncService = syncService;
+		this.cron = cron;
+	}
+
+	@Override
+	public String name() {
+		return "tombstone-purge";
+	}
+
+	@Override
+	public String cron() {
+		return cron;
+	}
+
+	@Override
+	public long run() {
+		return syncService.purgeExpiredTombstones();
+	}
+}
@@ -0,0 +1,5 @@
+package com.example.appointmentsystembackend.user;
+
+// A user together with the number of appointments they booked (clients) or handle (staff).
+public record UserAppointmentCount(User user, long appointments) {
+}
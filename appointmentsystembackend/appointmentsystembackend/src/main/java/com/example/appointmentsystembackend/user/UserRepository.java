@@ -1,10 +1,15 @@
 package com.example.appointmentsystembackend.user;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 	Optional<User> findByEmail(String email);
@@ -13,4 +18,40 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 	List<User> findByRoleAndActiveTrueAndDepartmentId(Role role, UUID departmentId);
 	List<User> findByRoleAndActiveTrueAndDepartmentIgnoreCase(Role role, String department);
 	List<User> findByRoleAndActiveTrueAndDepartmentIdAndServiceId(Role role, UUID departmentId, UUID serviceId);
+
+	// Admin listings: one statement per page. The per-row counts are correlated subqueries, so
+	// only the rows on the page are counted (via the client_id/staff_id indexes) instead of
+	// grouping every appointment before the limit applies. pattern comes from Paging.containsPattern
+	// and matches name, email or phone (and the service, for staff). actives lists the wanted
+	// values of active; department is a lowercased name, or empty for every department.
+	@Query(value = "select new com.example.appointmentsystembackend.user.UserAppointmentCount(u, "
+			+ "(select count(a) from Appointment a where a.client = u)) "
+			+ "from User u where u.role = com.example.appointmentsystembackend.user.Role.CLIENT "
+			+ "and (lower(u.fullName) like :pattern escape '\\' or lower(u.email) like :pattern escape '\\' "
+			+ "or lower(u.phone) like :pattern escape '\\') "
+			+ "and u.active in :actives "
+			+ "order by u.fullName, u.id",
+			countQuery = "select count(u) from User u where u.role = com.example.appointmentsystembackend.user.Role.CLIENT "
+					+ "and (lower(u.fullName) like :pattern escape '\\' or lower(u.email) like :pattern escape '\\' "
+					+ "or lower(u.phone) like :pattern escape '\\') "
+					+ "and u.active in :actives")
+	Page<UserAppointmentCount> findClientsWithAppointmentCounts(@Param("pattern") String pattern,
+			@Param("actives") Collection<Boolean> actives, Pageable pageable);
+
+	@Query(value = "select new com.example.appointmentsystembackend.user.UserAppointmentCount(u, "
+			+ "(select count(a) from Appointment a where a.staff = u)) "
+			+ "from User u where u.role = com.example.appointmentsystembackend.user.Role.STAFF "
+			+ "and (lower(u.fullName) like :pattern escape '\\' or lower(u.email) like :pattern escape '\\' "
+			+ "or lower(u.phone) like :pattern escape '\\' or lower(u.serviceName) like :pattern escape '\\') "
+			+ "and (:department = '' or lower(u.department) = :department) "
+			+ "order by u.fullName, u.id",
+			countQuery = "select count(u) from User u where u.role = com.example.appointmentsystembackend.user.Role.STAFF "
+					+ "and (lower(u.fullName) like :pattern escape '\\' or lower(u.email) like :pattern escape '\\' "
+					+ "or lower(u.phone) like :pattern escape '\\' or lower(u.serviceName) like :pattern escape '\\') "
+					+ "and (:department = '' or lower(u.department) = :department)")
+	Page<UserAppointmentCount> findStaffWithAppointmentCounts(@Param("pattern") String pattern,
+			@Param("department") String department, Pageable pageable);
+
+	long countByRole(Role role);
+	long countByRoleAndActiveTrue(Role role);
 }
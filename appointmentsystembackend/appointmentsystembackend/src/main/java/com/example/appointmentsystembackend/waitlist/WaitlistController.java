@@ -0,0 +1,59 @@
+package com.example.appointmentsystembackend.waitlist;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.appointmentsystembackend.user.User;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@Validated
+public class WaitlistController {
+	private final WaitlistService waitlistService;
+
+	public WaitlistController(WaitlistService waitlistService) {
+		this.waitlistService = waitlistService;
+	}
+
+	// Clients see their own entries; staff and admins see the waiting queue, optionally for one service.
+	@GetMapping
+	public ResponseEntity<List<WaitlistEntryResponse>> list(@RequestParam(required = false) UUID serviceId) {
+		List<WaitlistEntryResponse> entries = waitlistService.listForUser(currentUser(), serviceId).stream()
+				.map(WaitlistEntryResponse::from)
+				.toList();
+		return ResponseEntity.ok(entries);
+	}
+
+	@PostMapping
+	public ResponseEntity<WaitlistEntryResponse> join(@Valid @RequestBody WaitlistRequest request) {
+		WaitlistEntry entry = waitlistService.join(currentUser(), request);
+		return new ResponseEntity<>(WaitlistEntryResponse.from(entry), HttpStatus.CREATED);
+	}
+
+	@DeleteMapping("/{id}")
+	public ResponseEntity<Void> leave(@PathVariable UUID id) {
+		waitlistService.cancel(currentUser(), id);
+		return ResponseEntity.noContent().build();
+	}
+
+	private User currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return (User) authentication.getPrincipal();
+	}
+}
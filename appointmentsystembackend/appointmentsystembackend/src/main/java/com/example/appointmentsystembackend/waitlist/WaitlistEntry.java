@@ -0,0 +1,106 @@
+package com.example.appointmentsystembackend.waitlist;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import com.example.appointmentsystembackend.common.TimeOrderedUuid;
+import com.example.appointmentsystembackend.user.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "waitlist_entries")
+public class WaitlistEntry {
+	@Id
+	@Column(nullable = false, updatable = false)
+	private UUID id;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "client_id", nullable = false)
+	private User client;
+
+	@Column(nullable = false)
+	private UUID serviceId;
+
+	@Column(nullable = false)
+	private LocalDate windowStart;
+
+	// Inclusive.
+	@Column(nullable = false)
+	private LocalDate windowEnd;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private WaitlistStatus status;
+
+	@Column
+	private UUID claimedAppointmentId;
+
+	@Column(nullable = false)
+	private OffsetDateTime createdAt;
+
+	protected WaitlistEntry() {
+	}
+
+	public WaitlistEntry(User client, UUID serviceId, LocalDate windowStart, LocalDate windowEnd) {
+		this.client = client;
+		this.serviceId = serviceId;
+		this.windowStart = windowStart;
+		this.windowEnd = windowEnd;
+		this.status = WaitlistStatus.WAITING;
+	}
+
+	@PrePersist
+	public void prePersist() {
+		if (id == null) {
+			id = TimeOrderedUuid.next();
+		}
+		if (createdAt == null) {
+			// The column keeps microseconds; queued copies of the entity should order like its rows.
+			createdAt = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+		}
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public User getClient() {
+		return client;
+	}
+
+	public UUID getServiceId() {
+		return serviceId;
+	}
+
+	public LocalDate getWindowStart() {
+		return windowStart;
+	}
+
+	public LocalDate getWindowEnd() {
+		return windowEnd;
+	}
+
+	public WaitlistStatus getStatus() {
+		return status;
+	}
+
+	public UUID getClaimedAppointmentId() {
+		return claimedAppointmentId;
+	}
+
+	public OffsetDateTime getCreatedAt() {
+		return createdAt;
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.appointmentsystembackend.waitlist;
+
+public record WaitlistEntryResponse(
+		String id,
+		String clientId,
+		String serviceId,
+		String windowStart,
+		String windowEnd,
+		String status,
+		String claimedAppointmentId,
+		String createdAt) {
+	public static WaitlistEntryResponse from(WaitlistEntry entry) {
+		return new WaitlistEntryResponse(
+				entry.getId().toString(),
+				entry.getClient().getId().toString(),
+				entry.getServiceId().toString(),
+				entry.getWindowStart().toString(),
+				entry.getWindowEnd().toString(),
+				entry.getStatus().name(),
+				entry.getClaimedAppointmentId() != null ? entry.getClaimedAppointmentId().toString() : null,
+				entry.getCreatedAt().toString());
+	}
+}
@@ -0,0 +1,169 @@
+package com.example.appointmentsystembackend.waitlist;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.appointmentsystembackend.invalidation.InvalidationMessage;
+import com.example.appointmentsystembackend.invalidation.InvalidationType;
+
+// In-memory view of the WAITING rows of waitlist_entries: per service, a skip-list ordered by
+// request time, so a freed slot is matched by walking the queue head instead of querying.
+// The table stays the source of truth. The queues are rebuilt from it on first use after a
+// restart, and a claim only counts once the row's conditional update has succeeded. Entries
+// added on other nodes are picked up when the invalidation bus reports their service; entries
+// claimed or cancelled elsewhere stay until their claim here fails and drops them.
+// The rebuild runs once, as a FutureTask published through an AtomicReference: the first caller
+// runs it and everyone else waits on the future, which parks instead of holding a monitor
+// across the query.
+// Each service's waiters are keyed by entry id. A row reloaded from the database carries a
+// createdAt rounded to the column's precision, so it must match the waiter queued from the
+// entity that created it by id, not by value.
+@Component
+public class WaitlistQueue {
+	private static final Comparator<Waiter> ORDER = Comparator
+			.comparing((Waiter waiter) -> waiter.createdAt().toInstant())
+			.thenComparing(Waiter::id);
+
+	private final WaitlistRepository waitlistRepository;
+	private final AtomicReference<FutureTask<ConcurrentHashMap<UUID, Queue>>> queues =
+			new AtomicReference<>();
+
+	public WaitlistQueue(WaitlistRepository waitlistRepository) {
+		this.waitlistRepository = waitlistRepository;
+	}
+
+	public record Waiter(UUID id, UUID clientId, LocalDate windowStart, LocalDate windowEnd, OffsetDateTime createdAt) {
+		static Waiter of(WaitlistEntry entry) {
+			return new Waiter(entry.getId(), entry.getClient().getId(), entry.getWindowStart(), entry.getWindowEnd(),
+					entry.getCreatedAt());
+		}
+
+		boolean covers(LocalDate date) {
+			return !date.isBefore(windowStart) && !date.isAfter(windowEnd);
+		}
+	}
+
+	// Call after the entry has committed. A concurrent recovery load may already have picked it
+	// up; the queue ignores the duplicate.
+	public void add(WaitlistEntry entry) {
+		queues().computeIfAbsent(entry.getServiceId(), id -> new Queue()).add(Waiter.of(entry));
+	}
+
+	public void remove(UUID serviceId, Waiter waiter) {
+		Queue queue = queues().get(serviceId);
+		if (queue != null) {
+			queue.remove(waiter.id());
+		}
+	}
+
+	public void remove(WaitlistEntry entry) {
+		remove(entry.getServiceId(), Waiter.of(entry));
+	}
+
+	@EventListener
+	public void onInvalidation(InvalidationMessage message) {
+		if (message.type() != InvalidationType.WAITLIST) {
+			return;
+		}
+		if (message.all()) {
+			queues.set(null);
+			return;
+		}
+		if (queues.get() == null) {
+			return;
+		}
+		ConcurrentHashMap<UUID, Queue> current = queues();
+		// Only adds, so a waiter added locally while the rows load is never dropped.
+		Queue queue = current.computeIfAbsent(message.id(), id -> new Queue());
+		for (WaitlistEntry entry : waitlistRepository.findByServiceIdAndStatusOrderByCreatedAtAsc(message.id(),
+				WaitlistStatus.WAITING)) {
+			queue.add(Waiter.of(entry));
+		}
+	}
+
+	// Waiters for the service whose window covers the date, oldest request first. Waiters whose
+	// window has passed are dropped from memory on the way.
+	public List<Waiter> candidates(UUID serviceId, LocalDate date) {
+		Queue queue = queues().get(serviceId);
+		if (queue == null) {
+			return List.of();
+		}
+		LocalDate today = LocalDate.now();
+		List<Waiter> candidates = new ArrayList<>();
+		for (Waiter waiter : queue.ordered) {
+			if (waiter.windowEnd().isBefore(today)) {
+				queue.remove(waiter.id());
+			} else if (waiter.covers(date)) {
+				candidates.add(waiter);
+			}
+		}
+		return candidates;
+	}
+
+	private ConcurrentHashMap<UUID, Queue> queues() {
+		FutureTask<ConcurrentHashMap<UUID, Queue>> load = queues.get();
+		if (load == null) {
+			FutureTask<ConcurrentHashMap<UUID, Queue>> created = new FutureTask<>(this::load);
+			load = queues.compareAndExchange(null, created);
+			if (load == null) {
+				load = created;
+				created.run();
+			}
+		}
+		try {
+			return load.get();
+		} catch (ExecutionException ex) {
+			// Let the next caller try again rather than caching the failure.
+			queues.compareAndSet(load, null);
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Failed to load the waitlist", ex.getCause());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while loading the waitlist", ex);
+		}
+	}
+
+	private ConcurrentHashMap<UUID, Queue> load() {
+		ConcurrentHashMap<UUID, Queue> loaded = new ConcurrentHashMap<>();
+		for (WaitlistEntry entry : waitlistRepository.findByStatusOrderByCreatedAtAsc(WaitlistStatus.WAITING)) {
+			loaded.computeIfAbsent(entry.getServiceId(), id -> new Queue()).add(Waiter.of(entry));
+		}
+		return loaded;
+	}
+
+	// The ordered set only changes inside the id map's per-key compute, so a waiter removed while
+	// it is being added cannot be left behind in it.
+	private static final class Queue {
+		private final ConcurrentHashMap<UUID, Waiter> byId = new ConcurrentHashMap<>();
+		private final NavigableSet<Waiter> ordered = new ConcurrentSkipListSet<>(ORDER);
+
+		void add(Waiter waiter) {
+			byId.computeIfAbsent(waiter.id(), id -> {
+				ordered.add(waiter);
+				return waiter;
+			});
+		}
+
+		void remove(UUID id) {
+			byId.computeIfPresent(id, (key, waiter) -> {
+				ordered.remove(waiter);
+				return null;
+			});
+		}
+	}
+}
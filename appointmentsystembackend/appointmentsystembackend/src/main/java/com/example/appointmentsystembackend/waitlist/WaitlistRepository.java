@@ -0,0 +1,24 @@
+package com.example.appointmentsystembackend.waitlist;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, UUID> {
+	List<WaitlistEntry> findByStatusOrderByCreatedAtAsc(WaitlistStatus status);
+	List<WaitlistEntry> findByClientIdOrderByCreatedAtDesc(UUID clientId);
+	List<WaitlistEntry> findByServiceIdAndStatusOrderByCreatedAtAsc(UUID serviceId, WaitlistStatus status);
+	boolean existsByClientIdAndServiceIdAndStatus(UUID clientId, UUID serviceId, WaitlistStatus status);
+
+	// Conditional transitions out of WAITING: the row lock makes concurrent claims and
+	// cancellations of the same entry serialise, and only one of them sees a count of 1.
+	@Modifying(flushAutomatically = true)
+	@Query("update WaitlistEntry e set e.status = :status, e.claimedAppointmentId = :appointmentId "
+			+ "where e.id = :id and e.status = com.example.appointmentsystembackend.waitlist.WaitlistStatus.WAITING")
+	int leaveWaiting(@Param("id") UUID id, @Param("status") WaitlistStatus status,
+			@Param("appointmentId") UUID appointmentId);
+}
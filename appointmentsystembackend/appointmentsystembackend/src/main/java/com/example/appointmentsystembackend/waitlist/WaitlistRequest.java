@@ -0,0 +1,10 @@
+package com.example.appointmentsystembackend.waitlist;
+
+import jakarta.validation.constraints.NotBlank;
+
+// windowEnd defaults to windowStart.
+public record WaitlistRequest(
+		@NotBlank String serviceId,
+		@NotBlank String windowStart,
+		String windowEnd) {
+}
@@ -0,0 +1,234 @@
+package com.example.appointmentsystembackend.waitlist;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.appointmentsystembackend.appointment.Appointment;
+import com.example.appointmentsystembackend.appointment.AppointmentCancelledEvent;
+import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.appointment.AppointmentStatus;
+import com.example.appointmentsystembackend.invalidation.InvalidationPublisher;
+import com.example.appointmentsystembackend.invalidation.InvalidationType;
+import com.example.appointmentsystembackend.notification.Notification;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.notification.NotificationType;
+import com.example.appointmentsystembackend.schedule.ClosureCalendar;
+import com.example.appointmentsystembackend.schedule.StaffAvailabilityCache;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalogRepository;
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+import com.example.appointmentsystembackend.user.UserRepository;
+
+@Service
+@Transactional
+public class WaitlistService {
+	private static final Logger logger = LoggerFactory.getLogger(WaitlistService.class);
+
+	private enum Outcome {
+		CLAIMED,
+		// The waiter can no longer take the slot; try the next one.
+		SKIPPED,
+		// The slot itself is gone; stop.
+		UNAVAILABLE
+	}
+
+	private final WaitlistRepository waitlistRepository;
+	private final WaitlistQueue waitlistQueue;
+	private final AppointmentRepository appointmentRepository;
+	private final UserRepository userRepository;
+	private final ServiceCatalogRepository serviceCatalogRepository;
+	private final NotificationRepository notificationRepository;
+	private final StaffAvailabilityCache availabilityCache;
+	private final ClosureCalendar closureCalendar;
+	private final InvalidationPublisher invalidations;
+	private final TransactionTemplate claimTransaction;
+	private final long maxWindowDays;
+
+	public WaitlistService(WaitlistRepository waitlistRepository, WaitlistQueue waitlistQueue,
+			AppointmentRepository appointmentRepository, UserRepository userRepository,
+			ServiceCatalogRepository serviceCatalogRepository, NotificationRepository notificationRepository,
+			StaffAvailabilityCache availabilityCache, ClosureCalendar closureCalendar,
+			InvalidationPublisher invalidations, PlatformTransactionManager transactionManager,
+			@Value("${app.waitlist.max-window-days:60}") long maxWindowDays) {
+		this.waitlistRepository = waitlistRepository;
+		this.waitlistQueue = waitlistQueue;
+		this.appointmentRepository = appointmentRepository;
+		this.userRepository = userRepository;
+		this.serviceCatalogRepository = serviceCatalogRepository;
+		this.notificationRepository = notificationRepository;
+		this.availabilityCache = availabilityCache;
+		this.closureCalendar = closureCalendar;
+		this.invalidations = invalidations;
+		// The cancelling transaction has already committed when the listener runs, so each claim
+		// needs a transaction of its own.
+		this.claimTransaction = new TransactionTemplate(transactionManager);
+		this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.maxWindowDays = maxWindowDays;
+	}
+
+	public WaitlistEntry join(User client, WaitlistRequest request) {
+		if (client.getRole() != Role.CLIENT) {
+			throw new IllegalArgumentException("Only clients can join a waitlist");
+		}
+		ServiceCatalog service = serviceCatalogRepository.findById(UUID.fromString(request.serviceId()))
+				.orElseThrow(() -> new IllegalArgumentException("Service not found"));
+		if (!service.isActive()) {
+			throw new IllegalArgumentException("Selected service is not available");
+		}
+		LocalDate today = LocalDate.now();
+		LocalDate windowStart = LocalDate.parse(request.windowStart());
+		LocalDate windowEnd = request.windowEnd() == null || request.windowEnd().isBlank()
+				? windowStart
+				: LocalDate.parse(request.windowEnd());
+		if (windowEnd.isBefore(windowStart)) {
+			throw new IllegalArgumentException("Waitlist window end must not be before its start");
+		}
+		if (windowEnd.isBefore(today)) {
+			throw new IllegalArgumentException("Waitlist window is already over");
+		}
+		if (windowStart.isBefore(today)) {
+			windowStart = today;
+		}
+		if (ChronoUnit.DAYS.between(windowStart, windowEnd) >= maxWindowDays) {
+			throw new IllegalArgumentException("Waitlist window must not exceed " + maxWindowDays + " days");
+		}
+		if (waitlistRepository.existsByClientIdAndServiceIdAndStatus(client.getId(), service.getId(),
+				WaitlistStatus.WAITING)) {
+			throw new IllegalArgumentException("You are already on the waitlist for this service");
+		}
+		WaitlistEntry entry = waitlistRepository.save(new WaitlistEntry(client, service.getId(), windowStart, windowEnd));
+		invalidations.publish(InvalidationType.WAITLIST, service.getId());
+		afterCommit(() -> waitlistQueue.add(entry));
+		return entry;
+	}
+
+	@Transactional(readOnly = true)
+	public List<WaitlistEntry> listForUser(User user, UUID serviceId) {
+		if (user.getRole() == Role.CLIENT) {
+			return waitlistRepository.findByClientIdOrderByCreatedAtDesc(user.getId());
+		}
+		if (serviceId != null) {
+			return waitlistRepository.findByServiceIdAndStatusOrderByCreatedAtAsc(serviceId, WaitlistStatus.WAITING);
+		}
+		return waitlistRepository.findByStatusOrderByCreatedAtAsc(WaitlistStatus.WAITING);
+	}
+
+	public void cancel(User user, UUID id) {
+		WaitlistEntry entry = waitlistRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("Waitlist entry not found"));
+		if (user.getRole() == Role.CLIENT && !entry.getClient().getId().equals(user.getId())) {
+			throw new IllegalArgumentException("Not allowed");
+		}
+		if (waitlistRepository.leaveWaiting(id, WaitlistStatus.CANCELLED, null) == 0) {
+			throw new IllegalArgumentException("Waitlist entry is no longer waiting");
+		}
+		afterCommit(() -> waitlistQueue.remove(entry));
+	}
+
+	// Offers the freed slot to the waiters of its service in request order. Each attempt books
+	// the slot and moves the entry out of WAITING in one transaction, so a waiter claimed or
+	// cancelled concurrently (on this node or another) loses the conditional update and the
+	// booking is rolled back. Failures are logged; the cancellation itself has already committed.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void onAppointmentCancelled(AppointmentCancelledEvent event) {
+		if (event.serviceId() == null || event.staffId() == null
+				|| LocalDateTime.of(event.date(), event.time()).isBefore(LocalDateTime.now())) {
+			return;
+		}
+		for (WaitlistQueue.Waiter waiter : waitlistQueue.candidates(event.serviceId(), event.date())) {
+			if (waiter.clientId().equals(event.clientId())) {
+				continue;
+			}
+			Outcome outcome;
+			try {
+				outcome = claimTransaction.execute(status -> claim(waiter, event, status));
+			} catch (RuntimeException ex) {
+				logger.warn("Waitlist backfill for appointment {} failed", event.appointmentId(), ex);
+				return;
+			}
+			if (outcome != Outcome.UNAVAILABLE) {
+				waitlistQueue.remove(event.serviceId(), waiter);
+			}
+			if (outcome != Outcome.SKIPPED) {
+				return;
+			}
+		}
+	}
+
+	private Outcome claim(WaitlistQueue.Waiter waiter, AppointmentCancelledEvent event, TransactionStatus status) {
+		User staff = userRepository.findById(event.staffId()).orElse(null);
+		ServiceCatalog service = serviceCatalogRepository.findById(event.serviceId()).orElse(null);
+		if (staff == null || !staff.isActive() || service == null || !service.isActive()
+				|| closureCalendar.isClosed(event.date(), service.getDepartmentId())
+				|| !availabilityCache.get(staff.getId()).isWorkingAt(event.date(), event.time())) {
+			return Outcome.UNAVAILABLE;
+		}
+		boolean slotTaken = appointmentRepository.findBookedSlots(List.of(staff.getId()), event.date(), event.date())
+				.stream()
+				.anyMatch(slot -> slot.time().equals(event.time()));
+		if (slotTaken) {
+			return Outcome.UNAVAILABLE;
+		}
+
+		User client = userRepository.findById(waiter.clientId()).orElse(null);
+		if (client == null || !client.isActive()) {
+			waitlistRepository.leaveWaiting(waiter.id(), WaitlistStatus.CANCELLED, null);
+			return Outcome.SKIPPED;
+		}
+		Appointment appointment = appointmentRepository.save(new Appointment(
+				client,
+				staff,
+				service.getId(),
+				service.getName(),
+				event.date(),
+				event.time(),
+				event.location(),
+				AppointmentStatus.PENDING,
+				null));
+		if (waitlistRepository.leaveWaiting(waiter.id(), WaitlistStatus.CLAIMED, appointment.getId()) == 0) {
+			status.setRollbackOnly();
+			return Outcome.SKIPPED;
+		}
+		notificationRepository.save(new Notification(
+				client,
+				NotificationType.CONFIRMATION,
+				"Waitlist Slot Booked",
+				String.format("A %s slot on %s at %s opened up and has been booked for you from the waitlist. "
+						+ "It is pending review.", service.getName(), event.date(), event.time()),
+				false));
+		return Outcome.CLAIMED;
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,7 @@
+package com.example.appointmentsystembackend.waitlist;
+
+public enum WaitlistStatus {
+	WAITING,
+	CLAIMED,
+	CANCELLED
+}
@@ -0,0 +1,23 @@
+-- Recurring bookings: a series row describes the recurrence, and each occurrence is an ordinary
+-- appointment pointing back at it so edits and cancellations can be applied to the whole series.
+CREATE TABLE IF NOT EXISTS appointment_series (
+    id uuid NOT NULL,
+    client_id uuid NOT NULL,
+    service_id uuid NOT NULL,
+    frequency varchar(20) NOT NULL,
+    occurrences integer NOT NULL,
+    start_date date NOT NULL,
+    time time(6) NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT appointment_series_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_appointment_series_client FOREIGN KEY (client_id) REFERENCES users (id),
+    CONSTRAINT fk_appointment_series_service FOREIGN KEY (service_id) REFERENCES services (id),
+    CONSTRAINT appointment_series_frequency_check CHECK (frequency IN ('WEEKLY', 'MONTHLY')),
+    CONSTRAINT appointment_series_occurrences_check CHECK (occurrences > 0)
+);
+
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS series_id uuid
+    CONSTRAINT fk_appointments_series REFERENCES appointment_series (id);
+
+-- Only series occurrences are indexed.
+CREATE INDEX IF NOT EXISTS idx_appointments_series ON appointments (series_id, date) WHERE series_id IS NOT NULL;
@@ -0,0 +1,12 @@
+-- One row per reminder sent, keyed by the start time it announced: inserting it is what claims
+-- the send, so a reminder goes out once even if it is scheduled twice or on two nodes, and an
+-- appointment that moves gets fresh reminders for its new time.
+CREATE TABLE IF NOT EXISTS appointment_reminders (
+    appointment_id uuid NOT NULL,
+    starts_at timestamp(6) with time zone NOT NULL,
+    lead_minutes integer NOT NULL,
+    sent_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT appointment_reminders_pkey PRIMARY KEY (appointment_id, starts_at, lead_minutes),
+    CONSTRAINT fk_appointment_reminders_appointment
+        FOREIGN KEY (appointment_id) REFERENCES appointments (id) ON DELETE CASCADE
+);
@@ -0,0 +1,15 @@
+-- Last run of each cluster job. Which node runs a job is decided by a Postgres advisory lock,
+-- not by this table; the owner and heartbeat columns only report it.
+CREATE TABLE IF NOT EXISTS scheduled_jobs (
+    name varchar(100) NOT NULL,
+    owner varchar(255),
+    heartbeat_at timestamp(6) with time zone,
+    last_status varchar(20),
+    last_started_at timestamp(6) with time zone,
+    last_finished_at timestamp(6) with time zone,
+    last_duration_ms bigint,
+    last_rows bigint,
+    last_error varchar(1000),
+    CONSTRAINT scheduled_jobs_pkey PRIMARY KEY (name),
+    CONSTRAINT scheduled_jobs_status_check CHECK (last_status IN ('RUNNING', 'SUCCEEDED', 'FAILED'))
+);
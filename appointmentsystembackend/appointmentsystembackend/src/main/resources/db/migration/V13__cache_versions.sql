@@ -0,0 +1,11 @@
+-- One counter per invalidation type, bumped in the writing transaction along with its NOTIFY.
+-- Nodes compare it with the last version they were notified of to detect missed messages.
+CREATE TABLE IF NOT EXISTS cache_versions (
+    type varchar(40) NOT NULL,
+    version bigint NOT NULL DEFAULT 0,
+    CONSTRAINT cache_versions_pkey PRIMARY KEY (type)
+);
+
+INSERT INTO cache_versions (type, version)
+VALUES ('STAFF_AVAILABILITY', 0), ('CLOSURES', 0), ('WAITLIST', 0)
+ON CONFLICT (type) DO NOTHING;
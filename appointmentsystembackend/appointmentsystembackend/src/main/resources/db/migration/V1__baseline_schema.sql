@@ -0,0 +1,142 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at version 1 and skip this script.
+
+CREATE TABLE IF NOT EXISTS users (
+    id uuid NOT NULL,
+    email varchar(255) NOT NULL,
+    full_name varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    role varchar(255) NOT NULL,
+    department varchar(255),
+    department_id uuid,
+    service_id uuid,
+    service_name varchar(255),
+    phone varchar(255),
+    active boolean NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT users_role_check CHECK (role IN ('CLIENT', 'STAFF', 'ADMIN'))
+);
+
+CREATE TABLE IF NOT EXISTS departments (
+    id uuid NOT NULL,
+    name varchar(255) NOT NULL,
+    description varchar(255),
+    type varchar(255) NOT NULL,
+    active boolean NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT departments_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_departments_name UNIQUE (name),
+    CONSTRAINT departments_type_check CHECK (type IN ('OPERATIONAL', 'SUPPORT'))
+);
+
+CREATE TABLE IF NOT EXISTS services (
+    id uuid NOT NULL,
+    name varchar(255) NOT NULL,
+    description varchar(255),
+    department_id uuid NOT NULL,
+    requirements varchar(255),
+    active boolean NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT services_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS appointments (
+    id uuid NOT NULL,
+    client_id uuid NOT NULL,
+    staff_id uuid,
+    service_id uuid,
+    appointment_type varchar(255) NOT NULL,
+    date date NOT NULL,
+    time time(6) NOT NULL,
+    location varchar(255) NOT NULL,
+    status varchar(255) NOT NULL,
+    notes varchar(255),
+    created_at timestamp(6) with time zone NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT appointments_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_appointments_client FOREIGN KEY (client_id) REFERENCES users (id),
+    CONSTRAINT fk_appointments_staff FOREIGN KEY (staff_id) REFERENCES users (id),
+    CONSTRAINT appointments_status_check
+        CHECK (status IN ('PENDING', 'CONFIRMED', 'SCHEDULED', 'COMPLETED', 'CANCELLED'))
+);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    type varchar(255) NOT NULL,
+    title varchar(255) NOT NULL,
+    message varchar(1000) NOT NULL,
+    read boolean NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT notifications_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT notifications_type_check CHECK (type IN ('REMINDER', 'CONFIRMATION', 'ALERT', 'INFO'))
+);
+
+CREATE TABLE IF NOT EXISTS feedback (
+    id uuid NOT NULL,
+    appointment_id uuid NOT NULL,
+    staff_id uuid NOT NULL,
+    client_id uuid NOT NULL,
+    rating integer NOT NULL,
+    comment varchar(1000) NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT feedback_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_feedback_appointment FOREIGN KEY (appointment_id) REFERENCES appointments (id),
+    CONSTRAINT fk_feedback_staff FOREIGN KEY (staff_id) REFERENCES users (id),
+    CONSTRAINT fk_feedback_client FOREIGN KEY (client_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS work_schedules (
+    id uuid NOT NULL,
+    staff_id uuid NOT NULL,
+    day_of_week varchar(255) NOT NULL,
+    start_time time(6) NOT NULL,
+    end_time time(6) NOT NULL,
+    working boolean NOT NULL,
+    CONSTRAINT work_schedules_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_work_schedules_staff FOREIGN KEY (staff_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS blocked_dates (
+    id uuid NOT NULL,
+    staff_id uuid NOT NULL,
+    date date NOT NULL,
+    reason varchar(255),
+    CONSTRAINT blocked_dates_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_blocked_dates_staff FOREIGN KEY (staff_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS password_reset_tokens (
+    id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    token_hash varchar(128) NOT NULL,
+    expires_at timestamp(6) with time zone NOT NULL,
+    used boolean NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT password_reset_tokens_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_tokens_hash UNIQUE (token_hash),
+    CONSTRAINT fk_password_reset_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS system_settings (
+    id bigint NOT NULL,
+    system_name varchar(255) NOT NULL,
+    support_email varchar(255) NOT NULL,
+    max_appointments_per_day integer NOT NULL,
+    appointment_duration integer NOT NULL,
+    admin_notifications boolean NOT NULL,
+    staff_notifications boolean NOT NULL,
+    client_notifications boolean NOT NULL,
+    maintenance_mode boolean NOT NULL,
+    auto_backup boolean NOT NULL,
+    backup_time time(6) NOT NULL,
+    two_factor_auth boolean NOT NULL,
+    password_expiry integer NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT system_settings_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,33 @@
+-- Indexes backing the repository finders used on every listing, booking and report request.
+
+-- Appointments: per-client, per-staff and per-service listings, calendar ranges and status filters.
+CREATE INDEX IF NOT EXISTS idx_appointments_client_date ON appointments (client_id, date, time);
+CREATE INDEX IF NOT EXISTS idx_appointments_staff_date ON appointments (staff_id, date, time);
+CREATE INDEX IF NOT EXISTS idx_appointments_service_date ON appointments (service_id, date, time);
+CREATE INDEX IF NOT EXISTS idx_appointments_date_time ON appointments (date, time);
+CREATE INDEX IF NOT EXISTS idx_appointments_status_date ON appointments (status, date);
+
+-- Auto-assignment only ever looks at the (small) unassigned backlog.
+CREATE INDEX IF NOT EXISTS idx_appointments_unassigned ON appointments (service_id) WHERE staff_id IS NULL;
+
+-- Notifications are always read per user, newest first.
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created ON notifications (user_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_feedback_staff ON feedback (staff_id);
+CREATE INDEX IF NOT EXISTS idx_feedback_client ON feedback (client_id);
+CREATE INDEX IF NOT EXISTS idx_feedback_appointment ON feedback (appointment_id);
+
+CREATE INDEX IF NOT EXISTS idx_work_schedules_staff ON work_schedules (staff_id);
+CREATE INDEX IF NOT EXISTS idx_blocked_dates_staff_date ON blocked_dates (staff_id, date);
+
+-- Staff selection filters on role/active and then department id, department name (ignore case) or service.
+CREATE INDEX IF NOT EXISTS idx_users_role_active_department ON users (role, active, department_id);
+CREATE INDEX IF NOT EXISTS idx_users_role_active_department_name ON users (role, active, upper(department));
+CREATE INDEX IF NOT EXISTS idx_users_role_active_service ON users (role, active, service_id);
+
+CREATE INDEX IF NOT EXISTS idx_departments_name_upper ON departments (upper(name));
+CREATE INDEX IF NOT EXISTS idx_services_department ON services (department_id);
+CREATE INDEX IF NOT EXISTS idx_services_name_upper ON services (upper(name));
+
+CREATE INDEX IF NOT EXISTS idx_password_reset_tokens_user ON password_reset_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_password_reset_tokens_expires ON password_reset_tokens (expires_at);
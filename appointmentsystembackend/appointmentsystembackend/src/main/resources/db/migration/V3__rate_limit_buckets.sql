@@ -0,0 +1,8 @@
+-- Shared token buckets for app.rate-limit.store=jdbc. tat_ms is the epoch millisecond at which
+-- the bucket is full again; rows older than now carry no state and are purged opportunistically.
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key varchar(200) PRIMARY KEY,
+    tat_ms bigint NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_tat ON rate_limit_buckets (tat_ms);
@@ -0,0 +1,26 @@
+-- Delta sync (GET /api/sync): clients pull rows whose updated_at moved past their watermark,
+-- plus tombstones for rows that were deleted since then.
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS updated_at timestamp(6) with time zone;
+UPDATE notifications SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE notifications ALTER COLUMN updated_at SET NOT NULL;
+
+-- user_id is the only account that may see the deletion; NULL means every account whose scope
+-- could have contained the row. No foreign keys, so tombstones outlive the rows they describe.
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    id uuid NOT NULL,
+    entity_type varchar(32) NOT NULL,
+    entity_id uuid NOT NULL,
+    user_id uuid,
+    deleted_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT sync_tombstones_pkey PRIMARY KEY (id),
+    CONSTRAINT sync_tombstones_entity_type_check CHECK (entity_type IN ('APPOINTMENT', 'NOTIFICATION'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_user_deleted ON sync_tombstones (user_id, deleted_at);
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_deleted ON sync_tombstones (deleted_at);
+
+-- Change scans per role: admins over everything, clients by client_id, staff by service_id.
+CREATE INDEX IF NOT EXISTS idx_appointments_updated ON appointments (updated_at);
+CREATE INDEX IF NOT EXISTS idx_appointments_client_updated ON appointments (client_id, updated_at);
+CREATE INDEX IF NOT EXISTS idx_appointments_service_updated ON appointments (service_id, updated_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_updated ON notifications (user_id, updated_at);
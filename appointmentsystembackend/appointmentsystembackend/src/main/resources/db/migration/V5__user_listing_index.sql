@@ -0,0 +1,2 @@
+-- Admin client/staff listings page through one role ordered by name.
+CREATE INDEX IF NOT EXISTS idx_users_role_full_name ON users (role, full_name, id);
@@ -0,0 +1,17 @@
+-- Admin search (GET /api/search). Each searchable row gets one lowercased document expression
+-- with a trigram GIN index, which serves both substring LIKE '%term%' and fuzzy word_similarity
+-- (%>) lookups. SearchService builds its predicates from the same expressions, so keep them in step.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_search_trgm
+    ON users USING gin (lower(full_name || ' ' || email || ' ' || coalesce(phone, '')) gin_trgm_ops);
+
+-- Phone numbers are stored as typed ("+250 788 ..."); digits-only lets "0788123" match regardless.
+CREATE INDEX IF NOT EXISTS idx_users_phone_digits_trgm
+    ON users USING gin (regexp_replace(coalesce(phone, ''), '[^0-9]', '', 'g') gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_appointments_search_trgm
+    ON appointments USING gin (lower(appointment_type || ' ' || location || ' ' || coalesce(notes, '')) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_services_search_trgm
+    ON services USING gin (lower(name || ' ' || coalesce(description, '')) gin_trgm_ops);
@@ -0,0 +1,15 @@
+-- One work schedule row per staff member and day. Day names are normalised to the "Monday" form
+-- the service writes, duplicates left by the old delete-then-insert saves are collapsed (keeping
+-- the highest id), and the unique index replaces the plain staff_id index.
+UPDATE work_schedules SET day_of_week = initcap(trim(day_of_week)) WHERE day_of_week <> initcap(trim(day_of_week));
+
+DELETE FROM work_schedules older
+    USING work_schedules newer
+    WHERE older.staff_id = newer.staff_id
+      AND older.day_of_week = newer.day_of_week
+      AND older.id < newer.id;
+
+ALTER TABLE work_schedules
+    ADD CONSTRAINT uk_work_schedules_staff_day UNIQUE (staff_id, day_of_week);
+
+DROP INDEX IF EXISTS idx_work_schedules_staff;
@@ -0,0 +1,15 @@
+-- Organisation-wide (department_id NULL) and per-department closures such as public holidays,
+-- stored as inclusive date ranges instead of one blocked_dates row per staff member.
+CREATE TABLE IF NOT EXISTS closures (
+    id uuid NOT NULL,
+    start_date date NOT NULL,
+    end_date date NOT NULL,
+    department_id uuid,
+    reason varchar(255) NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT closures_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_closures_department FOREIGN KEY (department_id) REFERENCES departments (id),
+    CONSTRAINT closures_range_check CHECK (end_date >= start_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_closures_end_date ON closures (end_date);
@@ -0,0 +1,28 @@
+-- Clients waiting for a slot of a service within a date window. Entries are served in
+-- created_at order; a cancellation claims the first WAITING entry whose window covers the freed slot.
+CREATE TABLE IF NOT EXISTS waitlist_entries (
+    id uuid NOT NULL,
+    client_id uuid NOT NULL,
+    service_id uuid NOT NULL,
+    window_start date NOT NULL,
+    window_end date NOT NULL,
+    status varchar(20) NOT NULL,
+    claimed_appointment_id uuid,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT waitlist_entries_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_waitlist_entries_client FOREIGN KEY (client_id) REFERENCES users (id),
+    CONSTRAINT fk_waitlist_entries_service FOREIGN KEY (service_id) REFERENCES services (id),
+    CONSTRAINT fk_waitlist_entries_appointment FOREIGN KEY (claimed_appointment_id) REFERENCES appointments (id),
+    CONSTRAINT waitlist_entries_status_check CHECK (status IN ('WAITING', 'CLAIMED', 'CANCELLED')),
+    CONSTRAINT waitlist_entries_window_check CHECK (window_end >= window_start)
+);
+
+-- One open entry per client and service.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_waitlist_entries_waiting
+    ON waitlist_entries (client_id, service_id) WHERE status = 'WAITING';
+
+-- Per-service queue in request order, also read in full to rebuild the in-memory queues.
+CREATE INDEX IF NOT EXISTS idx_waitlist_entries_waiting
+    ON waitlist_entries (service_id, created_at) WHERE status = 'WAITING';
+
+CREATE INDEX IF NOT EXISTS idx_waitlist_entries_client ON waitlist_entries (client_id, created_at);
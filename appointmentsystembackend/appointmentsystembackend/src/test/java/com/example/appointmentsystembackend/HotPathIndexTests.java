@@ -0,0 +1,323 @@
+package com.example.appointmentsystembackend;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.appointment.AppointmentStatus;
+import com.example.appointmentsystembackend.auth.PasswordResetTokenRepository;
+import com.example.appointmentsystembackend.common.Paging;
+import com.example.appointmentsystembackend.department.DepartmentRepository;
+import com.example.appointmentsystembackend.feedback.FeedbackRepository;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.schedule.BlockedDateRepository;
+import com.example.appointmentsystembackend.schedule.ClosureRepository;
+import com.example.appointmentsystembackend.schedule.WorkScheduleRepository;
+import com.example.appointmentsystembackend.search.SearchService;
+import com.example.appointmentsystembackend.search.SearchType;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalogRepository;
+import com.example.appointmentsystembackend.sync.SyncTombstoneRepository;
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.UserRepository;
+import com.example.appointmentsystembackend.waitlist.WaitlistRepository;
+import com.example.appointmentsystembackend.waitlist.WaitlistStatus;
+
+// Runs each hot repository method, captures the statements it actually sends (SQL plus bound
+// parameters, recorded at the JDBC layer) and EXPLAINs those, so a change to a derived query,
+// an @Query or the search SQL is checked against the indexes rather than a hand-written copy.
+@SpringBootTest
+class HotPathIndexTests {
+	private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+	private static final UUID OTHER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+	private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+	private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private AppointmentRepository appointmentRepository;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private FeedbackRepository feedbackRepository;
+
+	@Autowired
+	private WorkScheduleRepository workScheduleRepository;
+
+	@Autowired
+	private BlockedDateRepository blockedDateRepository;
+
+	@Autowired
+	private ClosureRepository closureRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ServiceCatalogRepository serviceCatalogRepository;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private PasswordResetTokenRepository passwordResetTokenRepository;
+
+	@Autowired
+	private SyncTombstoneRepository syncTombstoneRepository;
+
+	@Autowired
+	private WaitlistRepository waitlistRepository;
+
+	@Autowired
+	private SearchService searchService;
+
+	@TestFactory
+	Stream<DynamicTest> hotRepositoryFindersUseIndexes() {
+		return hotQueries().entrySet().stream()
+				.map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+					List<CapturedStatement> statements = capture(entry.getValue());
+					assertFalse(statements.isEmpty(), entry.getKey() + " sent no prepared statement");
+					for (CapturedStatement statement : statements) {
+						String plan = explain(statement);
+						assertFalse(plan.contains("Seq Scan"),
+								entry.getKey() + " falls back to a seq scan:\n" + statement.sql() + "\n" + plan);
+					}
+				}));
+	}
+
+	// Deletes and the like run too, so every call is rolled back.
+	private List<CapturedStatement> capture(Runnable call) {
+		return transactionTemplate.execute(status -> {
+			status.setRollbackOnly();
+			List<CapturedStatement> captured;
+			StatementCapture.begin();
+			try {
+				call.run();
+			} finally {
+				captured = StatementCapture.end();
+			}
+			return captured;
+		});
+	}
+
+	// With seq scans disabled the planner picks any usable index, so a remaining
+	// "Seq Scan" node means the query has no supporting index at all.
+	private String explain(CapturedStatement statement) {
+		return transactionTemplate.execute(status -> {
+			jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+			List<String> lines = jdbcTemplate.query("EXPLAIN " + statement.sql(), statement::bind,
+					(rs, row) -> rs.getString(1));
+			return String.join("\n", lines);
+		});
+	}
+
+	private Map<String, Runnable> hotQueries() {
+		Map<String, Runnable> queries = new LinkedHashMap<>();
+		queries.put("AppointmentRepository.findByClientId", () -> appointmentRepository.findByClientId(ID));
+		queries.put("AppointmentRepository.findByStaffId", () -> appointmentRepository.findByStaffId(ID));
+		queries.put("AppointmentRepository.findByStaffIdOrStaffIsNull",
+				() -> appointmentRepository.findByStaffIdOrStaffIsNull(ID));
+		queries.put("AppointmentRepository.findByStaffIsNull", () -> appointmentRepository.findByStaffIsNull());
+		queries.put("AppointmentRepository.findByServiceId", () -> appointmentRepository.findByServiceId(ID));
+		queries.put("AppointmentRepository.findByServiceIdIn",
+				() -> appointmentRepository.findByServiceIdIn(List.of(ID, OTHER_ID)));
+		queries.put("AppointmentRepository.countByStaffId", () -> appointmentRepository.countByStaffId(ID));
+		queries.put("AppointmentRepository.countByClientId", () -> appointmentRepository.countByClientId(ID));
+		queries.put("AppointmentRepository.findBookedSlots",
+				() -> appointmentRepository.findBookedSlots(List.of(ID, OTHER_ID), DAY, DAY.plusDays(13)));
+		queries.put("AppointmentRepository.findChangedBetween",
+				() -> appointmentRepository.findChangedBetween(NOW.minusHours(1), NOW));
+		queries.put("AppointmentRepository.findChangedByClientId",
+				() -> appointmentRepository.findChangedByClientId(ID, NOW.minusHours(1), NOW));
+		queries.put("AppointmentRepository.findChangedByServiceIdIn",
+				() -> appointmentRepository.findChangedByServiceIdIn(List.of(ID, OTHER_ID), NOW.minusHours(1), NOW));
+		queries.put("AppointmentRepository.findBySeriesId", () -> appointmentRepository.findBySeriesId(ID));
+		queries.put("AppointmentRepository.findStarts",
+				() -> appointmentRepository.findStarts(
+						EnumSet.of(AppointmentStatus.CONFIRMED, AppointmentStatus.SCHEDULED), DAY, DAY.plusDays(1)));
+		queries.put("NotificationRepository.findByUserId", () -> notificationRepository.findByUserId(ID));
+		queries.put("NotificationRepository.findByUserIdAndUpdatedAtGreaterThanAndUpdatedAtLessThanEqual",
+				() -> notificationRepository.findByUserIdAndUpdatedAtGreaterThanAndUpdatedAtLessThanEqual(
+						ID, NOW.minusHours(1), NOW));
+		queries.put("FeedbackRepository.findByStaffId", () -> feedbackRepository.findByStaffId(ID));
+		queries.put("FeedbackRepository.findByClientId", () -> feedbackRepository.findByClientId(ID));
+		queries.put("FeedbackRepository.findByAppointmentId", () -> feedbackRepository.findByAppointmentId(ID));
+		queries.put("WorkScheduleRepository.findByStaffId", () -> workScheduleRepository.findByStaffId(ID));
+		queries.put("BlockedDateRepository.findByStaffId", () -> blockedDateRepository.findByStaffId(ID));
+		queries.put("ClosureRepository.findByEndDateGreaterThanEqualOrderByStartDateAsc",
+				() -> closureRepository.findByEndDateGreaterThanEqualOrderByStartDateAsc(DAY));
+		queries.put("UserRepository.findByEmail", () -> userRepository.findByEmail("client@rra.gov.rw"));
+		queries.put("UserRepository.findByRoleAndActiveTrue", () -> userRepository.findByRoleAndActiveTrue(Role.STAFF));
+		queries.put("UserRepository.findByRoleAndActiveTrueAndDepartmentId",
+				() -> userRepository.findByRoleAndActiveTrueAndDepartmentId(Role.STAFF, ID));
+		queries.put("UserRepository.findByRoleAndActiveTrueAndDepartmentIgnoreCase",
+				() -> userRepository.findByRoleAndActiveTrueAndDepartmentIgnoreCase(Role.STAFF, "Compliance"));
+		queries.put("UserRepository.findClientsWithAppointmentCounts",
+				() -> userRepository.findClientsWithAppointmentCounts(Paging.containsPattern(""), List.of(true, false),
+						PageRequest.of(0, 100)));
+		queries.put("ServiceCatalogRepository.findByDepartmentId", () -> serviceCatalogRepository.findByDepartmentId(ID));
+		queries.put("ServiceCatalogRepository.findFirstByNameIgnoreCaseAndActiveTrue",
+				() -> serviceCatalogRepository.findFirstByNameIgnoreCaseAndActiveTrue("Tax Consultation"));
+		queries.put("DepartmentRepository.findByNameIgnoreCase",
+				() -> departmentRepository.findByNameIgnoreCase("Compliance"));
+		queries.put("PasswordResetTokenRepository.findByTokenHashAndUsedFalse",
+				() -> passwordResetTokenRepository.findByTokenHashAndUsedFalse("abc"));
+		queries.put("PasswordResetTokenRepository.deleteByExpiresAtBefore",
+				() -> passwordResetTokenRepository.deleteByExpiresAtBefore(NOW));
+		queries.put("SyncTombstoneRepository.findVisibleBetween",
+				() -> syncTombstoneRepository.findVisibleBetween(ID, NOW.minusHours(1), NOW));
+		queries.put("SyncTombstoneRepository.deleteByDeletedAtBefore",
+				() -> syncTombstoneRepository.deleteByDeletedAtBefore(NOW.minusDays(30)));
+		queries.put("WaitlistRepository.findByStatusOrderByCreatedAtAsc",
+				() -> waitlistRepository.findByStatusOrderByCreatedAtAsc(WaitlistStatus.WAITING));
+		queries.put("WaitlistRepository.findByServiceIdAndStatusOrderByCreatedAtAsc",
+				() -> waitlistRepository.findByServiceIdAndStatusOrderByCreatedAtAsc(ID, WaitlistStatus.WAITING));
+		queries.put("WaitlistRepository.findByClientIdOrderByCreatedAtDesc",
+				() -> waitlistRepository.findByClientIdOrderByCreatedAtDesc(ID));
+		queries.put("WaitlistRepository.existsByClientIdAndServiceIdAndStatus",
+				() -> waitlistRepository.existsByClientIdAndServiceIdAndStatus(ID, OTHER_ID, WaitlistStatus.WAITING));
+		// A term with three or more digits also enables the phone-digits branch.
+		queries.put("SearchService.search",
+				() -> searchService.search("mugisha 0788", EnumSet.allOf(SearchType.class), 0, 20));
+		return queries;
+	}
+
+	@TestConfiguration
+	static class CaptureConfig {
+		@Bean
+		static BeanPostProcessor statementCapture() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource && beanName.equals("dataSource")
+							? new StatementCapture(dataSource)
+							: bean;
+				}
+			};
+		}
+	}
+
+	// One executed prepared statement: its SQL and the parameter setter calls, replayed onto EXPLAIN.
+	record CapturedStatement(String sql, List<SetterCall> parameters) {
+		void bind(PreparedStatement statement) throws SQLException {
+			for (SetterCall call : parameters) {
+				invoke(statement, call.method(), call.args());
+			}
+		}
+	}
+
+	record SetterCall(Method method, Object[] args) {
+	}
+
+	// Wraps the application DataSource. While a capture is open on the current thread, every
+	// prepared statement executed through it is recorded with its bound parameters.
+	static class StatementCapture extends DelegatingDataSource {
+		private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+		StatementCapture(DataSource target) {
+			super(target);
+		}
+
+		static void begin() {
+			CAPTURED.set(new ArrayList<>());
+		}
+
+		static List<CapturedStatement> end() {
+			List<CapturedStatement> captured = CAPTURED.get();
+			CAPTURED.remove();
+			return captured;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return capturing(super.getConnection());
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return capturing(super.getConnection(username, password));
+		}
+
+		private static Connection capturing(Connection connection) {
+			return proxy(Connection.class, (proxy, method, args) -> {
+				Object result = invoke(connection, method, args);
+				if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+					return recording(statement, (String) args[0]);
+				}
+				return result;
+			});
+		}
+
+		private static PreparedStatement recording(PreparedStatement statement, String sql) {
+			List<SetterCall> parameters = new ArrayList<>();
+			return proxy(PreparedStatement.class, (proxy, method, args) -> {
+				String name = method.getName();
+				if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+					parameters.add(new SetterCall(method, args.clone()));
+				} else if (name.equals("clearParameters")) {
+					parameters.clear();
+				} else if (name.startsWith("execute") && args == null && CAPTURED.get() != null) {
+					CAPTURED.get().add(new CapturedStatement(sql, List.copyOf(parameters)));
+				}
+				return invoke(statement, method, args);
+			});
+		}
+
+		private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+			return type.cast(Proxy.newProxyInstance(HotPathIndexTests.class.getClassLoader(), new Class<?>[] { type },
+					handler));
+		}
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws SQLException {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			if (ex.getCause() instanceof SQLException sqlException) {
+				throw sqlException;
+			}
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(ex.getCause());
+		} catch (IllegalAccessException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.appointmentsystembackend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.appointmentsystembackend.notification.Notification;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.notification.NotificationType;
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+import com.example.appointmentsystembackend.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class JdbcBatchingTests {
+	private static final int ROWS = 200;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	// Hibernate prepares one statement per JDBC batch, so with batch_size=50 a 200-row saveAll
+	// needs a handful of statements rather than one per row.
+	@Test
+	void saveAllInsertsAndUpdatesInBatches() {
+		User user = userRepository.save(new User("batching-test@example.com", "Batching Test", "x", Role.CLIENT));
+		entityManager.flush();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		List<Notification> notifications = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			notifications.add(new Notification(user, NotificationType.INFO, "Batch " + i, "Batched insert", false));
+		}
+		statistics.clear();
+		notificationRepository.saveAll(notifications);
+		entityManager.flush();
+		assertTrue(statistics.getPrepareStatementCount() <= ROWS / 50 + 1,
+				"inserts were not batched: " + statistics.getPrepareStatementCount() + " statements");
+
+		notifications.forEach(notification -> notification.setRead(true));
+		statistics.clear();
+		entityManager.flush();
+		assertTrue(statistics.getPrepareStatementCount() <= ROWS / 50 + 1,
+				"updates were not batched: " + statistics.getPrepareStatementCount() + " statements");
+	}
+
+	@Test
+	void generatedIdsFollowCreationOrder() {
+		User user = userRepository.save(new User("ordering-test@example.com", "Ordering Test", "x", Role.CLIENT));
+		List<Notification> notifications = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			notifications.add(notificationRepository.save(
+					new Notification(user, NotificationType.INFO, "Order " + i, "Ordered id", false)));
+		}
+
+		List<Notification> sortedById = notifications.stream()
+				.sorted(Comparator.comparing(Notification::getId))
+				.toList();
+		assertEquals(notifications, sortedById);
+	}
+}
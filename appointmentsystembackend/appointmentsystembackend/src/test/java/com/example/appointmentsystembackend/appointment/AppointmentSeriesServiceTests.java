@@ -0,0 +1,105 @@
+package com.example.appointmentsystembackend.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.appointmentsystembackend.bench.RepositoryStubs;
+import com.example.appointmentsystembackend.bench.SyntheticData;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.schedule.Closure;
+import com.example.appointmentsystembackend.schedule.ClosureCalendar;
+import com.example.appointmentsystembackend.schedule.ClosureRepository;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
+
+class AppointmentSeriesServiceTests {
+	private SyntheticData data;
+	private ServiceCatalog service;
+	private final List<Closure> closures = new ArrayList<>();
+	private final List<Appointment> saved = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		data = SyntheticData.generate(0, 42L);
+		service = data.services.get(0);
+	}
+
+	@Test
+	void monthlyOccurrencesOnAWeekendMoveToTheNextWorkingDay() {
+		AppointmentSeriesResponse series = series().createSeries(data.clients.get(0),
+				request("2025-01-31", "monthly", 12));
+
+		// From the 31st: May 31, Aug 31 and Nov 30 fall on weekends.
+		assertEquals(List.of("2025-01-31", "2025-02-28", "2025-03-31", "2025-04-30", "2025-06-02", "2025-06-30",
+				"2025-07-31", "2025-09-01", "2025-09-30", "2025-10-31", "2025-12-01", "2025-12-31"),
+				series.appointments().stream().map(AppointmentResponse::date).toList());
+		assertEquals(12, saved.size());
+	}
+
+	@Test
+	void closedOccurrencesMoveToTheNextOpenDay() {
+		LocalDate monday = LocalDate.of(2025, 3, 10);
+		closures.add(new Closure(monday.plusWeeks(1), monday.plusWeeks(1).plusDays(1), null, "Public holiday"));
+
+		AppointmentSeriesResponse series = series().createSeries(data.clients.get(0),
+				request(monday.toString(), "weekly", 3));
+
+		assertEquals(List.of("2025-03-10", "2025-03-19", "2025-03-24"),
+				series.appointments().stream().map(AppointmentResponse::date).toList());
+	}
+
+	@Test
+	void anOccurrenceClosedUntilTheNextOneRejectsTheSeries() {
+		LocalDate monday = LocalDate.of(2025, 3, 10);
+		closures.add(new Closure(monday.plusWeeks(1), monday.plusWeeks(1).plusDays(4), null, "Office move"));
+
+		IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> series().createSeries(data.clients.get(0), request(monday.toString(), "weekly", 3)));
+
+		assertTrue(ex.getMessage().contains("2025-03-17 (Office move)"), ex.getMessage());
+		assertTrue(saved.isEmpty());
+	}
+
+	private AppointmentSeriesService series() {
+		Map<String, Function<Object[], Object>> appointments = new HashMap<>();
+		AppointmentRepository generated = data.appointmentRepository();
+		appointments.put("countByStaffId", args -> generated.countByStaffId((UUID) args[0]));
+		appointments.put("findBookedSlots", args -> List.of());
+		appointments.put("saveAll", args -> {
+			for (Object appointment : (Iterable<?>) args[0]) {
+				((Appointment) appointment).prePersist();
+				saved.add((Appointment) appointment);
+			}
+			return args[0];
+		});
+		ClosureCalendar closureCalendar = new ClosureCalendar(RepositoryStubs.stub(ClosureRepository.class,
+				Map.of("findByEndDateGreaterThanEqualOrderByStartDateAsc", args -> closures)), (type, id) -> {
+				});
+		return new AppointmentSeriesService(data.appointmentService(),
+				RepositoryStubs.stub(AppointmentRepository.class, appointments),
+				RepositoryStubs.stub(AppointmentSeriesRepository.class, Map.of("save", args -> {
+					((AppointmentSeries) args[0]).prePersist();
+					return args[0];
+				})),
+				data.serviceCatalogRepository(),
+				RepositoryStubs.stub(NotificationRepository.class, Map.of("save", args -> args[0])),
+				data.availabilityCache(), closureCalendar, event -> {
+				}, 24);
+	}
+
+	private AppointmentSeriesRequest request(String startDate, String frequency, int occurrences) {
+		return new AppointmentSeriesRequest(service.getId().toString(), startDate, "10:00", frequency, occurrences,
+				"Main Office", null, null);
+	}
+}
@@ -0,0 +1,194 @@
+package com.example.appointmentsystembackend.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GoogleTokenVerifierServiceTests {
+	private static final String CLIENT_ID = "test-client.apps.googleusercontent.com";
+	private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, KeyPair> publishedKeys = new LinkedHashMap<>();
+	private final AtomicInteger jwksRequests = new AtomicInteger();
+	private HttpServer jwksServer;
+	private GoogleTokenVerifierService verifier;
+
+	@BeforeEach
+	void startJwksStub() throws Exception {
+		publishedKeys.put("key-1", generateKeyPair());
+		jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		jwksServer.createContext("/certs", exchange -> {
+			jwksRequests.incrementAndGet();
+			byte[] body = jwks();
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.getResponseHeaders().add("Cache-Control", "public, max-age=21600");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		jwksServer.start();
+		String jwksUri = "http://localhost:" + jwksServer.getAddress().getPort() + "/certs";
+		GoogleJwksKeySource keySource = new GoogleJwksKeySource(jwksUri, 0, objectMapper);
+		verifier = new GoogleTokenVerifierService(CLIENT_ID, 60, keySource, objectMapper, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void stopJwksStub() {
+		jwksServer.stop(0);
+	}
+
+	@Test
+	void acceptsValidToken() throws Exception {
+		GoogleTokenVerifierService.GoogleUserInfo user = verifier.verify(token("key-1", claims()));
+
+		assertEquals("client@example.com", user.email());
+		assertEquals("Test Client", user.fullName());
+	}
+
+	@Test
+	void cachesKeysBetweenLogins() throws Exception {
+		verifier.verify(token("key-1", claims()));
+		verifier.verify(token("key-1", claims()));
+
+		assertEquals(1, jwksRequests.get());
+	}
+
+	@Test
+	void picksUpRotatedKeyOnUnknownKid() throws Exception {
+		verifier.verify(token("key-1", claims()));
+		publishedKeys.put("key-2", generateKeyPair());
+
+		GoogleTokenVerifierService.GoogleUserInfo user = verifier.verify(token("key-2", claims()));
+
+		assertEquals("client@example.com", user.email());
+		assertEquals(2, jwksRequests.get());
+	}
+
+	@Test
+	void rejectsTokenSignedWithUnpublishedKey() throws Exception {
+		KeyPair attacker = generateKeyPair();
+		String forged = sign("key-1", claims(), attacker);
+
+		assertThrows(IllegalArgumentException.class, () -> verifier.verify(forged));
+	}
+
+	@Test
+	void rejectsWrongAudience() throws Exception {
+		Map<String, Object> claims = claims();
+		claims.put("aud", "someone-else.apps.googleusercontent.com");
+
+		assertThrows(IllegalArgumentException.class, () -> verifier.verify(token("key-1", claims)));
+	}
+
+	@Test
+	void rejectsWrongIssuer() throws Exception {
+		Map<String, Object> claims = claims();
+		claims.put("iss", "https://evil.example.com");
+
+		assertThrows(IllegalArgumentException.class, () -> verifier.verify(token("key-1", claims)));
+	}
+
+	@Test
+	void rejectsExpiredToken() throws Exception {
+		Map<String, Object> claims = claims();
+		claims.put("exp", Instant.now().minusSeconds(600).getEpochSecond());
+
+		assertThrows(IllegalArgumentException.class, () -> verifier.verify(token("key-1", claims)));
+	}
+
+	@Test
+	void rejectsUnverifiedEmail() throws Exception {
+		Map<String, Object> claims = claims();
+		claims.put("email_verified", false);
+
+		assertThrows(IllegalArgumentException.class, () -> verifier.verify(token("key-1", claims)));
+	}
+
+	@Test
+	void rejectsUnsignedToken() throws Exception {
+		String header = encode(Map.of("alg", "none", "kid", "key-1"));
+		String none = header + "." + encode(claims()) + ".";
+
+		assertThrows(IllegalArgumentException.class, () -> verifier.verify(none));
+	}
+
+	private Map<String, Object> claims() {
+		long now = Instant.now().getEpochSecond();
+		Map<String, Object> claims = new LinkedHashMap<>();
+		claims.put("iss", "https://accounts.google.com");
+		claims.put("aud", CLIENT_ID);
+		claims.put("sub", "1234567890");
+		claims.put("email", "Client@Example.com");
+		claims.put("email_verified", true);
+		claims.put("name", "Test Client");
+		claims.put("iat", now);
+		claims.put("exp", now + 3600);
+		return claims;
+	}
+
+	private String token(String kid, Map<String, Object> claims) throws Exception {
+		return sign(kid, claims, publishedKeys.get(kid));
+	}
+
+	private String sign(String kid, Map<String, Object> claims, KeyPair keyPair) throws Exception {
+		String signingInput = encode(Map.of("alg", "RS256", "kid", kid, "typ", "JWT")) + "." + encode(claims);
+		Signature signature = Signature.getInstance("SHA256withRSA");
+		signature.initSign(keyPair.getPrivate());
+		signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+		return signingInput + "." + BASE64_URL_ENCODER.encodeToString(signature.sign());
+	}
+
+	private String encode(Map<String, Object> json) throws Exception {
+		return BASE64_URL_ENCODER.encodeToString(objectMapper.writeValueAsBytes(json));
+	}
+
+	private byte[] jwks() throws IOException {
+		List<Map<String, String>> keys = publishedKeys.entrySet().stream()
+				.map(entry -> {
+					RSAPublicKey publicKey = (RSAPublicKey) entry.getValue().getPublic();
+					return Map.of(
+							"kty", "RSA",
+							"alg", "RS256",
+							"use", "sig",
+							"kid", entry.getKey(),
+							"n", BASE64_URL_ENCODER.encodeToString(unsigned(publicKey.getModulus().toByteArray())),
+							"e", BASE64_URL_ENCODER.encodeToString(unsigned(publicKey.getPublicExponent().toByteArray())));
+				})
+				.toList();
+		return objectMapper.writeValueAsBytes(Map.of("keys", keys));
+	}
+
+	private static byte[] unsigned(byte[] bytes) {
+		return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+	}
+
+	private static KeyPair generateKeyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		return generator.generateKeyPair();
+	}
+}
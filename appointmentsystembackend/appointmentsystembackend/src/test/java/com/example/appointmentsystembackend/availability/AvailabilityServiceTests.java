@@ -0,0 +1,146 @@
+package com.example.appointmentsystembackend.availability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.appointmentsystembackend.appointment.Appointment;
+import com.example.appointmentsystembackend.appointment.AppointmentStatus;
+import com.example.appointmentsystembackend.bench.RepositoryStubs;
+import com.example.appointmentsystembackend.bench.SyntheticData;
+import com.example.appointmentsystembackend.schedule.Closure;
+import com.example.appointmentsystembackend.schedule.ClosureCalendar;
+import com.example.appointmentsystembackend.schedule.ClosureRepository;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
+import com.example.appointmentsystembackend.settings.SystemSettings;
+import com.example.appointmentsystembackend.settings.SystemSettingsRepository;
+import com.example.appointmentsystembackend.settings.SystemSettingsService;
+import com.example.appointmentsystembackend.user.User;
+
+// Runs against the benchmark fixtures with no generated appointments: every staff member is on
+// the default week, and each test adds the bookings, closures and settings it needs.
+class AvailabilityServiceTests {
+	private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+	private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+	private static final LocalDate FRIDAY = MONDAY.plusDays(4);
+
+	private SyntheticData data;
+	private ServiceCatalog service;
+	private List<User> staff;
+	private final List<Closure> closures = new ArrayList<>();
+	private final SystemSettings settings = new SystemSettings(1L);
+
+	@BeforeEach
+	void setUp() {
+		data = SyntheticData.generate(0, 42L);
+		service = data.services.get(0);
+		staff = data.staff.stream().filter(member -> member.getDepartmentId().equals(service.getDepartmentId())).toList();
+		settings.setAppointmentDuration(30);
+		settings.setMaxAppointmentsPerDay(50);
+	}
+
+	@Test
+	void staffFreeAtTheSameTimeGiveOneSlot() {
+		assertEquals(3, staff.size());
+
+		List<AvailableSlot> slots = availability(90).nextAvailable(service.getId(), MONDAY.atTime(7, 0), 4).slots();
+
+		assertEquals(List.of("08:00", "08:30", "09:00", "09:30"), times(slots));
+		assertEquals(List.of(MONDAY.toString()), slots.stream().map(AvailableSlot::date).distinct().toList());
+		// Ties go to the first eligible staff member.
+		assertEquals(staff.get(0).getId().toString(), slots.get(0).staffId());
+	}
+
+	@Test
+	void bookingsOffTheSlotGridBlockEveryOverlappingSlot() {
+		book(staff.get(0), MONDAY, LocalTime.of(8, 10));
+		book(staff.get(1), MONDAY, LocalTime.of(8, 10));
+		book(staff.get(2), MONDAY, LocalTime.of(8, 10));
+
+		List<AvailableSlot> slots = availability(90).nextAvailable(service.getId(), MONDAY.atTime(7, 0), 2).slots();
+
+		// 08:10-08:40 overlaps both the 08:00 and the 08:30 slot.
+		assertEquals(List.of("09:00", "09:30"), times(slots));
+	}
+
+	@Test
+	void aStaffMemberWithoutAConflictStillOffersTheSlot() {
+		book(staff.get(0), MONDAY, LocalTime.of(8, 10));
+		book(staff.get(1), MONDAY, LocalTime.of(8, 0));
+		Appointment cancelled = book(staff.get(2), MONDAY, LocalTime.of(8, 0));
+		cancelled.setStatus(AppointmentStatus.CANCELLED);
+
+		AvailableSlot first = availability(90).nextAvailable(service.getId(), MONDAY.atTime(7, 0), 1).slots().get(0);
+
+		assertEquals("08:00", first.time());
+		assertEquals(staff.get(2).getId().toString(), first.staffId());
+	}
+
+	@Test
+	void staffAtTheDailyCapAreSkippedForTheDay() {
+		settings.setMaxAppointmentsPerDay(2);
+		for (User member : staff) {
+			book(member, MONDAY, LocalTime.of(16, 0));
+			book(member, MONDAY, LocalTime.of(16, 30));
+		}
+
+		AvailableSlot first = availability(90).nextAvailable(service.getId(), MONDAY.atTime(7, 0), 1).slots().get(0);
+
+		assertEquals(TUESDAY.toString(), first.date());
+		assertEquals("08:00", first.time());
+	}
+
+	@Test
+	void closedDaysAreSkipped() {
+		closures.add(new Closure(MONDAY, MONDAY, service.getDepartmentId(), "Audit"));
+		closures.add(new Closure(TUESDAY, TUESDAY, null, "Public holiday"));
+		closures.add(new Closure(MONDAY.plusDays(2), MONDAY.plusDays(2), data.departments.get(1).getId(), "Other"));
+
+		AvailableSlot first = availability(90).nextAvailable(service.getId(), MONDAY.atTime(7, 0), 1).slots().get(0);
+
+		assertEquals(MONDAY.plusDays(2).toString(), first.date());
+	}
+
+	@Test
+	void searchStopsAtTheHorizon() {
+		LocalDateTime fridayEvening = FRIDAY.atTime(17, 0);
+
+		// Nothing is left on Friday and weekends are not bookable, so the next slot is on Monday.
+		assertEquals(List.of(), availability(2).nextAvailable(service.getId(), fridayEvening, 5).slots());
+		AvailableSlot first = availability(3).nextAvailable(service.getId(), fridayEvening, 5).slots().get(0);
+		assertEquals(FRIDAY.plusDays(3).toString(), first.date());
+		assertEquals("08:00", first.time());
+	}
+
+	private AvailabilityService availability(int horizonDays) {
+		ClosureCalendar closureCalendar = new ClosureCalendar(RepositoryStubs.stub(ClosureRepository.class,
+				Map.of("findByEndDateGreaterThanEqualOrderByStartDateAsc", args -> closures)), (type, id) -> {
+				});
+		SystemSettingsService settingsService = new SystemSettingsService(RepositoryStubs.stub(
+				SystemSettingsRepository.class, Map.of("findById", args -> Optional.of(settings))));
+		return new AvailabilityService(data.appointmentService(), data.appointmentRepository(),
+				data.serviceCatalogRepository(), data.availabilityCache(), closureCalendar, settingsService,
+				horizonDays);
+	}
+
+	private Appointment book(User member, LocalDate date, LocalTime time) {
+		Appointment appointment = new Appointment(data.clients.get(0), member, service.getId(), service.getName(),
+				date, time, "Main Office", AppointmentStatus.CONFIRMED, null);
+		appointment.prePersist();
+		data.appointments.add(appointment);
+		return appointment;
+	}
+
+	private static List<String> times(List<AvailableSlot> slots) {
+		return slots.stream().map(AvailableSlot::time).toList();
+	}
+}
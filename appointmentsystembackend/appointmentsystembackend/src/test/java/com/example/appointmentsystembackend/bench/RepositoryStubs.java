@@ -0,0 +1,27 @@
+package com.example.appointmentsystembackend.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class RepositoryStubs {
+	private RepositoryStubs() {
+	}
+
+	// Answers repository calls by method name so services run against in-memory data without a database.
+	@SuppressWarnings("unchecked")
+	public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			Function<Object[], Object> answer = answers.get(method.getName());
+			if (answer != null) {
+				return answer.apply(args == null ? new Object[0] : args);
+			}
+			return switch (method.getName()) {
+				case "toString" -> type.getSimpleName() + "Stub";
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+			};
+		});
+	}
+}
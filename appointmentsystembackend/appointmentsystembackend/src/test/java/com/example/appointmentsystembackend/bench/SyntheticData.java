@@ -0,0 +1,244 @@
+package com.example.appointmentsystembackend.bench;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.example.appointmentsystembackend.analytics.AnalyticsService;
+import com.example.appointmentsystembackend.appointment.Appointment;
+import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.appointment.AppointmentService;
+import com.example.appointmentsystembackend.appointment.AppointmentStatus;
+import com.example.appointmentsystembackend.appointment.BookedSlot;
+import com.example.appointmentsystembackend.department.Department;
+import com.example.appointmentsystembackend.department.DepartmentRepository;
+import com.example.appointmentsystembackend.department.DepartmentType;
+import com.example.appointmentsystembackend.feedback.FeedbackRepository;
+import com.example.appointmentsystembackend.notification.EmailService;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.schedule.BlockedDateRepository;
+import com.example.appointmentsystembackend.schedule.ClosureCalendar;
+import com.example.appointmentsystembackend.schedule.ClosureRepository;
+import com.example.appointmentsystembackend.schedule.StaffAvailabilityCache;
+import com.example.appointmentsystembackend.schedule.StaffScheduleService;
+import com.example.appointmentsystembackend.schedule.WorkScheduleRepository;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalogRepository;
+import com.example.appointmentsystembackend.settings.SystemSettingsRepository;
+import com.example.appointmentsystembackend.settings.SystemSettingsService;
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+import com.example.appointmentsystembackend.user.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public final class SyntheticData {
+	private static final AppointmentStatus[] STATUSES = AppointmentStatus.values();
+
+	public final List<Department> departments = new ArrayList<>();
+	public final List<ServiceCatalog> services = new ArrayList<>();
+	public final List<User> staff = new ArrayList<>();
+	public final List<User> clients = new ArrayList<>();
+	public final List<Appointment> appointments = new ArrayList<>();
+
+	private final Map<UUID, Department> departmentsById = new HashMap<>();
+	private final Map<UUID, ServiceCatalog> servicesById = new HashMap<>();
+	private final Map<UUID, Long> appointmentsPerStaff = new HashMap<>();
+	private NavigableMap<LocalDate, List<Appointment>> appointmentsByDate;
+
+	private SyntheticData() {
+	}
+
+	public static SyntheticData generate(int appointmentCount, long seed) {
+		SyntheticData data = new SyntheticData();
+		SplittableRandom random = new SplittableRandom(seed);
+		int departmentCount = 8;
+		int servicesPerDepartment = 6;
+		int staffCount = Math.max(20, appointmentCount / 2_000);
+		int clientCount = Math.max(100, appointmentCount / 10);
+
+		for (int i = 0; i < departmentCount; i++) {
+			Department department = new Department("Department " + i, "Synthetic department",
+					i % 2 == 0 ? DepartmentType.OPERATIONAL : DepartmentType.SUPPORT);
+			department.prePersist();
+			data.departments.add(department);
+			data.departmentsById.put(department.getId(), department);
+			for (int j = 0; j < servicesPerDepartment; j++) {
+				ServiceCatalog service = new ServiceCatalog("Service " + i + "-" + j, "Synthetic service",
+						department.getId(), null);
+				service.prePersist();
+				data.services.add(service);
+				data.servicesById.put(service.getId(), service);
+			}
+		}
+		for (int i = 0; i < staffCount; i++) {
+			Department department = data.departments.get(i % departmentCount);
+			User user = new User("staff" + i + "@bench.test", "Staff " + i, "x", Role.STAFF);
+			user.setDepartmentId(department.getId());
+			user.setDepartment(department.getName());
+			user.prePersist();
+			data.staff.add(user);
+		}
+		for (int i = 0; i < clientCount; i++) {
+			User user = new User("client" + i + "@bench.test", "Client " + i, "x", Role.CLIENT);
+			user.setPhone("+250 788 " + i);
+			user.prePersist();
+			data.clients.add(user);
+		}
+
+		Map<UUID, List<User>> staffByDepartment = data.staff.stream()
+				.collect(Collectors.groupingBy(User::getDepartmentId));
+		LocalDate firstDay = LocalDate.now().minusYears(2);
+		for (int i = 0; i < appointmentCount; i++) {
+			// Popular services, busy staff and repeat clients dominate, as in production.
+			ServiceCatalog service = data.services.get(skewed(random, data.services.size()));
+			List<User> departmentStaff = staffByDepartment.get(service.getDepartmentId());
+			User assigned = random.nextInt(20) == 0 ? null : departmentStaff.get(skewed(random, departmentStaff.size()));
+			User client = data.clients.get(skewed(random, data.clients.size()));
+			Appointment appointment = new Appointment(
+					client,
+					assigned,
+					service.getId(),
+					service.getName(),
+					firstDay.plusDays(random.nextInt(900)),
+					LocalTime.of(8 + random.nextInt(9), random.nextBoolean() ? 0 : 30),
+					"Main Office",
+					STATUSES[random.nextInt(STATUSES.length)],
+					random.nextInt(4) == 0 ? "Bring documents" : null);
+			appointment.prePersist();
+			data.appointments.add(appointment);
+			if (assigned != null) {
+				data.appointmentsPerStaff.merge(assigned.getId(), 1L, Long::sum);
+			}
+		}
+		return data;
+	}
+
+	private static int skewed(SplittableRandom random, int size) {
+		double value = random.nextDouble();
+		return (int) (value * value * size);
+	}
+
+	public AppointmentRepository appointmentRepository() {
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("findAll", args -> appointments);
+		answers.put("findByStaffIsNull", args -> List.of());
+		answers.put("countByStaffId", args -> appointmentsPerStaff.getOrDefault((UUID) args[0], 0L));
+		answers.put("findByStaffId", args -> appointments.stream()
+				.filter(apt -> apt.getStaff() != null && apt.getStaff().getId().equals(args[0]))
+				.toList());
+		// Served from a date index, standing in for the (staff_id, date, time) index.
+		answers.put("findBookedSlots", args -> {
+			Collection<?> staffIds = (Collection<?>) args[0];
+			return appointmentsByDate().subMap((LocalDate) args[1], true, (LocalDate) args[2], true).values().stream()
+					.flatMap(List::stream)
+					.filter(apt -> apt.getStaff() != null && staffIds.contains(apt.getStaff().getId()))
+					.filter(apt -> apt.getStatus() != AppointmentStatus.CANCELLED)
+					.map(apt -> new BookedSlot(apt.getStaff().getId(), apt.getDate(), apt.getTime()))
+					.toList();
+		});
+		return RepositoryStubs.stub(AppointmentRepository.class, answers);
+	}
+
+	private NavigableMap<LocalDate, List<Appointment>> appointmentsByDate() {
+		if (appointmentsByDate == null) {
+			appointmentsByDate = appointments.stream()
+					.collect(Collectors.groupingBy(Appointment::getDate, TreeMap::new, Collectors.toList()));
+		}
+		return appointmentsByDate;
+	}
+
+	public UserRepository userRepository() {
+		List<User> users = new ArrayList<>(staff);
+		users.addAll(clients);
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("findAll", args -> users);
+		answers.put("findByRoleAndActiveTrue", args -> args[0] == Role.STAFF ? staff : clients);
+		answers.put("findByRoleAndActiveTrueAndDepartmentId", args -> staff.stream()
+				.filter(user -> args[1].equals(user.getDepartmentId()))
+				.toList());
+		answers.put("findByRoleAndActiveTrueAndDepartmentIgnoreCase", args -> staff.stream()
+				.filter(user -> user.getDepartment().equalsIgnoreCase((String) args[1]))
+				.toList());
+		return RepositoryStubs.stub(UserRepository.class, answers);
+	}
+
+	public ServiceCatalogRepository serviceCatalogRepository() {
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("findAll", args -> services);
+		answers.put("findById", args -> Optional.ofNullable(servicesById.get((UUID) args[0])));
+		answers.put("findByActiveTrueOrderByNameAsc", args -> services);
+		answers.put("findFirstByNameIgnoreCaseAndActiveTrue", args -> services.stream()
+				.filter(service -> service.getName().equalsIgnoreCase((String) args[0]))
+				.findFirst());
+		return RepositoryStubs.stub(ServiceCatalogRepository.class, answers);
+	}
+
+	public DepartmentRepository departmentRepository() {
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("findAll", args -> departments);
+		answers.put("findById", args -> Optional.ofNullable(departmentsById.get((UUID) args[0])));
+		return RepositoryStubs.stub(DepartmentRepository.class, answers);
+	}
+
+	public AppointmentService appointmentService() {
+		return new AppointmentService(
+				appointmentRepository(),
+				userRepository(),
+				serviceCatalogRepository(),
+				departmentRepository(),
+				RepositoryStubs.stub(NotificationRepository.class, Map.of()),
+				new EmailService(null, false, ""),
+				availabilityCache(),
+				closureCalendar(),
+				event -> {
+				});
+	}
+
+	public ClosureCalendar closureCalendar() {
+		return new ClosureCalendar(RepositoryStubs.stub(ClosureRepository.class,
+				Map.of("findByEndDateGreaterThanEqualOrderByStartDateAsc", args -> List.of())), (type, id) -> {
+				});
+	}
+
+	// Every staff member on the default week with no blocked dates.
+	public StaffAvailabilityCache availabilityCache() {
+		Map<String, Function<Object[], Object>> noRows = Map.of("findByStaffId", args -> List.of());
+		return new StaffAvailabilityCache(RepositoryStubs.stub(WorkScheduleRepository.class, noRows),
+				RepositoryStubs.stub(BlockedDateRepository.class, noRows), (type, id) -> {
+				}, new SimpleMeterRegistry());
+	}
+
+	// Default settings (30 minute appointments, 50 per day), never persisted.
+	public SystemSettingsService settingsService() {
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("findById", args -> Optional.empty());
+		answers.put("save", args -> args[0]);
+		return new SystemSettingsService(RepositoryStubs.stub(SystemSettingsRepository.class, answers));
+	}
+
+	public AnalyticsService analyticsService() {
+		Map<String, Function<Object[], Object>> noRows = Map.of("findAll", args -> List.of());
+		return new AnalyticsService(
+				appointmentRepository(),
+				userRepository(),
+				RepositoryStubs.stub(FeedbackRepository.class, noRows),
+				serviceCatalogRepository(),
+				departmentRepository(),
+				RepositoryStubs.stub(NotificationRepository.class, noRows),
+				settingsService(),
+				new StaffScheduleService(RepositoryStubs.stub(WorkScheduleRepository.class, Map.of()),
+						RepositoryStubs.stub(BlockedDateRepository.class, Map.of()), availabilityCache()));
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.appointmentsystembackend.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class IdempotencyStoreTests {
+	private final IdempotencyStore store = new IdempotencyStore(24, 2);
+
+	@Test
+	void inProgressEntriesAreNeverEvicted() {
+		assertNull(store.reserve("a", "fa"));
+		assertNull(store.reserve("b", "fb"));
+
+		assertThrows(IdempotencyStoreFullException.class, () -> store.reserve("c", "fc"));
+
+		IdempotencyStore.Entry first = store.reserve("a", "fa");
+		assertNotNull(first);
+		assertFalse(first.completed());
+	}
+
+	@Test
+	void theOldestCompletedEntryMakesRoom() {
+		assertNull(store.reserve("a", "fa"));
+		assertNull(store.reserve("b", "fb"));
+		store.complete("b", "fb", 201, null, null);
+
+		assertNull(store.reserve("c", "fc"));
+
+		assertNotNull(store.reserve("a", "fa"));
+		assertNotNull(store.reserve("c", "fc"));
+		// "b" was evicted, so it is a new key again, and both slots are in progress.
+		assertThrows(IdempotencyStoreFullException.class, () -> store.reserve("b", "fb"));
+	}
+
+	@Test
+	void aFullStoreStillAnswersKnownKeys() {
+		assertNull(store.reserve("a", "fa"));
+		assertNull(store.reserve("b", "fb"));
+
+		assertEquals("fb", store.reserve("b", "fb").fingerprint());
+	}
+
+	@Test
+	void releasedKeysFreeTheirSlot() {
+		assertNull(store.reserve("a", "fa"));
+		assertNull(store.reserve("b", "fb"));
+		store.release("a");
+
+		assertNull(store.reserve("c", "fc"));
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.appointmentsystembackend.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class InvalidationMessageTests {
+	private final UUID first = UUID.randomUUID();
+	private final UUID second = UUID.randomUUID();
+
+	@Test
+	void singleMessagesRoundTrip() {
+		InvalidationMessage message = new InvalidationMessage(InvalidationType.WAITLIST, first, 7, "node-a");
+
+		assertEquals(List.of(message), InvalidationMessage.parse(message.encode()));
+	}
+
+	@Test
+	void batchesBecomeOneMessagePerId() {
+		String payload = InvalidationMessage.encode(InvalidationType.APPOINTMENT, List.of(first, second), 0, "node-a");
+
+		assertEquals(List.of(new InvalidationMessage(InvalidationType.APPOINTMENT, first, 0, "node-a"),
+				new InvalidationMessage(InvalidationType.APPOINTMENT, second, 0, "node-a")),
+				InvalidationMessage.parse(payload));
+	}
+
+	@Test
+	void noIdsMeansEveryEntry() {
+		String payload = InvalidationMessage.encode(InvalidationType.CLOSURES, List.of(), 3, "node-a");
+
+		List<InvalidationMessage> messages = InvalidationMessage.parse(payload);
+		assertEquals(1, messages.size());
+		assertTrue(messages.get(0).all());
+	}
+
+	@Test
+	void unknownPayloadsAreIgnored() {
+		assertEquals(List.of(), InvalidationMessage.parse("UNKNOWN;;1;node-a"));
+		assertEquals(List.of(), InvalidationMessage.parse("APPOINTMENT;" + first + ",not-a-uuid;0;node-a"));
+		assertEquals(List.of(), InvalidationMessage.parse("APPOINTMENT;" + first + ";0"));
+	}
+
+	@Test
+	void largestBatchFitsInANotifyPayload() {
+		List<UUID> ids = Collections.nCopies(InvalidationBus.MAX_BATCH_IDS, first);
+		String payload = InvalidationMessage.encode(InvalidationType.APPOINTMENT, ids, Long.MAX_VALUE,
+				UUID.randomUUID().toString());
+
+		assertTrue(payload.length() < 8000, "pg_notify payloads are limited to 8000 bytes");
+	}
+}
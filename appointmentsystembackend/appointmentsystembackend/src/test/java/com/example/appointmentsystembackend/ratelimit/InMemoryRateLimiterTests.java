@@ -0,0 +1,134 @@
+package com.example.appointmentsystembackend.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimiterTests {
+	private static final long SECOND = 1_000_000_000L;
+
+	// Ten requests a minute: one token every six seconds, a burst of ten.
+	private final RateLimitRule rule = new RateLimitRule("login", 10, Duration.ofSeconds(60));
+	private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+	private final InMemoryRateLimiter limiter = new InMemoryRateLimiter(100_000, now::get);
+
+	@Test
+	void allowsABurstOfCapacityThenRejects() {
+		for (int i = 0; i < 10; i++) {
+			assertTrue(limiter.tryAcquire("client", rule).allowed(), "request " + i);
+		}
+		RateLimitDecision rejected = limiter.tryAcquire("client", rule);
+		assertFalse(rejected.allowed());
+		assertEquals(6, rejected.retryAfterSeconds());
+	}
+
+	@Test
+	void refillsOneTokenPerEmissionInterval() {
+		drain("client");
+
+		now.addAndGet(6 * SECOND - 1);
+		assertFalse(limiter.tryAcquire("client", rule).allowed());
+		now.addAndGet(1);
+		assertTrue(limiter.tryAcquire("client", rule).allowed());
+		assertFalse(limiter.tryAcquire("client", rule).allowed());
+
+		// A full period refills the whole burst, and idling longer does not add more.
+		now.addAndGet(600 * SECOND);
+		drain("client");
+	}
+
+	@Test
+	void retryAfterCountsDownAndRoundsUpToWholeSeconds() {
+		drain("client");
+
+		now.addAndGet(SECOND / 2);
+		assertEquals(6, limiter.tryAcquire("client", rule).retryAfterSeconds());
+		now.addAndGet(5 * SECOND);
+		assertEquals(1, limiter.tryAcquire("client", rule).retryAfterSeconds());
+		now.addAndGet(SECOND / 2);
+		assertTrue(limiter.tryAcquire("client", rule).allowed());
+	}
+
+	@Test
+	void rejectedRequestsDoNotConsumeTokens() {
+		drain("client");
+		for (int i = 0; i < 100; i++) {
+			limiter.tryAcquire("client", rule);
+		}
+		now.addAndGet(6 * SECOND);
+		assertTrue(limiter.tryAcquire("client", rule).allowed());
+	}
+
+	@Test
+	void keysAndRulesHaveSeparateBuckets() {
+		drain("client");
+		assertTrue(limiter.tryAcquire("other", rule).allowed());
+		assertTrue(limiter.tryAcquire("client", new RateLimitRule("search", 1, Duration.ofSeconds(1))).allowed());
+	}
+
+	@Test
+	void keyLimitEvictsRefilledBucketsAndKeepsLimiting() {
+		// One key per shard, so every new key evicts from a full shard. A refilled bucket is
+		// indistinguishable from a new one, so dropping it must not change any decision.
+		InMemoryRateLimiter small = new InMemoryRateLimiter(16, now::get);
+		for (int i = 0; i < 10; i++) {
+			small.tryAcquire("client", rule);
+		}
+		now.addAndGet(60 * SECOND);
+		for (int i = 0; i < 1_000; i++) {
+			assertTrue(small.tryAcquire("key-" + i, rule).allowed(), "key-" + i);
+			now.addAndGet(6 * SECOND);
+		}
+		for (int i = 0; i < 10; i++) {
+			assertTrue(small.tryAcquire("client", rule).allowed(), "request " + i);
+		}
+	}
+
+	@Test
+	void fullShardsRejectNewKeysInsteadOfDroppingLiveBuckets() {
+		InMemoryRateLimiter small = new InMemoryRateLimiter(16, now::get);
+		List<String> admitted = new ArrayList<>();
+		List<String> refused = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			RateLimitDecision decision = small.tryAcquire("key-" + i, rule);
+			if (decision.allowed()) {
+				admitted.add("key-" + i);
+			} else {
+				assertEquals(6, decision.retryAfterSeconds(), "key-" + i);
+				refused.add("key-" + i);
+			}
+		}
+		assertTrue(admitted.size() <= 16, admitted.toString());
+		assertFalse(refused.isEmpty());
+
+		// Admitted keys kept their buckets: each has exactly the rest of its burst left.
+		for (String key : admitted) {
+			for (int i = 1; i < 10; i++) {
+				assertTrue(small.tryAcquire(key, rule).allowed(), key + " request " + i);
+			}
+			assertFalse(small.tryAcquire(key, rule).allowed(), key);
+		}
+
+		// Once the buckets have refilled, they make room for new keys again.
+		now.addAndGet(60 * SECOND);
+		for (String key : refused) {
+			assertTrue(small.tryAcquire(key, rule).allowed(), key);
+			now.addAndGet(60 * SECOND);
+		}
+	}
+
+	// Uses the full burst and checks the next request is refused.
+	private void drain(String key) {
+		for (int i = 0; i < 10; i++) {
+			assertTrue(limiter.tryAcquire(key, rule).allowed(), "request " + i);
+		}
+		assertFalse(limiter.tryAcquire(key, rule).allowed());
+	}
+}
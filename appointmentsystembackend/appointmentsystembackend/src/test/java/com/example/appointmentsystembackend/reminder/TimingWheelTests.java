@@ -0,0 +1,90 @@
+package com.example.appointmentsystembackend.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTests {
+	private static final long TICK = 10;
+	private static final int SIZE = 8;
+	private static final int LEVELS = 3;
+
+	@Test
+	void firesTimersOnTheirTickAcrossCascades() {
+		TimingWheel<String, String> wheel = new TimingWheel<>(TICK, SIZE, LEVELS, 0);
+		wheel.schedule("soon", 35, "soon");
+		wheel.schedule("later", 1_234, "later");
+
+		assertEquals(List.of(), wheel.advance(29));
+		assertEquals(List.of("soon"), wheel.advance(39));
+		assertEquals(List.of(), wheel.advance(1_229));
+		assertEquals(List.of("later"), wheel.advance(1_230));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void rescheduleAndCancelReplaceEarlierTimers() {
+		TimingWheel<String, String> wheel = new TimingWheel<>(TICK, SIZE, LEVELS, 0);
+		wheel.schedule("a", 100, "first");
+		wheel.schedule("a", 200, "second");
+		wheel.schedule("b", 150, "b");
+		assertTrue(wheel.cancel("b"));
+		assertFalse(wheel.cancel("b"));
+
+		assertEquals(List.of(), wheel.advance(199));
+		assertEquals(List.of("second"), wheel.advance(200));
+	}
+
+	@Test
+	void overdueTimersFireOnNextAdvance() {
+		TimingWheel<String, String> wheel = new TimingWheel<>(TICK, SIZE, LEVELS, 1_000);
+		wheel.schedule("late", 500, "late");
+		assertEquals(List.of("late"), wheel.advance(1_000));
+	}
+
+	@Test
+	void rejectsDeadlinesBeyondTheTopLevel() {
+		TimingWheel<String, String> wheel = new TimingWheel<>(TICK, SIZE, LEVELS, 0);
+		assertFalse(wheel.schedule("far", TICK * SIZE * SIZE * SIZE * 2, "far"));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void neverFiresEarlyOrLateUnderRandomOperations() {
+		SplittableRandom random = new SplittableRandom(42);
+		long now = random.nextInt(1_000_000);
+		TimingWheel<Integer, Integer> wheel = new TimingWheel<>(TICK, SIZE, LEVELS, now);
+		Map<Integer, Long> pending = new HashMap<>();
+		for (int key = 0; key < 20_000; key++) {
+			int operation = random.nextInt(10);
+			if (operation < 5) {
+				long deadline = now + random.nextInt(4_000) - 50;
+				if (wheel.schedule(key, deadline, key)) {
+					pending.put(key, deadline);
+				}
+			} else if (operation == 5 && !pending.isEmpty()) {
+				Integer cancelled = pending.keySet().iterator().next();
+				assertTrue(wheel.cancel(cancelled));
+				pending.remove(cancelled);
+			} else {
+				now += random.nextInt(60);
+				long currentTick = Math.floorDiv(now, TICK);
+				for (Integer fired : wheel.advance(now)) {
+					Long deadline = pending.remove(fired);
+					assertNotNull(deadline, "fired a cancelled or unknown timer");
+					assertTrue(Math.floorDiv(deadline, TICK) <= currentTick, "fired early");
+				}
+				pending.values().forEach(deadline -> assertTrue(Math.floorDiv(deadline, TICK) > currentTick, "missed"));
+			}
+			assertEquals(pending.size(), wheel.size());
+		}
+	}
+}
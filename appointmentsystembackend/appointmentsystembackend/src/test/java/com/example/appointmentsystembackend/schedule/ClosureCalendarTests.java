@@ -0,0 +1,126 @@
+package com.example.appointmentsystembackend.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.appointmentsystembackend.bench.RepositoryStubs;
+import com.example.appointmentsystembackend.invalidation.InvalidationMessage;
+import com.example.appointmentsystembackend.invalidation.InvalidationType;
+
+class ClosureCalendarTests {
+	private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+	private final UUID departmentId = UUID.randomUUID();
+	private final List<Closure> rows = new ArrayList<>();
+	private int loads;
+	private Runnable duringLoad = () -> {
+	};
+
+	private final ClosureCalendar calendar = new ClosureCalendar(RepositoryStubs.stub(ClosureRepository.class,
+			Map.of("findByEndDateGreaterThanEqualOrderByStartDateAsc", args -> {
+				loads++;
+				List<Closure> read = List.copyOf(rows);
+				duringLoad.run();
+				return read;
+			})), (type, id) -> {
+			});
+
+	@Test
+	void overlappingAndAdjacentRangesAreMerged() {
+		ClosureCalendar.Ranges ranges = ClosureCalendar.Ranges.merge(List.of(
+				closure(10, 12),
+				closure(0, 5),
+				closure(3, 8),
+				closure(9, 9),
+				closure(20, 25),
+				closure(21, 22)));
+
+		// 0-5 and 3-8 overlap, 9 and 10-12 touch them; 21-22 sits inside 20-25.
+		assertArrayEquals(new long[] { day(0), day(20) }, ranges.starts());
+		assertArrayEquals(new long[] { day(12), day(25) }, ranges.ends());
+	}
+
+	@Test
+	void rangesWithAGapStaySeparate() {
+		ClosureCalendar.Ranges ranges = ClosureCalendar.Ranges.merge(List.of(closure(0, 5), closure(7, 8)));
+
+		assertEquals(2, ranges.starts().length);
+		assertTrue(ranges.contains(day(5)));
+		assertFalse(ranges.contains(day(6)));
+		assertTrue(ranges.contains(day(7)));
+	}
+
+	@Test
+	void containsChecksEveryBinarySearchBoundary() {
+		ClosureCalendar.Ranges ranges = ClosureCalendar.Ranges.merge(List.of(closure(10, 12), closure(20, 20)));
+
+		assertFalse(ranges.contains(day(9)), "before the first range");
+		assertTrue(ranges.contains(day(10)), "exact start");
+		assertTrue(ranges.contains(day(11)), "inside");
+		assertTrue(ranges.contains(day(12)), "inclusive end");
+		assertFalse(ranges.contains(day(13)), "between ranges");
+		assertFalse(ranges.contains(day(19)), "just before the last start");
+		assertTrue(ranges.contains(day(20)), "one-day range");
+		assertFalse(ranges.contains(day(21)), "after the last range");
+		assertFalse(ClosureCalendar.Ranges.merge(List.of()).contains(day(0)), "no closures");
+	}
+
+	@Test
+	void organizationClosuresApplyToEveryDepartment() {
+		rows.add(new Closure(DAY, DAY, null, "Public holiday"));
+		rows.add(new Closure(DAY.plusDays(1), DAY.plusDays(2), departmentId, "Audit"));
+
+		assertTrue(calendar.isClosed(DAY, UUID.randomUUID()));
+		assertTrue(calendar.isClosed(DAY, null));
+		assertTrue(calendar.isClosed(DAY.plusDays(2), departmentId));
+		assertFalse(calendar.isClosed(DAY.plusDays(2), UUID.randomUUID()));
+		assertEquals("Audit", calendar.reason(DAY.plusDays(1), departmentId).orElseThrow());
+		assertEquals(1, loads);
+	}
+
+	@Test
+	void invalidationsDropTheSnapshot() {
+		assertFalse(calendar.isClosed(DAY, departmentId));
+		rows.add(new Closure(DAY, DAY, departmentId, "Audit"));
+		assertFalse(calendar.isClosed(DAY, departmentId));
+
+		calendar.onInvalidation(new InvalidationMessage(InvalidationType.STAFF_AVAILABILITY, null, 1, "node-b"));
+		assertFalse(calendar.isClosed(DAY, departmentId));
+		calendar.onInvalidation(new InvalidationMessage(InvalidationType.CLOSURES, null, 2, "node-b"));
+		assertTrue(calendar.isClosed(DAY, departmentId));
+		assertEquals(2, loads);
+	}
+
+	@Test
+	void loadOverlappingAnInvalidationIsNotPublished() {
+		duringLoad = () -> {
+			duringLoad = () -> {
+			};
+			rows.add(new Closure(DAY, DAY, null, "Added while loading"));
+			calendar.invalidate();
+		};
+
+		// The first caller still gets the rows it read; the next one must not reuse them.
+		assertFalse(calendar.isClosed(DAY, departmentId));
+		assertTrue(calendar.isClosed(DAY, departmentId));
+		assertEquals(2, loads);
+	}
+
+	private static Closure closure(int fromDay, int toDay) {
+		return new Closure(DAY.plusDays(fromDay), DAY.plusDays(toDay), null, "Closed");
+	}
+
+	private static long day(int offset) {
+		return DAY.plusDays(offset).toEpochDay();
+	}
+}
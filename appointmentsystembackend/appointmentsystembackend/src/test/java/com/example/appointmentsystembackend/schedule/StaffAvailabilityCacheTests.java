@@ -0,0 +1,122 @@
+package com.example.appointmentsystembackend.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.appointmentsystembackend.bench.RepositoryStubs;
+import com.example.appointmentsystembackend.invalidation.InvalidationMessage;
+import com.example.appointmentsystembackend.invalidation.InvalidationType;
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StaffAvailabilityCacheTests {
+	private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+	private static final LocalTime TEN = LocalTime.of(10, 0);
+
+	private final UUID staffId = UUID.randomUUID();
+	private final UUID otherStaffId = UUID.randomUUID();
+	private final User staff = new User("staff@example.com", "Staff Member", "x", Role.STAFF);
+	private final Map<UUID, List<WorkSchedule>> schedules = new HashMap<>();
+	private final List<UUID> loads = new ArrayList<>();
+	private final List<UUID> published = new ArrayList<>();
+	private Runnable duringLoad = () -> {
+	};
+
+	private final StaffAvailabilityCache cache = new StaffAvailabilityCache(
+			RepositoryStubs.stub(WorkScheduleRepository.class, Map.of("findByStaffId", args -> {
+				loads.add((UUID) args[0]);
+				duringLoad.run();
+				return schedules.getOrDefault((UUID) args[0], List.of());
+			})),
+			RepositoryStubs.stub(BlockedDateRepository.class, Map.of("findByStaffId", args -> List.of())),
+			(type, id) -> published.add(id), new SimpleMeterRegistry());
+
+	@Test
+	void templatesAreLoadedOncePerStaffMember() {
+		WeeklyTemplate first = cache.get(staffId);
+		assertSame(first, cache.get(staffId));
+		cache.get(otherStaffId);
+
+		assertEquals(List.of(staffId, otherStaffId), loads);
+	}
+
+	@Test
+	void invalidateEvictsOnlyThatStaffMemberAndTellsOtherNodes() {
+		cache.get(staffId);
+		cache.get(otherStaffId);
+		schedules.put(staffId, List.of(new WorkSchedule(staff, "Monday", TEN, TEN, false)));
+
+		cache.invalidate(staffId);
+
+		assertFalse(cache.get(staffId).isWorkingAt(MONDAY, TEN));
+		cache.get(otherStaffId);
+		assertEquals(List.of(staffId, otherStaffId, staffId), loads);
+		assertEquals(List.of(staffId), published);
+	}
+
+	@Test
+	void invalidateEvictsAgainWhenTheTransactionCompletes() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.invalidate(staffId);
+			// A reader between the write and the commit caches the rows it could still see.
+			cache.get(staffId);
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		cache.get(staffId);
+		assertEquals(List.of(staffId, staffId), loads);
+	}
+
+	@Test
+	void loadOverlappingAnInvalidationIsNotCached() {
+		duringLoad = () -> {
+			duringLoad = () -> {
+			};
+			cache.invalidate(otherStaffId);
+		};
+
+		cache.get(staffId);
+		cache.get(staffId);
+
+		assertEquals(List.of(staffId, staffId), loads);
+	}
+
+	@Test
+	void messagesFromOtherNodesEvictOneOrAllEntries() {
+		cache.get(staffId);
+		cache.get(otherStaffId);
+
+		cache.onInvalidation(new InvalidationMessage(InvalidationType.CLOSURES, null, 1, "node-b"));
+		cache.onInvalidation(new InvalidationMessage(InvalidationType.STAFF_AVAILABILITY, staffId, 2, "node-b"));
+		cache.get(staffId);
+		cache.get(otherStaffId);
+		assertEquals(List.of(staffId, otherStaffId, staffId), loads);
+
+		cache.onInvalidation(new InvalidationMessage(InvalidationType.STAFF_AVAILABILITY, null, 3, "node-b"));
+		cache.get(staffId);
+		cache.get(otherStaffId);
+		assertEquals(List.of(staffId, otherStaffId, staffId, staffId, otherStaffId), loads);
+		assertTrue(published.isEmpty());
+	}
+}
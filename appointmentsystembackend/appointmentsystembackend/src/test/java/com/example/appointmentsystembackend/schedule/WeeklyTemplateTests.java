@@ -0,0 +1,86 @@
+package com.example.appointmentsystembackend.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.appointmentsystembackend.user.Role;
+import com.example.appointmentsystembackend.user.User;
+
+class WeeklyTemplateTests {
+	private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+	private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+	private static final LocalDate SATURDAY = MONDAY.plusDays(5);
+	private static final LocalDate SUNDAY = MONDAY.plusDays(6);
+
+	private final User staff = new User("staff@example.com", "Staff Member", "x", Role.STAFF);
+
+	@Test
+	void workingHoursIncludeTheEndTime() {
+		WeeklyTemplate template = WeeklyTemplate.compile(
+				List.of(schedule("Monday", LocalTime.of(8, 0), LocalTime.of(17, 0), true)), List.of());
+
+		assertFalse(template.isWorkingAt(MONDAY, LocalTime.of(7, 59)));
+		assertTrue(template.isWorkingAt(MONDAY, LocalTime.of(8, 0)));
+		assertTrue(template.isWorkingAt(MONDAY, LocalTime.of(17, 0)));
+		assertFalse(template.isWorkingAt(MONDAY, LocalTime.of(17, 1)));
+	}
+
+	@Test
+	void daysOffAndUnlistedDaysAreNotWorked() {
+		WeeklyTemplate template = WeeklyTemplate.compile(List.of(
+				schedule("Monday", LocalTime.of(8, 0), LocalTime.of(17, 0), true),
+				schedule("Wednesday", LocalTime.of(8, 0), LocalTime.of(17, 0), false)), List.of());
+
+		assertFalse(template.isWorkingAt(WEDNESDAY, LocalTime.of(10, 0)));
+		assertFalse(template.isWorkingOn(WEDNESDAY));
+		// A saved schedule replaces the default week, so days it does not list are off.
+		assertFalse(template.isWorkingOn(MONDAY.plusDays(1)));
+		assertFalse(template.isWorkingOn(SATURDAY));
+	}
+
+	@Test
+	void blockedDatesOverrideTheWeek() {
+		WeeklyTemplate template = WeeklyTemplate.compile(
+				List.of(schedule("Monday", LocalTime.of(8, 0), LocalTime.of(17, 0), true)),
+				List.of(new BlockedDate(staff, MONDAY, "Training"), new BlockedDate(staff, MONDAY, "Duplicate"),
+						new BlockedDate(staff, MONDAY.minusWeeks(1), "Leave")));
+
+		assertTrue(template.isBlocked(MONDAY));
+		assertFalse(template.isWorkingOn(MONDAY));
+		assertFalse(template.isWorkingAt(MONDAY, LocalTime.of(10, 0)));
+		assertFalse(template.isWorkingAt(MONDAY.minusWeeks(1), LocalTime.of(10, 0)));
+		assertTrue(template.isWorkingAt(MONDAY.plusWeeks(1), LocalTime.of(10, 0)));
+		assertEquals(MONDAY.minusWeeks(1), template.blockedDays().get(0).date());
+	}
+
+	@Test
+	void staffWithoutASavedScheduleGetTheDefaultWeek() {
+		WeeklyTemplate template = WeeklyTemplate.compile(List.of(), List.of());
+
+		assertTrue(template.isWorkingAt(MONDAY, LocalTime.of(8, 0)));
+		assertTrue(template.isWorkingAt(MONDAY, LocalTime.of(17, 0)));
+		assertFalse(template.isWorkingAt(SATURDAY, LocalTime.of(8, 30)));
+		assertTrue(template.isWorkingAt(SATURDAY, LocalTime.of(14, 0)));
+		assertFalse(template.isWorkingAt(SATURDAY, LocalTime.of(14, 1)));
+		assertFalse(template.isWorkingOn(SUNDAY));
+	}
+
+	@Test
+	void dayNamesAreMatchedRegardlessOfCase() {
+		WeeklyTemplate template = WeeklyTemplate.compile(
+				List.of(schedule(" monday ", LocalTime.of(9, 0), LocalTime.of(12, 0), true)), List.of());
+
+		assertTrue(template.isWorkingAt(MONDAY, LocalTime.of(9, 0)));
+	}
+
+	private WorkSchedule schedule(String day, LocalTime start, LocalTime end, boolean working) {
+		return new WorkSchedule(staff, day, start, end, working);
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.appointmentsystembackend.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// The search statement fails the way the Postgres driver fails it, and the error goes through
+// spring-jdbc's real exception translation.
+class SearchServiceTimeoutTests {
+	@Test
+	void statementTimeoutBecomesABadRequest() {
+		SearchService service = searchFailingWith(
+				new SQLException("ERROR: canceling statement due to statement timeout", "57014"));
+
+		IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> service.search("mugisha", EnumSet.allOf(SearchType.class), 0, 20));
+		assertEquals("Search took too long; try a more specific query", ex.getMessage());
+	}
+
+	@Test
+	void translatorStillReportsTheTimeoutAsAResourceFailure() {
+		// Guards the reason for the SQLSTATE check: if spring-jdbc starts translating 57014 to
+		// QueryTimeoutException this fails, and the cause walk can go.
+		NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(failingDataSource(
+				new SQLException("ERROR: canceling statement due to statement timeout", "57014")));
+		assertThrows(DataAccessResourceFailureException.class,
+				() -> jdbcTemplate.queryForList("SELECT 1", Map.of()));
+	}
+
+	@Test
+	void otherDatabaseErrorsAreNotReportedAsTimeouts() {
+		SearchService service = searchFailingWith(new SQLException("ERROR: syntax error", "42601"));
+
+		assertThrows(BadSqlGrammarException.class,
+				() -> service.search("mugisha", EnumSet.allOf(SearchType.class), 0, 20));
+	}
+
+	private static SearchService searchFailingWith(SQLException failure) {
+		DataSource dataSource = failingDataSource(failure);
+		return new SearchService(new NamedParameterJdbcTemplate(dataSource),
+				new DataSourceTransactionManager(dataSource), new SimpleMeterRegistry(), 800);
+	}
+
+	// Connections accept transaction and session setup (SET LOCAL ...), but every prepared
+	// statement fails on execution with the given error.
+	private static DataSource failingDataSource(SQLException failure) {
+		return new AbstractDataSource() {
+			@Override
+			public Connection getConnection() {
+				return proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+					case "getAutoCommit" -> true;
+					case "equals" -> proxy == args[0];
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "createStatement" -> proxy(Statement.class, (statement, call, callArgs) -> defaultValue(
+							call.getReturnType()));
+					case "prepareStatement" -> proxy(PreparedStatement.class, (statement, call, callArgs) -> {
+						if (call.getName().startsWith("execute")) {
+							throw failure;
+						}
+						return defaultValue(call.getReturnType());
+					});
+					default -> defaultValue(method.getReturnType());
+				});
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) {
+				return getConnection();
+			}
+		};
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if (type == boolean.class) {
+			return false;
+		}
+		if (type == int.class) {
+			return 0;
+		}
+		if (type == long.class) {
+			return 0L;
+		}
+		return null;
+	}
+
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(SearchServiceTimeoutTests.class.getClassLoader(),
+				new Class<?>[] { type }, handler));
+	}
+}
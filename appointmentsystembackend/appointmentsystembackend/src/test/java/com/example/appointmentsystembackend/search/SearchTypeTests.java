@@ -0,0 +1,24 @@
+package com.example.appointmentsystembackend.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+class SearchTypeTests {
+	@Test
+	void parsesPluralNamesAndAll() {
+		assertEquals(EnumSet.of(SearchType.CLIENT, SearchType.SERVICE), SearchType.parse("clients, service"));
+		assertEquals(EnumSet.allOf(SearchType.class), SearchType.parse("all"));
+		assertEquals(EnumSet.allOf(SearchType.class), SearchType.parse(null));
+	}
+
+	@Test
+	void rejectsAListWithoutTypes() {
+		assertThrows(IllegalArgumentException.class, () -> SearchType.parse(","));
+		assertThrows(IllegalArgumentException.class, () -> SearchType.parse(",,,"));
+		assertThrows(IllegalArgumentException.class, () -> SearchType.parse(" , "));
+	}
+}
@@ -0,0 +1,117 @@
+package com.example.appointmentsystembackend.waitlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.appointmentsystembackend.appointment.AppointmentRepository;
+import com.example.appointmentsystembackend.bench.RepositoryStubs;
+import com.example.appointmentsystembackend.bench.SyntheticData;
+import com.example.appointmentsystembackend.invalidation.InvalidationMessage;
+import com.example.appointmentsystembackend.invalidation.InvalidationType;
+import com.example.appointmentsystembackend.notification.NotificationRepository;
+import com.example.appointmentsystembackend.servicecatalog.ServiceCatalog;
+
+// Rows read back from waitlist_entries stand in for what Postgres returns: the same instant,
+// but in the session's offset rather than the one the entity was created with.
+class WaitlistQueueTests {
+	private final LocalDate day = LocalDate.now().plusDays(3);
+
+	private SyntheticData data;
+	private ServiceCatalog service;
+	private final Map<UUID, WaitlistEntry> rows = new HashMap<>();
+	private WaitlistQueue queue;
+	private WaitlistService waitlist;
+
+	@BeforeEach
+	void setUp() {
+		data = SyntheticData.generate(0, 42L);
+		service = data.services.get(0);
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("existsByClientIdAndServiceIdAndStatus", args -> false);
+		answers.put("save", args -> {
+			WaitlistEntry entry = (WaitlistEntry) args[0];
+			entry.prePersist();
+			rows.put(entry.getId(), entry);
+			return entry;
+		});
+		answers.put("findById", args -> Optional.ofNullable(rows.get(args[0])).map(WaitlistQueueTests::reloaded));
+		answers.put("leaveWaiting", args -> 1);
+		answers.put("findByStatusOrderByCreatedAtAsc", args -> rows.values().stream()
+				.map(WaitlistQueueTests::reloaded)
+				.toList());
+		answers.put("findByServiceIdAndStatusOrderByCreatedAtAsc", args -> rows.values().stream()
+				.map(WaitlistQueueTests::reloaded)
+				.toList());
+		WaitlistRepository repository = RepositoryStubs.stub(WaitlistRepository.class, answers);
+		queue = new WaitlistQueue(repository);
+		waitlist = new WaitlistService(repository, queue,
+				RepositoryStubs.stub(AppointmentRepository.class, Map.of()), data.userRepository(),
+				data.serviceCatalogRepository(), RepositoryStubs.stub(NotificationRepository.class, Map.of()),
+				data.availabilityCache(), data.closureCalendar(), (type, id) -> {
+				}, RepositoryStubs.stub(PlatformTransactionManager.class, Map.of()), 60);
+	}
+
+	@Test
+	void cancelledWaitersLeaveTheQueue() {
+		WaitlistEntry first = waitlist.join(data.clients.get(0), request());
+		WaitlistEntry second = waitlist.join(data.clients.get(1), request());
+		assertEquals(List.of(first.getId(), second.getId()), candidateIds());
+
+		waitlist.cancel(data.clients.get(0), first.getId());
+
+		assertEquals(List.of(second.getId()), candidateIds());
+	}
+
+	@Test
+	void reloadingAServiceDoesNotQueueAWaiterTwice() {
+		WaitlistEntry entry = waitlist.join(data.clients.get(0), request());
+
+		queue.onInvalidation(new InvalidationMessage(InvalidationType.WAITLIST, service.getId(), 1, "node-b"));
+
+		assertEquals(List.of(entry.getId()), candidateIds());
+		waitlist.cancel(data.clients.get(0), entry.getId());
+		assertEquals(List.of(), candidateIds());
+	}
+
+	private List<UUID> candidateIds() {
+		return queue.candidates(service.getId(), day).stream().map(WaitlistQueue.Waiter::id).toList();
+	}
+
+	private WaitlistRequest request() {
+		return new WaitlistRequest(service.getId().toString(), day.toString(), day.plusDays(2).toString());
+	}
+
+	private static WaitlistEntry reloaded(WaitlistEntry entry) {
+		WaitlistEntry copy = new WaitlistEntry(entry.getClient(), entry.getServiceId(), entry.getWindowStart(),
+				entry.getWindowEnd());
+		OffsetDateTime createdAt = entry.getCreatedAt().withOffsetSameInstant(
+				entry.getCreatedAt().getOffset().equals(ZoneOffset.UTC) ? ZoneOffset.ofHours(2) : ZoneOffset.UTC);
+		set(copy, "id", entry.getId());
+		set(copy, "createdAt", createdAt);
+		return copy;
+	}
+
+	private static void set(WaitlistEntry entry, String name, Object value) {
+		try {
+			Field field = WaitlistEntry.class.getDeclaredField(name);
+			field.setAccessible(true);
+			field.set(entry, value);
+		} catch (ReflectiveOperationException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+import { ChevronLeft, ChevronRight } from "lucide-react";
+
+interface ListPagerProps {
+  page: number;
+  size: number;
+  total: number;
+  label: string;
+  onPageChange: (page: number) => void;
+}
+
+// Range summary and previous/next buttons for the server-paged admin lists.
+export default function ListPager({ page, size, total, label, onPageChange }: ListPagerProps) {
+  const pageCount = Math.max(1, Math.ceil(total / size));
+  const first = total === 0 ? 0 : page * size + 1;
+  const last = Math.min(total, (page + 1) * size);
+
+  return (
+    <div className="flex items-center justify-between gap-4 text-sm text-gray-600">
+      <span>
+        Showing {first}–{last} of {total.toLocaleString()} {label}
+      </span>
+      <div className="flex items-center gap-2">
+        <button
+          onClick={() => onPageChange(page - 1)}
+          disabled={page === 0}
+          className="p-1 hover:bg-gray-100 rounded disabled:opacity-40 disabled:hover:bg-transparent"
+          aria-label="Previous page"
+        >
+          <ChevronLeft className="h-5 w-5 text-gray-600" />
+        </button>
+        <span>
+          Page {page + 1} of {pageCount}
+        </span>
+        <button
+          onClick={() => onPageChange(page + 1)}
+          disabled={page + 1 >= pageCount}
+          className="p-1 hover:bg-gray-100 rounded disabled:opacity-40 disabled:hover:bg-transparent"
+          aria-label="Next page"
+        >
+          <ChevronRight className="h-5 w-5 text-gray-600" />
+        </button>
+      </div>
+    </div>
+  );
+}
@@ -0,0 +1,14 @@
+import * as React from "react";
+
+// The value once it has stopped changing for delayMs, so typing in a search box sends one
+// request instead of one per keystroke.
+export function useDebouncedValue<T>(value: T, delayMs = 300) {
+  const [debounced, setDebounced] = React.useState(value);
+
+  React.useEffect(() => {
+    const timer = window.setTimeout(() => setDebounced(value), delayMs);
+    return () => window.clearTimeout(timer);
+  }, [value, delayMs]);
+
+  return debounced;
+}
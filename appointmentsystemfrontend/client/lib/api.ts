@@ -63,6 +63,12 @@ export interface StaffResponse {
   appointmentsHandled: number;
 }
 
+export interface StaffSummaryResponse {
+  total: number;
+  active: number;
+  appointmentsHandled: number;
+}
+
 export interface DepartmentResponse {
   id: string;
   name: string;
@@ -240,7 +246,7 @@ export interface MessageResponse {
 
 const getAuthToken = () => localStorage.getItem("rra_token");
 
-async function apiFetch<T>(path: string, options: RequestInit = {}): Promise<T> {
+async function apiRequest(path: string, options: RequestInit = {}): Promise<Response> {
   const token = getAuthToken();
   const isPublicAuthPath =
     path === "/api/auth/login" ||
@@ -266,6 +272,11 @@ async function apiFetch<T>(path: string, options: RequestInit = {}): Promise<T>
     throw new Error(data.error || `Request failed (${response.status})`);
   }
 
+  return response;
+}
+
+async function apiFetch<T>(path: string, options: RequestInit = {}): Promise<T> {
+  const response = await apiRequest(path, options);
   if (response.status === 204) {
     return undefined as T;
   }
@@ -273,6 +284,31 @@ async function apiFetch<T>(path: string, options: RequestInit = {}): Promise<T>
   return response.json() as Promise<T>;
 }
 
+export interface Page<T> {
+  items: T[];
+  total: number;
+}
+
+export interface PageQuery {
+  page: number;
+  size: number;
+  q?: string;
+}
+
+// Paged list endpoints return one page as a JSON array and the full count in X-Total-Count.
+async function apiFetchPage<T>(path: string, params: Record<string, string | number | boolean | undefined>): Promise<Page<T>> {
+  const query = new URLSearchParams();
+  Object.entries(params).forEach(([key, value]) => {
+    if (value !== undefined && value !== "") {
+      query.set(key, String(value));
+    }
+  });
+  const response = await apiRequest(`${path}?${query.toString()}`);
+  const items = (await response.json()) as T[];
+  const total = Number(response.headers.get("X-Total-Count") ?? items.length);
+  return { items, total };
+}
+
 export const api = {
   login: (email: string, password: string) =>
     apiFetch<AuthResponse>("/api/auth/login", {
@@ -344,7 +380,9 @@ export const api = {
   deleteNotification: (id: string) =>
     apiFetch<void>(`/api/notifications/${id}`, { method: "DELETE" }),
 
-  listStaff: () => apiFetch<StaffResponse[]>("/api/staff"),
+  listStaff: (query: PageQuery & { department?: string }) =>
+    apiFetchPage<StaffResponse>("/api/staff", { ...query }),
+  getStaffSummary: () => apiFetch<StaffSummaryResponse>("/api/staff/summary"),
   createStaff: (payload: {
     email: string;
     fullName: string;
@@ -441,7 +479,8 @@ export const api = {
       method: "DELETE",
     }),
 
-  listClients: () => apiFetch<ClientResponse[]>("/api/clients"),
+  listClients: (query: PageQuery & { active?: boolean }) =>
+    apiFetchPage<ClientResponse>("/api/clients", { ...query }),
   updateClientStatus: (id: string, active: boolean) =>
     apiFetch<ClientResponse>(`/api/clients/${id}/status`, {
       method: "PATCH",
@@ -1,30 +1,51 @@
-import { useEffect, useMemo, useState } from "react";
+import { useEffect, useState } from "react";
 import { Search, UserCheck, UserX } from "lucide-react";
 import AdminLayout from "@/components/layout/AdminLayout";
+import ListPager from "@/components/layout/ListPager";
+import { useDebouncedValue } from "@/hooks/use-debounced-value";
 import { api, ClientResponse } from "@/lib/api";
 
 type StatusFilter = "all" | "active" | "inactive";
 
+const PAGE_SIZE = 50;
+
 export default function AdminClients() {
   const [clients, setClients] = useState<ClientResponse[]>([]);
+  const [total, setTotal] = useState(0);
+  const [page, setPage] = useState(0);
   const [query, setQuery] = useState("");
   const [filter, setFilter] = useState<StatusFilter>("all");
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
   const [updatingClientId, setUpdatingClientId] = useState<string | null>(null);
+  const debouncedQuery = useDebouncedValue(query.trim());
+
+  // Searching and filtering happen on the server, over every client rather than one page.
+  useEffect(() => {
+    setPage(0);
+  }, [debouncedQuery, filter]);
 
   useEffect(() => {
+    let cancelled = false;
     const loadClients = async () => {
+      setLoading(true);
       try {
-        const data = await api.listClients();
-        const normalized = Array.isArray(data)
-          ? data
-          : Array.isArray((data as { value?: ClientResponse[] }).value)
-          ? (data as { value: ClientResponse[] }).value
-          : [];
-        setClients(normalized);
+        const data = await api.listClients({
+          page,
+          size: PAGE_SIZE,
+          q: debouncedQuery,
+          active: filter === "all" ? undefined : filter === "active",
+        });
+        if (cancelled) {
+          return;
+        }
+        setClients(data.items);
+        setTotal(data.total);
         setError("");
       } catch (err) {
+        if (cancelled) {
+          return;
+        }
         const message =
           err instanceof Error && err.message.includes("403")
             ? "Access denied. Please login as admin to view clients."
@@ -33,25 +54,16 @@ export default function AdminClients() {
             : "Failed to load clients";
         setError(message);
       } finally {
-        setLoading(false);
+        if (!cancelled) {
+          setLoading(false);
+        }
       }
     };
     loadClients();
-  }, []);
-
-  const filteredClients = useMemo(() => {
-    const term = query.trim().toLowerCase();
-    return clients.filter((client) => {
-      const matchesQuery =
-        !term ||
-        client.fullName.toLowerCase().includes(term) ||
-        client.email.toLowerCase().includes(term) ||
-        (client.phone ?? "").toLowerCase().includes(term);
-      const matchesStatus =
-        filter === "all" || (filter === "active" ? client.active : !client.active);
-      return matchesQuery && matchesStatus;
-    });
-  }, [clients, query, filter]);
+    return () => {
+      cancelled = true;
+    };
+  }, [page, debouncedQuery, filter]);
 
   const handleToggleStatus = async (client: ClientResponse) => {
     const nextActive = !client.active;
@@ -112,13 +124,9 @@ export default function AdminClients() {
           )}
 
           <div className="bg-white rounded-xl shadow-sm border border-gray-200 overflow-hidden">
-            <div className="px-6 py-4 border-b border-gray-200 flex items-center justify-between">
-              <div>
-                <p className="text-lg font-semibold text-rra-navy">Clients</p>
-                <p className="text-sm text-gray-500">
-                  Showing {filteredClients.length} of {clients.length}
-                </p>
-              </div>
+            <div className="px-6 py-4 border-b border-gray-200 flex flex-col gap-2 md:flex-row md:items-center md:justify-between">
+              <p className="text-lg font-semibold text-rra-navy">Clients</p>
+              <ListPager page={page} size={PAGE_SIZE} total={total} label="clients" onPageChange={setPage} />
             </div>
 
             <div className="overflow-x-auto">
@@ -149,14 +157,14 @@ export default function AdminClients() {
                         Loading clients...
                       </td>
                     </tr>
-                  ) : filteredClients.length === 0 ? (
+                  ) : clients.length === 0 ? (
                     <tr>
                       <td colSpan={5} className="px-6 py-6 text-center text-sm text-gray-500">
                         No clients found.
                       </td>
                     </tr>
                   ) : (
-                    filteredClients.map((client) => (
+                    clients.map((client) => (
                       <tr key={client.id} className="hover:bg-gray-50">
                         <td className="px-6 py-4">
                           <p className="text-sm font-semibold text-gray-900">{client.fullName}</p>
@@ -1,7 +1,9 @@
 import { Plus, Search, Filter, Mail, Phone, UserCheck, UserX, Edit2, Trash2, MoreVertical } from "lucide-react";
-import { useEffect, useMemo, useState } from "react";
+import { useCallback, useEffect, useMemo, useState } from "react";
 import AdminLayout from "@/components/layout/AdminLayout";
-import { api, DepartmentResponse, ServiceCatalogResponse, StaffResponse } from "@/lib/api";
+import ListPager from "@/components/layout/ListPager";
+import { useDebouncedValue } from "@/hooks/use-debounced-value";
+import { api, DepartmentResponse, ServiceCatalogResponse, StaffResponse, StaffSummaryResponse } from "@/lib/api";
 
 interface StaffMember {
   id: string;
@@ -17,8 +19,27 @@ interface StaffMember {
   appointmentsHandled: number;
 }
 
+const PAGE_SIZE = 50;
+
+const toStaffMember = (member: StaffResponse): StaffMember => ({
+  id: member.id,
+  name: member.fullName,
+  email: member.email,
+  phone: member.phone || "N/A",
+  department: member.department || "General",
+  departmentId: member.departmentId || undefined,
+  service: member.serviceName || "Not assigned",
+  serviceId: member.serviceId || undefined,
+  position: "Staff Member",
+  status: member.status === "active" ? "active" : "inactive",
+  appointmentsHandled: member.appointmentsHandled ?? 0,
+});
+
 export default function AdminStaffManagement() {
   const [staff, setStaff] = useState<StaffMember[]>([]);
+  const [total, setTotal] = useState(0);
+  const [page, setPage] = useState(0);
+  const [summary, setSummary] = useState<StaffSummaryResponse>({ total: 0, active: 0, appointmentsHandled: 0 });
   const [departments, setDepartments] = useState<DepartmentResponse[]>([]);
   const [services, setServices] = useState<ServiceCatalogResponse[]>([]);
   const [searchTerm, setSearchTerm] = useState("");
@@ -66,58 +87,68 @@ export default function AdminStaffManagement() {
 
   const departmentOptions = departments.map((dept) => dept.name);
 
-  const filteredStaff = staff.filter((member) => {
-    const q = searchTerm.toLowerCase();
-    const matchesSearch =
-      member.name.toLowerCase().includes(q) ||
-      member.email.toLowerCase().includes(q) ||
-      member.phone.toLowerCase().includes(q) ||
-      member.service.toLowerCase().includes(q);
-    const matchesDepartment = filterDepartment === "all" || member.department === filterDepartment;
-    return matchesSearch && matchesDepartment;
-  });
+  const debouncedSearch = useDebouncedValue(searchTerm.trim());
+  const avgAppointments = summary.total > 0 ? Math.round(summary.appointmentsHandled / summary.total) : 0;
 
-  const activeStaff = staff.filter((s) => s.status === "active").length;
-  const totalAppointments = staff.reduce((sum, s) => sum + s.appointmentsHandled, 0);
-  const avgAppointments = staff.length > 0 ? Math.round(totalAppointments / staff.length) : 0;
+  // The figures cover every staff member, not just the page on screen.
+  const loadSummary = useCallback(async () => {
+    try {
+      setSummary(await api.getStaffSummary());
+    } catch {
+      setSummary({ total: 0, active: 0, appointmentsHandled: 0 });
+    }
+  }, []);
 
   useEffect(() => {
     const loadData = async () => {
       try {
-        const [staffData, departmentData, serviceData] = await Promise.all([
-          api.listStaff(),
-          api.listDepartments(),
-          api.listServices(),
-        ]);
+        const [departmentData, serviceData] = await Promise.all([api.listDepartments(), api.listServices()]);
         setDepartments(departmentData);
         setServices(serviceData);
         setFormData((prev) => ({
           ...prev,
           departmentId: departmentData[0]?.id || "",
         }));
-        setStaff(
-          staffData.map((member: StaffResponse) => ({
-            id: member.id,
-            name: member.fullName,
-            email: member.email,
-            phone: member.phone || "N/A",
-            department: member.department || "General",
-            departmentId: member.departmentId || undefined,
-            service: member.serviceName || "Not assigned",
-            serviceId: member.serviceId || undefined,
-            position: "Staff Member",
-            status: member.status === "active" ? "active" : "inactive",
-            appointmentsHandled: member.appointmentsHandled ?? 0,
-          }))
-        );
       } catch {
-        setStaff([]);
         setDepartments([]);
         setServices([]);
       }
     };
     loadData();
-  }, []);
+    loadSummary();
+  }, [loadSummary]);
+
+  // Searching and the department filter run on the server, over every staff member.
+  useEffect(() => {
+    setPage(0);
+  }, [debouncedSearch, filterDepartment]);
+
+  useEffect(() => {
+    let cancelled = false;
+    const loadStaff = async () => {
+      try {
+        const data = await api.listStaff({
+          page,
+          size: PAGE_SIZE,
+          q: debouncedSearch,
+          department: filterDepartment === "all" ? undefined : filterDepartment,
+        });
+        if (!cancelled) {
+          setStaff(data.items.map(toStaffMember));
+          setTotal(data.total);
+        }
+      } catch {
+        if (!cancelled) {
+          setStaff([]);
+          setTotal(0);
+        }
+      }
+    };
+    loadStaff();
+    return () => {
+      cancelled = true;
+    };
+  }, [page, debouncedSearch, filterDepartment]);
 
   const handleAddStaff = async () => {
     if (!formData.name || !formData.email || !formData.phone || !formData.password || !formData.position) {
@@ -167,6 +198,8 @@ export default function AdminStaffManagement() {
         position: "",
         password: "",
       });
+      setTotal((prev) => prev + 1);
+      loadSummary();
       setAddModalOpen(false);
     } catch (error) {
       setAddError(error instanceof Error ? error.message : "Failed to add staff member");
@@ -249,6 +282,8 @@ export default function AdminStaffManagement() {
       setDeletingStaffId(deleteTarget.id);
       await api.deleteStaff(deleteTarget.id);
       setStaff((prev) => prev.filter((s) => s.id !== deleteTarget.id));
+      setTotal((prev) => Math.max(0, prev - 1));
+      loadSummary();
       setDeleteTarget(null);
     } catch (error) {
       const message =
@@ -295,6 +330,7 @@ export default function AdminStaffManagement() {
             : s
         )
       );
+      loadSummary();
     } catch (error) {
       const message =
         error instanceof Error && error.message.includes("403")
@@ -347,9 +383,9 @@ export default function AdminStaffManagement() {
 
           <div className="grid md:grid-cols-4 gap-4 mb-8">
             {[
-              { label: "Total Staff", value: staff.length, color: "bg-blue-50 text-rra-blue" },
-              { label: "Active", value: activeStaff, color: "bg-green-50 text-rra-green" },
-              { label: "Total Appointments", value: totalAppointments, color: "bg-purple-50 text-purple-600" },
+              { label: "Total Staff", value: summary.total, color: "bg-blue-50 text-rra-blue" },
+              { label: "Active", value: summary.active, color: "bg-green-50 text-rra-green" },
+              { label: "Total Appointments", value: summary.appointmentsHandled, color: "bg-purple-50 text-purple-600" },
               { label: "Avg per Staff", value: avgAppointments, color: "bg-orange-50 text-rra-gold" },
             ].map((stat) => (
               <div key={stat.label} className={`${stat.color} rounded-xl p-6`}>
@@ -396,15 +432,15 @@ export default function AdminStaffManagement() {
                   ))}
                 </select>
               </div>
-              <div className="text-sm text-gray-600 flex items-center justify-end">
-                Showing {filteredStaff.length} of {staff.length} staff members
+              <div className="flex items-center justify-end">
+                <ListPager page={page} size={PAGE_SIZE} total={total} label="staff members" onPageChange={setPage} />
               </div>
             </div>
           </div>
 
           <div className="bg-white rounded-xl shadow-sm border border-gray-200 overflow-visible">
             <div className="md:hidden p-4 space-y-3">
-              {filteredStaff.map((member) => (
+              {staff.map((member) => (
                 <div key={member.id} className="border border-gray-200 rounded-lg p-4">
                   <div className="flex items-start justify-between gap-3">
                     <div>
@@ -499,7 +535,7 @@ export default function AdminStaffManagement() {
                   </tr>
                 </thead>
                 <tbody>
-                  {filteredStaff.map((member) => (
+                  {staff.map((member) => (
                     <tr key={member.id} className="border-b border-gray-200 hover:bg-gray-50 transition">
                       <td className="px-3 lg:px-4 py-4 align-top">
                         <p className="font-medium text-gray-900 text-sm break-words">{member.name}</p>
@@ -570,7 +606,7 @@ export default function AdminStaffManagement() {
                 </tbody>
               </table>
             </div>
-          {filteredStaff.length === 0 && (
+          {staff.length === 0 && (
               <div className="p-8 text-center text-gray-500">No staff members found matching your criteria.</div>
             )}
           </div>